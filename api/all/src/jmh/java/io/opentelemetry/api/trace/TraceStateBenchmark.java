@@ -5,6 +5,9 @@
 
 package io.opentelemetry.api.trace;
 
+import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.decodeTraceState;
+import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEncoding.encodeTraceState;
+
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -21,6 +24,10 @@ import org.openjdk.jmh.annotations.Warmup;
 @Warmup(iterations = 5, time = 1)
 public class TraceStateBenchmark {
 
+  private static final String HEADER = "rojo=00f067aa0ba902b7,congo=t61rcWkgMzE,ot=th:c;rv:ab";
+
+  private static final TraceState TRACE_STATE = decodeTraceState(HEADER);
+
   @Benchmark
   public TraceState oneItem() {
     TraceStateBuilder builder = TraceState.builder();
@@ -53,4 +60,27 @@ public class TraceStateBenchmark {
     builder.put("key5", "val");
     return builder.build();
   }
+
+  @Benchmark
+  public TraceState decode() {
+    return decodeTraceState(HEADER);
+  }
+
+  /** As when propagating the trace state of an incoming request unchanged. */
+  @Benchmark
+  public String decodeAndEncode() {
+    return encodeTraceState(decodeTraceState(HEADER));
+  }
+
+  /** As when a sampler writes its vendor key. */
+  @Benchmark
+  public TraceState decodeAndPut() {
+    return decodeTraceState(HEADER).toBuilder().put("ot", "th:8").build();
+  }
+
+  /** As when exporting the spans of a trace, which share its trace state. */
+  @Benchmark
+  public String encode() {
+    return encodeTraceState(TRACE_STATE);
+  }
 }
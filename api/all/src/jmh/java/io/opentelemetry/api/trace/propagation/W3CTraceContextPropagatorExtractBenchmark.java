@@ -5,6 +5,8 @@
 
 package io.opentelemetry.api.trace.propagation;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapPropagator;
@@ -25,6 +27,7 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 
 @State(Scope.Thread)
 public class W3CTraceContextPropagatorExtractBenchmark {
@@ -55,7 +58,10 @@ public class W3CTraceContextPropagatorExtractBenchmark {
   private static final List<Map<String, String>> carriers =
       getCarrierForHeader(traceparentsHeaders);
 
-  /** Benchmark for measuring HttpTraceContext extract. */
+  /**
+   * Benchmark for measuring HttpTraceContext extract. Run with {@code -prof gc} to see the
+   * allocation per extracted context.
+   */
   @Benchmark
   @BenchmarkMode({Mode.AverageTime})
   @Fork(1)
@@ -72,6 +78,28 @@ public class W3CTraceContextPropagatorExtractBenchmark {
     return result;
   }
 
+  /**
+   * Benchmark for measuring HttpTraceContext extract followed by reading the binary identifiers, as
+   * done when the extracted context is exported without becoming a local parent.
+   */
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  @OperationsPerInvocation(COUNT)
+  public void measureExtractIdBytes(Blackhole blackhole) {
+    for (int i = 0; i < COUNT; i++) {
+      SpanContext spanContext =
+          Span.fromContext(
+                  w3cTraceContextPropagator.extract(Context.root(), carriers.get(i), getter))
+              .getSpanContext();
+      blackhole.consume(spanContext.getTraceIdBytes());
+      blackhole.consume(spanContext.getSpanIdBytes());
+    }
+  }
+
   private static List<Map<String, String>> getCarrierForHeader(List<String> headers) {
     List<Map<String, String>> carriers = new ArrayList<>();
     for (String header : headers) {
@@ -6,6 +6,7 @@
 package io.opentelemetry.api.baggage;
 
 import io.opentelemetry.api.internal.ImmutableKeyValuePairs;
+import io.opentelemetry.api.internal.W3CBaggageHeaderCache;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -14,10 +15,13 @@ import javax.annotation.concurrent.Immutable;
 
 @Immutable
 final class ImmutableBaggage extends ImmutableKeyValuePairs<String, BaggageEntry>
-    implements Baggage {
+    implements Baggage, W3CBaggageHeaderCache {
 
   private static final Baggage EMPTY = new ImmutableBaggage.Builder().build();
 
+  // Lazily computed by W3CBaggagePropagator, benign data race as with String#hashCode.
+  @Nullable private String w3cBaggageHeader;
+
   private ImmutableBaggage(Object[] data) {
     super(data, Comparator.naturalOrder());
   }
@@ -37,6 +41,17 @@ final class ImmutableBaggage extends ImmutableKeyValuePairs<String, BaggageEntry
     return entry != null ? entry.getValue() : null;
   }
 
+  @Nullable
+  @Override
+  public String getW3CBaggageHeader() {
+    return w3cBaggageHeader;
+  }
+
+  @Override
+  public void setW3CBaggageHeader(String header) {
+    this.w3cBaggageHeader = header;
+  }
+
   @Override
   public BaggageBuilder toBuilder() {
     return new Builder(new ArrayList<>(data()));
@@ -5,9 +5,7 @@
 
 package io.opentelemetry.api.baggage.propagation;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Note: This class is based on code from Apache Commons Codec. It is comprised of code from these
@@ -27,7 +25,7 @@ import java.nio.charset.StandardCharsets;
  */
 class BaggageCodec {
 
-  private static final byte ESCAPE_CHAR = '%';
+  private static final char ESCAPE_CHAR = '%';
   private static final int RADIX = 16;
 
   private BaggageCodec() {}
@@ -36,52 +34,61 @@ class BaggageCodec {
    * Decodes an array of URL safe 7-bit characters into an array of original bytes. Escaped
    * characters are converted back to their original representation.
    *
-   * @param bytes array of URL safe characters
-   * @return array of original bytes
+   * @param value string of URL safe characters
+   * @param charset encoding of given string
+   * @return decoded value
    */
-  private static byte[] decode(byte[] bytes) {
-    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-    for (int i = 0; i < bytes.length; i++) {
-      int b = bytes[i];
-      if (b == ESCAPE_CHAR) {
-        try {
-          int u = digit16(bytes[++i]);
-          int l = digit16(bytes[++i]);
-          buffer.write((char) ((u << 4) + l));
-        } catch (ArrayIndexOutOfBoundsException e) { // FIXME
-          throw new IllegalArgumentException("Invalid URL encoding: ", e);
-        }
-      } else {
-        buffer.write(b);
-      }
-    }
-    return buffer.toByteArray();
+  static String decode(String value, Charset charset) {
+    return decode(value, 0, value.length(), charset);
   }
 
   /**
-   * Decodes an array of URL safe 7-bit characters into an array of original bytes. Escaped
-   * characters are converted back to their original representation.
+   * Decodes the URL safe 7-bit characters of {@code value} between {@code start} (inclusive) and
+   * {@code end} (exclusive). When the range contains no escaped characters it is returned as is, so
+   * the common case costs a single copy of the range.
    *
    * @param value string of URL safe characters
+   * @param start index of the first character to decode
+   * @param end index after the last character to decode
    * @param charset encoding of given string
    * @return decoded value
    */
-  static String decode(String value, Charset charset) {
-    byte[] bytes = decode(value.getBytes(StandardCharsets.US_ASCII));
-    return new String(bytes, charset);
+  static String decode(String value, int start, int end, Charset charset) {
+    int firstEscape = value.indexOf(ESCAPE_CHAR, start);
+    if (firstEscape == -1 || firstEscape >= end) {
+      return value.substring(start, end);
+    }
+    // Escaped sequences only ever shrink the output, so the range length is an upper bound.
+    byte[] buffer = new byte[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c == ESCAPE_CHAR) {
+        if (i + 2 >= end) {
+          throw new IllegalArgumentException("Invalid URL encoding: ");
+        }
+        int u = digit16(value.charAt(++i));
+        int l = digit16(value.charAt(++i));
+        buffer[length++] = (byte) ((u << 4) + l);
+      } else {
+        // Characters outside of US-ASCII are replaced, as String#getBytes(US_ASCII) would do.
+        buffer[length++] = c < 128 ? (byte) c : (byte) '?';
+      }
+    }
+    return new String(buffer, 0, length, charset);
   }
 
   /**
    * Returns the numeric value of the character {@code b} in radix 16.
    *
-   * @param b The byte to be converted.
+   * @param b The character to be converted.
    * @return The numeric value represented by the character in radix 16.
    */
-  private static int digit16(byte b) {
-    int i = Character.digit((char) b, RADIX);
+  private static int digit16(char b) {
+    int i = b < 128 ? Character.digit(b, RADIX) : -1;
     if (i == -1) {
       throw new IllegalArgumentException( // FIXME
-          "Invalid URL encoding: not a valid digit (radix " + RADIX + "): " + b);
+          "Invalid URL encoding: not a valid digit (radix " + RADIX + "): " + (int) b);
     }
     return i;
   }
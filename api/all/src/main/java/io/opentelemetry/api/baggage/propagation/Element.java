@@ -37,7 +37,7 @@ class Element {
   private boolean trailingSpace;
   private int start;
   private int end;
-  @Nullable private String value;
+  private boolean terminated;
 
   static Element createKeyElement() {
     return new Element(EXCLUDED_KEY_CHARS);
@@ -57,9 +57,28 @@ class Element {
     reset(0);
   }
 
+  /**
+   * Returns the content of this element, or {@code null} if the element has not been successfully
+   * terminated.
+   */
   @Nullable
-  String getValue() {
-    return value;
+  String getValue(String header) {
+    return terminated ? header.substring(start, end) : null;
+  }
+
+  /** Returns whether this element has been successfully terminated. */
+  boolean isTerminated() {
+    return terminated;
+  }
+
+  /** Returns the index of the first character of this element's content. */
+  int getStart() {
+    return start;
+  }
+
+  /** Returns the index after the last character of this element's content. */
+  int getEnd() {
+    return end;
   }
 
   void reset(int start) {
@@ -67,15 +86,15 @@ class Element {
     leadingSpace = true;
     readingValue = false;
     trailingSpace = false;
-    value = null;
+    terminated = false;
   }
 
-  boolean tryTerminating(int index, String header) {
+  boolean tryTerminating(int index) {
     if (this.readingValue) {
       markEnd(index);
     }
     if (this.trailingSpace) {
-      setValue(header);
+      terminated = true;
       return true;
     } else {
       // leading spaces - no content, invalid
@@ -89,10 +108,6 @@ class Element {
     trailingSpace = true;
   }
 
-  private void setValue(String header) {
-    this.value = header.substring(this.start, this.end);
-  }
-
   boolean tryNextChar(char character, int index) {
     if (isWhitespace(character)) {
       return tryNextWhitespace(index);
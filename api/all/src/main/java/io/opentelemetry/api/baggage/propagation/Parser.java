@@ -8,7 +8,6 @@ package io.opentelemetry.api.baggage.propagation;
 import io.opentelemetry.api.baggage.BaggageBuilder;
 import io.opentelemetry.api.baggage.BaggageEntryMetadata;
 import java.nio.charset.StandardCharsets;
-import javax.annotation.Nullable;
 
 /**
  * Implements single-pass Baggage parsing in accordance with https://w3c.github.io/baggage/ Key /
@@ -30,7 +29,6 @@ class Parser {
 
   private final Element key = Element.createKeyElement();
   private final Element value = Element.createValueElement();
-  private String meta;
 
   private State state;
   private int metaStart;
@@ -57,7 +55,7 @@ class Parser {
         case '=':
           {
             if (state == State.KEY) {
-              if (key.tryTerminating(i, baggageHeader)) {
+              if (key.tryTerminating(i)) {
                 setState(State.VALUE, i + 1);
               } else {
                 skipToNext = true;
@@ -70,23 +68,25 @@ class Parser {
         case ';':
           {
             if (state == State.VALUE) {
-              skipToNext = !value.tryTerminating(i, baggageHeader);
+              skipToNext = !value.tryTerminating(i);
               setState(State.META, i + 1);
             }
             break;
           }
         case ',':
           {
+            int metaEnd = i;
             switch (state) {
               case VALUE:
-                value.tryTerminating(i, baggageHeader);
+                value.tryTerminating(i);
+                metaEnd = metaStart;
                 break;
               case META:
-                meta = baggageHeader.substring(metaStart, i).trim();
                 break;
               case KEY: // none
+                metaEnd = metaStart;
             }
-            putBaggage(baggageBuilder, key.getValue(), value.getValue(), meta);
+            putBaggage(baggageBuilder, metaStart, metaEnd);
             reset(i + 1);
             break;
           }
@@ -110,43 +110,50 @@ class Parser {
         break;
       case META:
         {
-          String rest = baggageHeader.substring(metaStart).trim();
-          putBaggage(baggageBuilder, key.getValue(), value.getValue(), rest);
+          putBaggage(baggageBuilder, metaStart, baggageHeader.length());
           break;
         }
       case VALUE:
         {
           if (!skipToNext) {
-            value.tryTerminating(baggageHeader.length(), baggageHeader);
-            putBaggage(baggageBuilder, key.getValue(), value.getValue(), null);
+            value.tryTerminating(baggageHeader.length());
+            putBaggage(baggageBuilder, metaStart, metaStart);
             break;
           }
         }
     }
   }
 
-  private static void putBaggage(
-      BaggageBuilder baggage,
-      @Nullable String key,
-      @Nullable String value,
-      @Nullable String metadataValue) {
-    String decodedValue = decodeValue(value);
-    metadataValue = decodeValue(metadataValue);
-    BaggageEntryMetadata baggageEntryMetadata =
-        metadataValue != null
-            ? BaggageEntryMetadata.create(metadataValue)
-            : BaggageEntryMetadata.empty();
-    if (key != null && decodedValue != null) {
-      baggage.put(key, decodedValue, baggageEntryMetadata);
+  /**
+   * Puts the current key and value, decoded straight from the header, into the builder along with
+   * the metadata found between {@code metaStart} and {@code metaEnd}, if any.
+   */
+  private void putBaggage(BaggageBuilder baggage, int metaStart, int metaEnd) {
+    if (!key.isTerminated() || !value.isTerminated()) {
+      // Metadata is still decoded so malformed escapes invalidate the header as before.
+      decodeMetadata(metaStart, metaEnd);
+      return;
     }
+    String decodedValue =
+        BaggageCodec.decode(
+            baggageHeader, value.getStart(), value.getEnd(), StandardCharsets.UTF_8);
+    BaggageEntryMetadata baggageEntryMetadata = decodeMetadata(metaStart, metaEnd);
+    baggage.put(key.getValue(baggageHeader), decodedValue, baggageEntryMetadata);
   }
 
-  @Nullable
-  private static String decodeValue(@Nullable String value) {
-    if (value == null) {
-      return null;
+  private BaggageEntryMetadata decodeMetadata(int metaStart, int metaEnd) {
+    // Equivalent to String#trim on the metadata substring.
+    while (metaStart < metaEnd && baggageHeader.charAt(metaStart) <= ' ') {
+      metaStart++;
+    }
+    while (metaEnd > metaStart && baggageHeader.charAt(metaEnd - 1) <= ' ') {
+      metaEnd--;
+    }
+    if (metaStart == metaEnd) {
+      return BaggageEntryMetadata.empty();
     }
-    return BaggageCodec.decode(value, StandardCharsets.UTF_8);
+    return BaggageEntryMetadata.create(
+        BaggageCodec.decode(baggageHeader, metaStart, metaEnd, StandardCharsets.UTF_8));
   }
 
   /**
@@ -159,7 +166,6 @@ class Parser {
     this.state = State.KEY;
     this.key.reset(index);
     this.value.reset(index);
-    this.meta = "";
     this.metaStart = 0;
   }
 
@@ -12,6 +12,7 @@ import io.opentelemetry.api.baggage.BaggageBuilder;
 import io.opentelemetry.api.baggage.BaggageEntry;
 import io.opentelemetry.api.internal.PercentEscaper;
 import io.opentelemetry.api.internal.StringUtils;
+import io.opentelemetry.api.internal.W3CBaggageHeaderCache;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapPropagator;
@@ -59,6 +60,19 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
   }
 
   private static String baggageToString(Baggage baggage) {
+    if (baggage instanceof W3CBaggageHeaderCache) {
+      W3CBaggageHeaderCache cache = (W3CBaggageHeaderCache) baggage;
+      String headerContent = cache.getW3CBaggageHeader();
+      if (headerContent == null) {
+        headerContent = encodeBaggage(baggage);
+        cache.setW3CBaggageHeader(headerContent);
+      }
+      return headerContent;
+    }
+    return encodeBaggage(baggage);
+  }
+
+  private static String encodeBaggage(Baggage baggage) {
     StringBuilder headerContent = new StringBuilder();
     baggage.forEach(
         (key, baggageEntry) -> {
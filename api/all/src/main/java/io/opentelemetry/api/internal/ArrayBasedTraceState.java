@@ -0,0 +1,180 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.TraceStateBuilder;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The {@link TraceState} returned by {@link TraceState#builder()}.
+ *
+ * <p>A trace state decoded from a W3C {@code tracestate} header keeps the header, and only splits
+ * it into entries when they are first read, so that propagating or exporting it unchanged never
+ * does. The encoded header is memoized the same way for trace states built with a builder.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public final class ArrayBasedTraceState implements TraceState {
+
+  private static final ArrayBasedTraceState EMPTY =
+      new ArrayBasedTraceState(Collections.emptyList(), 0);
+
+  private static final char ENTRY_DELIMITER = ',';
+  private static final char KEY_VALUE_DELIMITER = '=';
+
+  private final int size;
+
+  // Lazily split from the header, benign data race as with String#hashCode.
+  @Nullable private List<String> entries;
+
+  // Lazily computed by W3CTraceContextEncoding, benign data race as with String#hashCode.
+  @Nullable private String w3cTraceStateHeader;
+
+  private ArrayBasedTraceState(List<String> entries, int size) {
+    this.entries = entries;
+    this.size = size;
+  }
+
+  private ArrayBasedTraceState(String w3cTraceStateHeader, int size) {
+    this.w3cTraceStateHeader = w3cTraceStateHeader;
+    this.size = size;
+  }
+
+  /** Returns the trace state with no entries. */
+  public static TraceState empty() {
+    return EMPTY;
+  }
+
+  static ArrayBasedTraceState create(List<String> entries) {
+    return new ArrayBasedTraceState(entries, entries.size() / 2);
+  }
+
+  /**
+   * Returns a trace state with the entries of {@code header}, which must be a valid W3C {@code
+   * tracestate} header of {@code size} comma separated {@code key=value} entries without any
+   * whitespace around the commas. The header is only split into entries when they are first read.
+   */
+  public static TraceState createFromW3CTraceStateHeader(String header, int size) {
+    return new ArrayBasedTraceState(header, size);
+  }
+
+  @Override
+  @Nullable
+  public String get(String key) {
+    if (key == null) {
+      return null;
+    }
+    List<String> entries = getEntries();
+    for (int i = 0; i < entries.size(); i += 2) {
+      if (entries.get(i).equals(key)) {
+        return entries.get(i + 1);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public void forEach(BiConsumer<String, String> consumer) {
+    if (consumer == null) {
+      return;
+    }
+    List<String> entries = getEntries();
+    for (int i = 0; i < entries.size(); i += 2) {
+      consumer.accept(entries.get(i), entries.get(i + 1));
+    }
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Map<String, String> asMap() {
+    return ReadOnlyArrayMap.wrap((List) getEntries());
+  }
+
+  /** Returns the keys and values of this trace state, alternating. */
+  List<String> getEntries() {
+    List<String> entries = this.entries;
+    if (entries == null) {
+      // Only created without entries from a header
+      entries = splitEntries(Objects.requireNonNull(w3cTraceStateHeader), size);
+      this.entries = entries;
+    }
+    return entries;
+  }
+
+  private static List<String> splitEntries(String header, int size) {
+    String[] entries = new String[size * 2];
+    int start = 0;
+    for (int i = 0; i < entries.length; i += 2) {
+      int end = header.indexOf(ENTRY_DELIMITER, start);
+      if (end == -1) {
+        end = header.length();
+      }
+      int delimiter = header.indexOf(KEY_VALUE_DELIMITER, start);
+      entries[i] = header.substring(start, delimiter);
+      entries[i + 1] = header.substring(delimiter + 1, end);
+      start = end + 1;
+    }
+    return Arrays.asList(entries);
+  }
+
+  /** Returns the memoized W3C {@code tracestate} header, or {@code null} if not yet computed. */
+  @Nullable
+  public String getW3CTraceStateHeader() {
+    return w3cTraceStateHeader;
+  }
+
+  /** Memoizes the W3C {@code tracestate} header for this trace state. */
+  public void setW3CTraceStateHeader(String header) {
+    this.w3cTraceStateHeader = header;
+  }
+
+  @Override
+  public TraceStateBuilder toBuilder() {
+    return new ArrayBasedTraceStateBuilder(this);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ArrayBasedTraceState)) {
+      return false;
+    }
+    ArrayBasedTraceState that = (ArrayBasedTraceState) o;
+    return size == that.size && getEntries().equals(that.getEntries());
+  }
+
+  @Override
+  public int hashCode() {
+    return getEntries().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "ArrayBasedTraceState{entries=" + getEntries() + "}";
+  }
+}
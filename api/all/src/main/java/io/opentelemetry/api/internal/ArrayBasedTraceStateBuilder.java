@@ -3,55 +3,68 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
-package io.opentelemetry.api.trace;
+package io.opentelemetry.api.internal;
 
-import io.opentelemetry.api.internal.StringUtils;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.TraceStateBuilder;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.Nullable;
 
-final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
+/**
+ * The {@link TraceStateBuilder} returned by {@link TraceState#builder()}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
 
   private static final int MAX_VENDOR_ID_SIZE = 13;
 
-  // Needs to be in this class to avoid initialization deadlock because super class depends on
-  // subclass (the auto-value generate class).
-  private static final ArrayBasedTraceState EMPTY =
-      ArrayBasedTraceState.create(Collections.emptyList());
-
   private static final int MAX_ENTRIES = 32;
   private static final int KEY_MAX_SIZE = 256;
   private static final int VALUE_MAX_SIZE = 256;
   private static final int MAX_TENANT_ID_SIZE = 240;
 
+  // The trace state this builder was created from, until it is first modified. Building without
+  // any modification returns it, along with its memoized header.
+  @Nullable private ArrayBasedTraceState parent;
+
   // Later calls to put must be at the front of trace state. We append to the list and then reverse
-  // when finished.
-  private final List<String> reversedEntries;
+  // when finished. Only copied from the parent when first modified.
+  @Nullable private List<String> reversedEntries;
 
   // We record removed entries with null values, this is the number of entries in the builder not
   // including removed ones.
   int numEntries;
 
-  static TraceState empty() {
-    return EMPTY;
-  }
-
-  ArrayBasedTraceStateBuilder() {
+  public ArrayBasedTraceStateBuilder() {
     reversedEntries = new ArrayList<>();
     numEntries = 0;
   }
 
   ArrayBasedTraceStateBuilder(ArrayBasedTraceState parent) {
-    List<String> entries = parent.getEntries();
-    int size = entries.size();
-    reversedEntries = new ArrayList<>(size);
-    for (int i = size - 2; i >= 0; i -= 2) {
-      reversedEntries.add(entries.get(i));
-      reversedEntries.add(entries.get(i + 1));
+    this.parent = parent;
+    numEntries = parent.size();
+  }
+
+  private List<String> reversedEntries() {
+    List<String> reversedEntries = this.reversedEntries;
+    if (reversedEntries == null) {
+      // Only created without entries from a parent
+      List<String> entries = Objects.requireNonNull(parent).getEntries();
+      int size = entries.size();
+      reversedEntries = new ArrayList<>(size + 2);
+      for (int i = size - 2; i >= 0; i -= 2) {
+        reversedEntries.add(entries.get(i));
+        reversedEntries.add(entries.get(i + 1));
+      }
+      this.reversedEntries = reversedEntries;
+      this.parent = null;
     }
-    numEntries = size / 2;
+    return reversedEntries;
   }
 
   /**
@@ -69,6 +82,7 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
     if (!isKeyValid(key) || !isValueValid(value) || numEntries >= MAX_ENTRIES) {
       return this;
     }
+    List<String> reversedEntries = reversedEntries();
     for (int i = 0; i < reversedEntries.size(); i += 2) {
       if (reversedEntries.get(i).equals(key)) {
         String currentValue = reversedEntries.get(i + 1);
@@ -90,6 +104,7 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
     if (key == null) {
       return this;
     }
+    List<String> reversedEntries = reversedEntries();
     for (int i = 0; i < reversedEntries.size(); i += 2) {
       if (reversedEntries.get(i).equals(key)) {
         reversedEntries.set(i + 1, null);
@@ -103,7 +118,12 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
   @Override
   public TraceState build() {
     if (numEntries == 0) {
-      return empty();
+      return ArrayBasedTraceState.empty();
+    }
+    List<String> reversedEntries = this.reversedEntries;
+    if (reversedEntries == null) {
+      // Unmodified
+      return Objects.requireNonNull(parent);
     }
 
     if (reversedEntries.size() == 2) {
@@ -119,8 +139,6 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
         entries[pos++] = value;
       }
     }
-    // TODO(anuraaga): We may consider removing AutoValue which prevents us from storing the array
-    // directly as it would be a bit more performant, though not hugely.
     return ArrayBasedTraceState.create(Arrays.asList(entries));
   }
 
@@ -137,17 +155,21 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
    */
   // todo: benchmark this implementation
   private static boolean isKeyValid(@Nullable String key) {
-    if (key == null) {
-      return false;
-    }
-    if (key.length() > KEY_MAX_SIZE
-        || key.isEmpty()
-        || isNotLowercaseLetterOrDigit(key.charAt(0))) {
+    return key != null && isKeyValid(key, 0, key.length());
+  }
+
+  /**
+   * Returns whether the characters of {@code s} from {@code start} to {@code end} are a valid key,
+   * see {@link #put(String, String)}.
+   */
+  public static boolean isKeyValid(String s, int start, int end) {
+    int length = end - start;
+    if (length > KEY_MAX_SIZE || length == 0 || isNotLowercaseLetterOrDigit(s.charAt(start))) {
       return false;
     }
     boolean isMultiTenantVendorKey = false;
-    for (int i = 1; i < key.length(); i++) {
-      char c = key.charAt(i);
+    for (int i = start + 1; i < end; i++) {
+      char c = s.charAt(i);
       if (isNotLegalKeyCharacter(c)) {
         return false;
       }
@@ -158,11 +180,11 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
         }
         isMultiTenantVendorKey = true;
         // tenant id (the part to the left of the '@' sign) must be 240 characters or less
-        if (i > MAX_TENANT_ID_SIZE) {
+        if (i - start > MAX_TENANT_ID_SIZE) {
           return false;
         }
         // vendor id (the part to the right of the '@' sign) must be 1-13 characters long
-        int remainingKeyChars = key.length() - i - 1;
+        int remainingKeyChars = end - i - 1;
         if (remainingKeyChars > MAX_VENDOR_ID_SIZE || remainingKeyChars == 0) {
           return false;
         }
@@ -170,7 +192,7 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
     }
     if (!isMultiTenantVendorKey) {
       // if it's not the vendor format (with an '@' sign), the key must start with a letter.
-      return isNotDigit(key.charAt(0));
+      return isNotDigit(s.charAt(start));
     }
     return true;
   }
@@ -195,14 +217,20 @@ final class ArrayBasedTraceStateBuilder implements TraceStateBuilder {
   // Value is opaque string up to 256 characters printable ASCII RFC0020 characters (i.e., the range
   // 0x20 to 0x7E) except comma , and =.
   private static boolean isValueValid(@Nullable String value) {
-    if (StringUtils.isNullOrEmpty(value)) {
-      return false;
-    }
-    if (value.length() > VALUE_MAX_SIZE || value.charAt(value.length() - 1) == ' ' /* '\u0020' */) {
+    return value != null && isValueValid(value, 0, value.length());
+  }
+
+  /**
+   * Returns whether the characters of {@code s} from {@code start} to {@code end} are a valid
+   * value.
+   */
+  public static boolean isValueValid(String s, int start, int end) {
+    int length = end - start;
+    if (length == 0 || length > VALUE_MAX_SIZE || s.charAt(end - 1) == ' ' /* '\u0020' */) {
       return false;
     }
-    for (int i = 0; i < value.length(); i++) {
-      char c = value.charAt(i);
+    for (int i = start; i < end; i++) {
+      char c = s.charAt(i);
       if (c == ',' || c == '=' || c < ' ' /* '\u0020' */ || c > '~' /* '\u007E' */) {
         return false;
       }
@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -80,4 +81,41 @@ public abstract class ImmutableSpanContext implements SpanContext {
 
   @Override
   public abstract boolean isValid();
+
+  // Written by hand rather than generated so that subclasses which derive their identifiers lazily,
+  // such as TraceParentSpanContext, compare equal to eagerly created instances.
+  @Override
+  public final boolean equals(@Nullable Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ImmutableSpanContext)) {
+      return false;
+    }
+    ImmutableSpanContext that = (ImmutableSpanContext) o;
+    return getTraceId().equals(that.getTraceId())
+        && getSpanId().equals(that.getSpanId())
+        && getTraceFlags().equals(that.getTraceFlags())
+        && getTraceState().equals(that.getTraceState())
+        && isRemote() == that.isRemote()
+        && isValid() == that.isValid();
+  }
+
+  @Override
+  public final int hashCode() {
+    int result = 1;
+    result *= 1000003;
+    result ^= getTraceId().hashCode();
+    result *= 1000003;
+    result ^= getSpanId().hashCode();
+    result *= 1000003;
+    result ^= getTraceFlags().hashCode();
+    result *= 1000003;
+    result ^= getTraceState().hashCode();
+    result *= 1000003;
+    result ^= isRemote() ? 1231 : 1237;
+    result *= 1000003;
+    result ^= isValid() ? 1231 : 1237;
+    return result;
+  }
 }
@@ -88,9 +88,17 @@ public final class OtelEncodingUtils {
 
   /** Returns the {@code byte[]} decoded from the given hex {@link CharSequence}. */
   public static byte[] bytesFromBase16(CharSequence value, int length) {
+    return bytesFromBase16(value, 0, length);
+  }
+
+  /**
+   * Returns the {@code byte[]} decoded from the {@code length} hex characters of {@code value}
+   * starting at {@code offset}.
+   */
+  public static byte[] bytesFromBase16(CharSequence value, int offset, int length) {
     byte[] result = new byte[length / 2];
     for (int i = 0; i < length; i += 2) {
-      result[i / 2] = byteFromBase16(value.charAt(i), value.charAt(i + 1));
+      result[i / 2] = byteFromBase16(value.charAt(offset + i), value.charAt(offset + i + 1));
     }
     return result;
   }
@@ -145,6 +153,23 @@ public final class OtelEncodingUtils {
     return true;
   }
 
+  /**
+   * Returns whether the {@code length} characters of {@code value} starting at {@code offset} are
+   * valid hex and at least one of them is not {@code '0'}, i.e. whether the range holds a valid
+   * trace or span identifier of that length.
+   */
+  public static boolean isValidNonZeroBase16String(CharSequence value, int offset, int length) {
+    boolean nonZero = false;
+    for (int i = offset; i < offset + length; i++) {
+      char b = value.charAt(i);
+      if (!isValidBase16Character(b)) {
+        return false;
+      }
+      nonZero |= b != '0';
+    }
+    return nonZero;
+  }
+
   /** Returns whether the given {@code char} is a valid hex character. */
   public static boolean isValidBase16Character(char b) {
     return VALID_HEX[b];
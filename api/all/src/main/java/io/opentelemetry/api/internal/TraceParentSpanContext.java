@@ -0,0 +1,129 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A remote {@link SpanContext} backed by the propagation header it was extracted from. The trace
+ * and span identifiers are validated by the caller and only copied out of the header the first time
+ * they are requested, so extracting a context that is never used as a parent allocates nothing but
+ * this object.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public final class TraceParentSpanContext extends ImmutableSpanContext {
+
+  private final String header;
+  private final int traceIdOffset;
+  private final int spanIdOffset;
+  private final TraceFlags traceFlags;
+  private final TraceState traceState;
+
+  // Lazily computed, benign data race as with String#hashCode.
+  @Nullable private String traceId;
+  @Nullable private String spanId;
+
+  /**
+   * Creates a new remote {@link SpanContext} whose identifiers are the lowercase hex characters of
+   * {@code header} starting at {@code traceIdOffset} and {@code spanIdOffset}. The identifiers must
+   * already have been validated, e.g. with {@link
+   * OtelEncodingUtils#isValidNonZeroBase16String(CharSequence, int, int)}.
+   */
+  public static SpanContext createFromRemoteParent(
+      String header,
+      int traceIdOffset,
+      int spanIdOffset,
+      TraceFlags traceFlags,
+      TraceState traceState) {
+    return new TraceParentSpanContext(header, traceIdOffset, spanIdOffset, traceFlags, traceState);
+  }
+
+  private TraceParentSpanContext(
+      String header,
+      int traceIdOffset,
+      int spanIdOffset,
+      TraceFlags traceFlags,
+      TraceState traceState) {
+    this.header = header;
+    this.traceIdOffset = traceIdOffset;
+    this.spanIdOffset = spanIdOffset;
+    this.traceFlags = traceFlags;
+    this.traceState = traceState;
+  }
+
+  @Override
+  public String getTraceId() {
+    String traceId = this.traceId;
+    if (traceId == null) {
+      traceId = header.substring(traceIdOffset, traceIdOffset + TraceId.getLength());
+      this.traceId = traceId;
+    }
+    return traceId;
+  }
+
+  @Override
+  public byte[] getTraceIdBytes() {
+    return OtelEncodingUtils.bytesFromBase16(header, traceIdOffset, TraceId.getLength());
+  }
+
+  @Override
+  public String getSpanId() {
+    String spanId = this.spanId;
+    if (spanId == null) {
+      spanId = header.substring(spanIdOffset, spanIdOffset + SpanId.getLength());
+      this.spanId = spanId;
+    }
+    return spanId;
+  }
+
+  @Override
+  public byte[] getSpanIdBytes() {
+    return OtelEncodingUtils.bytesFromBase16(header, spanIdOffset, SpanId.getLength());
+  }
+
+  @Override
+  public TraceFlags getTraceFlags() {
+    return traceFlags;
+  }
+
+  @Override
+  public TraceState getTraceState() {
+    return traceState;
+  }
+
+  @Override
+  public boolean isRemote() {
+    return true;
+  }
+
+  @Override
+  public boolean isValid() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "ImmutableSpanContext{"
+        + "traceId="
+        + getTraceId()
+        + ", spanId="
+        + getSpanId()
+        + ", traceFlags="
+        + traceFlags
+        + ", traceState="
+        + traceState
+        + ", remote=true, valid=true}";
+  }
+}
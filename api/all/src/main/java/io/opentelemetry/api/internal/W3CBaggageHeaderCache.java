@@ -0,0 +1,25 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by immutable {@code Baggage} instances that memoize their W3C {@code baggage} header
+ * encoding, so that propagating the same instance on every outbound call only encodes it once.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface W3CBaggageHeaderCache {
+
+  /** Returns the memoized W3C {@code baggage} header, or {@code null} if not yet computed. */
+  @Nullable
+  String getW3CBaggageHeader();
+
+  /** Memoizes the W3C {@code baggage} header for this instance. */
+  void setW3CBaggageHeader(String header);
+}
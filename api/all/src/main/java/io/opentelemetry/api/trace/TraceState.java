@@ -5,6 +5,8 @@
 
 package io.opentelemetry.api.trace;
 
+import io.opentelemetry.api.internal.ArrayBasedTraceState;
+import io.opentelemetry.api.internal.ArrayBasedTraceStateBuilder;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
@@ -44,7 +46,7 @@ public interface TraceState {
    * @return the default {@code TraceState} with no entries.
    */
   static TraceState getDefault() {
-    return ArrayBasedTraceStateBuilder.empty();
+    return ArrayBasedTraceState.empty();
   }
 
   /** Returns an empty {@code TraceStateBuilder}. */
@@ -10,6 +10,7 @@ import static io.opentelemetry.api.trace.propagation.internal.W3CTraceContextEnc
 
 import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.internal.TemporaryBuffers;
+import io.opentelemetry.api.internal.TraceParentSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
@@ -23,9 +24,7 @@ import io.opentelemetry.context.propagation.TextMapSetter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -59,22 +58,8 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
   private static final int TRACE_OPTION_OFFSET =
       SPAN_ID_OFFSET + SPAN_ID_HEX_SIZE + TRACEPARENT_DELIMITER_SIZE;
   private static final int TRACEPARENT_HEADER_SIZE = TRACE_OPTION_OFFSET + TRACE_OPTION_HEX_SIZE;
-  private static final Set<String> VALID_VERSIONS;
-  private static final String VERSION_00 = "00";
   private static final W3CTraceContextPropagator INSTANCE = new W3CTraceContextPropagator();
 
-  static {
-    // A valid version is 1 byte representing an 8-bit unsigned integer, version ff is invalid.
-    VALID_VERSIONS = new HashSet<>();
-    for (int i = 0; i < 255; i++) {
-      String version = Long.toHexString(i);
-      if (version.length() < 2) {
-        version = '0' + version;
-      }
-      VALID_VERSIONS.add(version);
-    }
-  }
-
   private W3CTraceContextPropagator() {
     // singleton
   }
@@ -152,66 +137,75 @@ public final class W3CTraceContextPropagator implements TextMapPropagator {
       return SpanContext.getInvalid();
     }
 
-    SpanContext contextFromParentHeader = extractContextFromTraceParent(traceParent);
-    if (!contextFromParentHeader.isValid()) {
-      return contextFromParentHeader;
+    TraceFlags traceFlags = extractTraceFlagsFromTraceParent(traceParent);
+    if (traceFlags == null) {
+      return SpanContext.getInvalid();
     }
 
+    TraceState traceState = TraceState.getDefault();
     String traceStateHeader = getter.get(carrier, TRACE_STATE);
-    if (traceStateHeader == null || traceStateHeader.isEmpty()) {
-      return contextFromParentHeader;
+    if (traceStateHeader != null && !traceStateHeader.isEmpty()) {
+      try {
+        traceState = decodeTraceState(traceStateHeader);
+      } catch (IllegalArgumentException e) {
+        logger.fine("Unparseable tracestate header. Returning span context without state.");
+      }
     }
 
-    try {
-      TraceState traceState = decodeTraceState(traceStateHeader);
-      return SpanContext.createFromRemoteParent(
-          contextFromParentHeader.getTraceId(),
-          contextFromParentHeader.getSpanId(),
-          contextFromParentHeader.getTraceFlags(),
-          traceState);
-    } catch (IllegalArgumentException e) {
-      logger.fine("Unparseable tracestate header. Returning span context without state.");
-      return contextFromParentHeader;
-    }
+    // The header has been fully validated, so the identifiers are read from it in place rather
+    // than being copied out and validated again.
+    return TraceParentSpanContext.createFromRemoteParent(
+        traceParent, TRACE_ID_OFFSET, SPAN_ID_OFFSET, traceFlags, traceState);
   }
 
-  private static SpanContext extractContextFromTraceParent(String traceparent) {
-    // TODO(bdrutu): Do we need to verify that version is hex and that
-    // for the version the length is the expected one?
+  /**
+   * Validates the {@code traceparent} header without allocating, returning its {@link TraceFlags}
+   * or {@code null} if the header is invalid.
+   */
+  @Nullable
+  private static TraceFlags extractTraceFlagsFromTraceParent(String traceparent) {
+    int length = traceparent.length();
     boolean isValid =
-        (traceparent.length() == TRACEPARENT_HEADER_SIZE
-                || (traceparent.length() > TRACEPARENT_HEADER_SIZE
+        (length == TRACEPARENT_HEADER_SIZE
+                || (length > TRACEPARENT_HEADER_SIZE
                     && traceparent.charAt(TRACEPARENT_HEADER_SIZE) == TRACEPARENT_DELIMITER))
             && traceparent.charAt(TRACE_ID_OFFSET - 1) == TRACEPARENT_DELIMITER
             && traceparent.charAt(SPAN_ID_OFFSET - 1) == TRACEPARENT_DELIMITER
             && traceparent.charAt(TRACE_OPTION_OFFSET - 1) == TRACEPARENT_DELIMITER;
     if (!isValid) {
       logger.fine("Unparseable traceparent header. Returning INVALID span context.");
-      return SpanContext.getInvalid();
+      return null;
     }
 
-    String version = traceparent.substring(0, 2);
-    if (!VALID_VERSIONS.contains(version)) {
-      return SpanContext.getInvalid();
+    // A valid version is 1 byte representing an 8-bit unsigned integer, version ff is invalid.
+    char firstVersionChar = traceparent.charAt(0);
+    char secondVersionChar = traceparent.charAt(1);
+    if (!OtelEncodingUtils.isValidBase16Character(firstVersionChar)
+        || !OtelEncodingUtils.isValidBase16Character(secondVersionChar)
+        || (firstVersionChar == 'f' && secondVersionChar == 'f')) {
+      return null;
     }
-    if (version.equals(VERSION_00) && traceparent.length() > TRACEPARENT_HEADER_SIZE) {
-      return SpanContext.getInvalid();
+    // Version 00 does not allow any trailing fields.
+    if (firstVersionChar == '0' && secondVersionChar == '0' && length > TRACEPARENT_HEADER_SIZE) {
+      return null;
+    }
+
+    if (!OtelEncodingUtils.isValidNonZeroBase16String(
+            traceparent, TRACE_ID_OFFSET, TRACE_ID_HEX_SIZE)
+        || !OtelEncodingUtils.isValidNonZeroBase16String(
+            traceparent, SPAN_ID_OFFSET, SPAN_ID_HEX_SIZE)) {
+      return null;
     }
 
-    String traceId = traceparent.substring(TRACE_ID_OFFSET, TRACE_ID_OFFSET + TraceId.getLength());
-    String spanId = traceparent.substring(SPAN_ID_OFFSET, SPAN_ID_OFFSET + SpanId.getLength());
     char firstTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET);
     char secondTraceFlagsChar = traceparent.charAt(TRACE_OPTION_OFFSET + 1);
-
     if (!OtelEncodingUtils.isValidBase16Character(firstTraceFlagsChar)
         || !OtelEncodingUtils.isValidBase16Character(secondTraceFlagsChar)) {
-      return SpanContext.getInvalid();
+      return null;
     }
 
-    TraceFlags traceFlags =
-        TraceFlags.fromByte(
-            OtelEncodingUtils.byteFromBase16(firstTraceFlagsChar, secondTraceFlagsChar));
-    return SpanContext.createFromRemoteParent(traceId, spanId, traceFlags, TraceState.getDefault());
+    return TraceFlags.fromByte(
+        OtelEncodingUtils.byteFromBase16(firstTraceFlagsChar, secondTraceFlagsChar));
   }
 
   @Override
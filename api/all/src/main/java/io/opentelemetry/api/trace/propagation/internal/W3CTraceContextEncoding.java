@@ -7,6 +7,8 @@ package io.opentelemetry.api.trace.propagation.internal;
 
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 
+import io.opentelemetry.api.internal.ArrayBasedTraceState;
+import io.opentelemetry.api.internal.ArrayBasedTraceStateBuilder;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.TraceStateBuilder;
 import java.util.regex.Pattern;
@@ -39,6 +41,15 @@ public final class W3CTraceContextEncoding {
    *     specification
    */
   public static TraceState decodeTraceState(String traceStateHeader) {
+    int size = validateCompactTraceState(traceStateHeader);
+    if (size == 0) {
+      // Validation failure, drop the tracestate
+      return TraceState.getDefault();
+    }
+    if (size > 0) {
+      return ArrayBasedTraceState.createFromW3CTraceStateHeader(traceStateHeader, size);
+    }
+
     TraceStateBuilder traceStateBuilder = TraceState.builder();
     String[] listMembers = TRACESTATE_ENTRY_DELIMITER_SPLIT_PATTERN.split(traceStateHeader);
     checkArgument(
@@ -59,11 +70,83 @@ public final class W3CTraceContextEncoding {
     return traceState;
   }
 
+  /**
+   * Validates a trace state header without whitespace around its delimiters or empty list-members,
+   * as written by {@link #encodeTraceState(TraceState)}, in place. Returns its number of
+   * list-members, {@code 0} if any of them is invalid, or {@code -1} if the header is not in that
+   * form or must be rejected, in which case it is decoded by splitting it.
+   */
+  private static int validateCompactTraceState(String traceStateHeader) {
+    int length = traceStateHeader.length();
+    int members = 0;
+    boolean valid = true;
+    int start = 0;
+    while (true) {
+      int end = traceStateHeader.indexOf(TRACESTATE_ENTRY_DELIMITER, start);
+      if (end == -1) {
+        end = length;
+      }
+      if (end == start
+          || ++members > TRACESTATE_MAX_MEMBERS
+          || (start > 0 && isWhitespace(traceStateHeader.charAt(start)))
+          || (end < length && isWhitespace(traceStateHeader.charAt(end - 1)))) {
+        return -1;
+      }
+      int index = traceStateHeader.indexOf(TRACESTATE_KEY_VALUE_DELIMITER, start);
+      if (index == -1 || index > end) {
+        return -1;
+      }
+      if (valid) {
+        valid =
+            ArrayBasedTraceStateBuilder.isKeyValid(traceStateHeader, start, index)
+                && ArrayBasedTraceStateBuilder.isValueValid(traceStateHeader, index + 1, end)
+                && !hasKey(traceStateHeader, start, start, index - start);
+      }
+      if (end == length) {
+        return valid ? members : 0;
+      }
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Returns whether one of the valid list-members before {@code limit} has the key of {@code
+   * keyLength} characters at {@code keyStart}.
+   */
+  private static boolean hasKey(String traceStateHeader, int limit, int keyStart, int keyLength) {
+    int start = 0;
+    while (start < limit) {
+      if (traceStateHeader.charAt(start + keyLength) == TRACESTATE_KEY_VALUE_DELIMITER
+          && traceStateHeader.regionMatches(start, traceStateHeader, keyStart, keyLength)) {
+        return true;
+      }
+      start = traceStateHeader.indexOf(TRACESTATE_ENTRY_DELIMITER, start) + 1;
+    }
+    return false;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t';
+  }
+
   /** Return the trace state encoded as a string according to the W3C specification. */
   public static String encodeTraceState(TraceState traceState) {
     if (traceState.isEmpty()) {
       return "";
     }
+    if (traceState instanceof ArrayBasedTraceState) {
+      ArrayBasedTraceState arrayBasedTraceState = (ArrayBasedTraceState) traceState;
+      String header = arrayBasedTraceState.getW3CTraceStateHeader();
+      if (header == null) {
+        header = encode(traceState);
+        arrayBasedTraceState.setW3CTraceStateHeader(header);
+      }
+      return header;
+    }
+    return encode(traceState);
+  }
+
+  private static String encode(TraceState traceState) {
     StringBuilder builder = new StringBuilder(TRACESTATE_MAX_SIZE);
     traceState.forEach(
         (key, value) -> {
@@ -34,9 +34,18 @@ class BaggageCodecTest {
         .isEqualTo(expectedDecoded);
   }
 
+  @Test
+  void shouldDecodeRange() {
+    assertThat(BaggageCodec.decode("k=a%20b;m", 2, 7, StandardCharsets.UTF_8)).isEqualTo("a b");
+    assertThat(BaggageCodec.decode("k=ab;m%20", 2, 4, StandardCharsets.UTF_8)).isEqualTo("ab");
+    assertThat(BaggageCodec.decode("%E2%82%AC", StandardCharsets.UTF_8)).isEqualTo("\u20ac");
+  }
+
   @Test
   void shouldThrowIfMalformedData() {
     assertThatThrownBy(() -> BaggageCodec.decode("%1", StandardCharsets.UTF_8))
         .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BaggageCodec.decode("a%1,b", 0, 3, StandardCharsets.UTF_8))
+        .isInstanceOf(IllegalArgumentException.class);
   }
 }
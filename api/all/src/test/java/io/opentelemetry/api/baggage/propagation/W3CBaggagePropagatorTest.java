@@ -7,6 +7,7 @@ package io.opentelemetry.api.baggage.propagation;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.common.collect.ImmutableMap;
 import io.opentelemetry.api.baggage.Baggage;
@@ -459,6 +460,46 @@ class W3CBaggagePropagatorTest {
                 "meta=meta-value;somemetadata%3B%20someother%3Dfoo,needsEncoding=blah%20blah%20blah,nometa=nometa-value"));
   }
 
+  @Test
+  void inject_memoizesHeaderPerBaggage() {
+    Baggage baggage =
+        Baggage.builder()
+            .put("key", "value with spaces", BaggageEntryMetadata.create("meta"))
+            .build();
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    Map<String, String> first = new HashMap<>();
+    Map<String, String> second = new HashMap<>();
+    propagator.inject(Context.root().with(baggage), first, Map::put);
+    propagator.inject(Context.root().with(baggage), second, Map::put);
+
+    assertThat(first).containsExactly(entry("baggage", "key=value%20with%20spaces;meta"));
+    assertThat(second.get("baggage")).isSameAs(first.get("baggage"));
+
+    Map<String, String> modified = new HashMap<>();
+    propagator.inject(
+        Context.root().with(baggage.toBuilder().put("other", "value").build()), modified, Map::put);
+    assertThat(modified)
+        .containsExactly(entry("baggage", "key=value%20with%20spaces;meta,other=value"));
+  }
+
+  @Test
+  void extractAndInject_roundTrip() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    String header = "key1=value%201;meta%3Dvalue,key2=value2";
+
+    Context result = propagator.extract(Context.root(), ImmutableMap.of("baggage", header), getter);
+
+    Baggage expectedBaggage =
+        Baggage.builder()
+            .put("key1", "value 1", BaggageEntryMetadata.create("meta=value"))
+            .put("key2", "value2")
+            .build();
+    assertThat(Baggage.fromContext(result)).isEqualTo(expectedBaggage);
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(result, carrier, Map::put);
+    assertThat(carrier).containsExactly(entry("baggage", header));
+  }
+
   @Test
   void inject_nullContext() {
     Map<String, String> carrier = new LinkedHashMap<>();
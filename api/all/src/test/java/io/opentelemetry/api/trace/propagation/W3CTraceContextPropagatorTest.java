@@ -200,6 +200,23 @@ class W3CTraceContextPropagatorTest {
                 TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getSampled(), TraceState.getDefault()));
   }
 
+  @Test
+  void extract_DecodesIdsInPlace() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_SAMPLED);
+    SpanContext extracted =
+        getSpanContext(w3cTraceContextPropagator.extract(Context.current(), carrier, getter));
+    SpanContext expected =
+        SpanContext.createFromRemoteParent(
+            TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getSampled(), TraceState.getDefault());
+
+    assertThat(extracted.getTraceIdBytes()).isEqualTo(expected.getTraceIdBytes());
+    assertThat(extracted.getSpanIdBytes()).isEqualTo(expected.getSpanIdBytes());
+    assertThat(extracted.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(expected).isEqualTo(extracted);
+    assertThat(extracted.toString()).isEqualTo(expected.toString());
+  }
+
   @Test
   void extract_NullCarrier() {
     Map<String, String> carrier = new LinkedHashMap<>();
@@ -294,6 +311,40 @@ class W3CTraceContextPropagatorTest {
                 TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getDefault(), TRACE_STATE));
   }
 
+  @Test
+  void extractAndInject_TraceStateHeaderKept() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_SAMPLED);
+    carrier.put(W3CTraceContextPropagator.TRACE_STATE, TRACESTATE_NOT_DEFAULT_ENCODING);
+    Context context = w3cTraceContextPropagator.extract(Context.current(), carrier, getter);
+
+    Map<String, String> injected = new LinkedHashMap<>();
+    w3cTraceContextPropagator.inject(context, injected, setter);
+    assertThat(injected.get(W3CTraceContextPropagator.TRACE_STATE))
+        .isSameAs(carrier.get(W3CTraceContextPropagator.TRACE_STATE));
+
+    TraceState traceState = getSpanContext(context).getTraceState();
+    assertThat(traceState.size()).isEqualTo(2);
+    assertThat(traceState.get("foo")).isEqualTo("bar");
+    assertThat(traceState.asMap()).containsExactly(entry("bar", "baz"), entry("foo", "bar"));
+    assertThat(traceState.toBuilder().build()).isSameAs(traceState);
+    assertThat(traceState.toBuilder().put("ot", "th:8").build().asMap())
+        .containsExactly(entry("ot", "th:8"), entry("bar", "baz"), entry("foo", "bar"));
+  }
+
+  @Test
+  void extract_InvalidTracestate_DuplicateKey() {
+    Map<String, String> invalidHeaders = new HashMap<>();
+    invalidHeaders.put(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_SAMPLED);
+    invalidHeaders.put(W3CTraceContextPropagator.TRACE_STATE, "foo=bar,bar=baz,foo=baz");
+    assertThat(
+            getSpanContext(
+                w3cTraceContextPropagator.extract(Context.current(), invalidHeaders, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getSampled(), TraceState.getDefault()));
+  }
+
   @Test
   void extract_EmptyHeader() {
     Map<String, String> invalidHeaders = new LinkedHashMap<>();
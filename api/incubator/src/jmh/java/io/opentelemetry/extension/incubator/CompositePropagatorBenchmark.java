@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.extension.incubator;
+
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.incubator.propagation.BulkTextMapGetter;
+import io.opentelemetry.api.incubator.propagation.ExtendedContextPropagators;
+import io.opentelemetry.api.incubator.propagation.PassThroughPropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extracts with W3C trace context, W3C baggage and pass through B3 and Jaeger fields from a list of
+ * HTTP headers which, as in most servers, are looked up with a case-insensitive linear scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(value = 1)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@State(Scope.Benchmark)
+public class CompositePropagatorBenchmark {
+
+  private static final String[][] HEADERS = {
+    {"Host", "example.com"},
+    {"User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:109.0) Gecko/20100101 Firefox/115.0"},
+    {"Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"},
+    {"Accept-Language", "en-US,en;q=0.5"},
+    {"Accept-Encoding", "gzip, deflate, br"},
+    {"Connection", "keep-alive"},
+    {"Cookie", "session=0123456789abcdef"},
+    {"Cache-Control", "max-age=0"},
+    {"X-Forwarded-For", "203.0.113.195"},
+    {"X-Forwarded-Proto", "https"},
+    {"X-Request-Id", "f058ebd6-02f7-4d3f-942e-904344e8cde5"},
+    {"Traceparent", "00-0102030405060708090a0b0c0d0e0f00-090a0b0c0d0e0f00-01"},
+    {"Tracestate", "congo=t61rcWkgMzE,rojo=00f067aa0ba902b7"},
+    {"Baggage", "userId=alice,serverNode=DF28,isProduction=false"},
+  };
+
+  private static final BulkTextMapGetter<String[][]> getter =
+      new BulkTextMapGetter<String[][]>() {
+        @Override
+        public Iterable<String> keys(String[][] carrier) {
+          List<String> keys = new ArrayList<>();
+          for (String[] header : carrier) {
+            keys.add(header[0]);
+          }
+          return keys;
+        }
+
+        @Nullable
+        @Override
+        public String get(@Nullable String[][] carrier, String key) {
+          if (carrier == null) {
+            return null;
+          }
+          for (String[] header : carrier) {
+            if (header[0].equalsIgnoreCase(key)) {
+              return header[1];
+            }
+          }
+          return null;
+        }
+
+        @Override
+        public void forEach(@Nullable String[][] carrier, BiConsumer<String, String> consumer) {
+          if (carrier == null) {
+            return;
+          }
+          for (String[] header : carrier) {
+            consumer.accept(header[0], header[1]);
+          }
+        }
+      };
+
+  @Param({"composite", "singlePass"})
+  String propagator;
+
+  private TextMapPropagator textMapPropagator;
+
+  @Setup
+  public void setup() {
+    TextMapPropagator[] propagators = {
+      W3CTraceContextPropagator.getInstance(),
+      W3CBaggagePropagator.getInstance(),
+      PassThroughPropagator.create(
+          "b3", "X-B3-TraceId", "X-B3-SpanId", "X-B3-Sampled", "X-B3-Flags", "uber-trace-id")
+    };
+    textMapPropagator =
+        propagator.equals("singlePass")
+            ? ExtendedContextPropagators.composite(propagators)
+            : TextMapPropagator.composite(propagators);
+  }
+
+  @Benchmark
+  public Context extract() {
+    return textMapPropagator.extract(Context.root(), HEADERS, getter);
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.propagation;
+
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link TextMapGetter} which can read all the fields of a carrier in a single pass, for carriers
+ * where each {@link #get(Object, String)} is expensive, such as HTTP headers which are looked up by
+ * a case-insensitive linear scan. A propagator created with {@link
+ * ExtendedContextPropagators#composite(TextMapPropagator...)} reads all the fields of its
+ * propagators with one call to {@link #forEach(Object, BiConsumer)}.
+ *
+ * @param <C> carrier of propagation fields, such as an http request.
+ */
+public interface BulkTextMapGetter<C> extends TextMapGetter<C> {
+
+  /**
+   * Calls {@code consumer} with the key and value of each field of the given carrier. A key which
+   * has several values may be passed several times, in which case the first value is used.
+   *
+   * @param carrier carrier of propagation fields, such as an http request.
+   * @param consumer the consumer of each key and value.
+   */
+  void forEach(@Nullable C carrier, BiConsumer<String, String> consumer);
+}
@@ -5,14 +5,21 @@
 
 package io.opentelemetry.api.incubator.propagation;
 
+import static java.util.Objects.requireNonNull;
+
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
 
 /**
@@ -27,7 +34,7 @@ public final class ExtendedContextPropagators {
   private ExtendedContextPropagators() {}
 
   private static final TextMapGetter<Map<String, String>> TEXT_MAP_GETTER =
-      new TextMapGetter<Map<String, String>>() {
+      new BulkTextMapGetter<Map<String, String>>() {
         @Override
         public Set<String> keys(Map<String, String> carrier) {
           return carrier.keySet();
@@ -38,8 +45,52 @@ public final class ExtendedContextPropagators {
         public String get(@Nullable Map<String, String> carrier, String key) {
           return carrier == null ? null : carrier.get(key);
         }
+
+        @Override
+        public void forEach(
+            @Nullable Map<String, String> carrier, BiConsumer<String, String> consumer) {
+          if (carrier != null) {
+            carrier.forEach(consumer);
+          }
+        }
       };
 
+  /**
+   * Returns a composite {@link TextMapPropagator} which, unlike {@link
+   * TextMapPropagator#composite(TextMapPropagator...)}, looks up each of the {@link
+   * TextMapPropagator#fields()} of the {@code propagators} in the carrier only once when
+   * extracting, rather than once for each propagator that reads it. When the getter is a {@link
+   * BulkTextMapGetter}, the fields are all read in a single pass through the carrier, matching
+   * their names ignoring case.
+   *
+   * <p>Keys which are not in the fields of any propagator, such as baggage prefixes, are still
+   * looked up with the getter.
+   */
+  public static TextMapPropagator composite(TextMapPropagator... propagators) {
+    requireNonNull(propagators, "propagators");
+    return composite(Arrays.asList(propagators));
+  }
+
+  /**
+   * Returns a composite {@link TextMapPropagator} which looks up each of the fields of the {@code
+   * propagators} in the carrier only once when extracting. See {@link
+   * #composite(TextMapPropagator...)}.
+   */
+  public static TextMapPropagator composite(Iterable<TextMapPropagator> propagators) {
+    requireNonNull(propagators, "propagators");
+    List<TextMapPropagator> propagatorsList = new ArrayList<>();
+    for (TextMapPropagator propagator : propagators) {
+      propagatorsList.add(requireNonNull(propagator, "propagator"));
+    }
+    if (propagatorsList.isEmpty()) {
+      return TextMapPropagator.noop();
+    }
+    if (propagatorsList.size() == 1) {
+      return propagatorsList.get(0);
+    }
+    return new SinglePassTextMapPropagator(propagatorsList);
+  }
+
   /**
    * Injects the current context into a string map, which can then be added to HTTP headers or the
    * metadata of a message.
@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.propagation;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * A composite {@link TextMapPropagator} which reads each of the {@link TextMapPropagator#fields()}
+ * of its propagators from the carrier only once when extracting. With a {@link BulkTextMapGetter}
+ * they are all read up front in a single pass through the carrier, otherwise each is looked up when
+ * a propagator first asks for it. Any other key is delegated to the original getter.
+ */
+final class SinglePassTextMapPropagator implements TextMapPropagator {
+
+  private final TextMapPropagator[] textMapPropagators;
+  private final String[] fields;
+  private final Collection<String> allFields;
+
+  SinglePassTextMapPropagator(List<TextMapPropagator> textMapPropagators) {
+    this.textMapPropagators = textMapPropagators.toArray(new TextMapPropagator[0]);
+    Set<String> fields = new LinkedHashSet<>();
+    for (TextMapPropagator textMapPropagator : this.textMapPropagators) {
+      fields.addAll(textMapPropagator.fields());
+    }
+    this.fields = fields.toArray(new String[0]);
+    this.allFields = Collections.unmodifiableList(new ArrayList<>(fields));
+  }
+
+  @Override
+  public Collection<String> fields() {
+    return allFields;
+  }
+
+  @Override
+  public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {
+    if (context == null || setter == null) {
+      return;
+    }
+    for (TextMapPropagator textMapPropagator : textMapPropagators) {
+      textMapPropagator.inject(context, carrier, setter);
+    }
+  }
+
+  @Override
+  public <C> Context extract(Context context, @Nullable C carrier, TextMapGetter<C> getter) {
+    if (context == null) {
+      return Context.root();
+    }
+    if (getter == null) {
+      return context;
+    }
+
+    String[] values = new String[fields.length];
+    TextMapGetter<C> prefetchedGetter;
+    if (getter instanceof BulkTextMapGetter) {
+      ((BulkTextMapGetter<C>) getter)
+          .forEach(
+              carrier,
+              (key, value) -> {
+                int index = indexOf(fields, key);
+                if (index != -1 && values[index] == null) {
+                  values[index] = value;
+                }
+              });
+      prefetchedGetter = new PrefetchedGetter<>(fields, values, null, getter);
+    } else {
+      // Fields are only looked up when a propagator first asks for them, as a propagator may not
+      // read all of its fields, such as tracestate without a traceparent.
+      prefetchedGetter = new PrefetchedGetter<>(fields, values, new boolean[fields.length], getter);
+    }
+
+    for (TextMapPropagator textMapPropagator : textMapPropagators) {
+      context = textMapPropagator.extract(context, carrier, prefetchedGetter);
+    }
+    return context;
+  }
+
+  /** Returns the index of the field named {@code key}, ignoring case, or {@code -1}. */
+  private static int indexOf(String[] fields, String key) {
+    for (int i = 0; i < fields.length; i++) {
+      String field = fields[i];
+      if (field.length() == key.length() && field.equalsIgnoreCase(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return "SinglePassTextMapPropagator{textMapPropagators="
+        + Arrays.toString(textMapPropagators)
+        + '}';
+  }
+
+  private static final class PrefetchedGetter<C> implements TextMapGetter<C> {
+
+    private final String[] fields;
+    private final String[] values;
+    // Whether each field has been looked up, or null if all have been read up front.
+    @Nullable private final boolean[] fetched;
+    private final TextMapGetter<C> delegate;
+
+    private PrefetchedGetter(
+        String[] fields, String[] values, @Nullable boolean[] fetched, TextMapGetter<C> delegate) {
+      this.fields = fields;
+      this.values = values;
+      this.fetched = fetched;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Iterable<String> keys(C carrier) {
+      return delegate.keys(carrier);
+    }
+
+    @Override
+    @Nullable
+    public String get(@Nullable C carrier, String key) {
+      int index = indexOf(fields, key);
+      if (index == -1) {
+        return delegate.get(carrier, key);
+      }
+      boolean[] fetched = this.fetched;
+      if (fetched != null && !fetched[index]) {
+        values[index] = delegate.get(carrier, fields[index]);
+        fetched[index] = true;
+      }
+      return values[index];
+    }
+  }
+}
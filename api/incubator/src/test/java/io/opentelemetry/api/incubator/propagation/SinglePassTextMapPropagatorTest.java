@@ -0,0 +1,199 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SinglePassTextMapPropagatorTest {
+
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.createFromRemoteParent(
+          "0102030405060708090a0b0c0d0e0f00",
+          "090a0b0c0d0e0f00",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  private static final ContextKey<String> OTHER_KEY = ContextKey.named("other");
+
+  /** Reads a key which is not one of its fields, as baggage propagators read prefixed keys. */
+  private static final TextMapPropagator OTHER_PROPAGATOR =
+      new TextMapPropagator() {
+        @Override
+        public Collection<String> fields() {
+          return Collections.emptyList();
+        }
+
+        @Override
+        public <C> void inject(Context context, @Nullable C carrier, TextMapSetter<C> setter) {}
+
+        @Override
+        public <C> Context extract(Context context, @Nullable C carrier, TextMapGetter<C> getter) {
+          String value = getter.get(carrier, "other");
+          return value == null ? context : context.with(OTHER_KEY, value);
+        }
+      };
+
+  private final TextMapPropagator propagator =
+      ExtendedContextPropagators.composite(
+          W3CTraceContextPropagator.getInstance(),
+          W3CBaggagePropagator.getInstance(),
+          OTHER_PROPAGATOR);
+
+  private final List<String[]> headers = new ArrayList<>();
+  private final Map<String, Integer> gets = new HashMap<>();
+  private int passes;
+
+  private final TextMapGetter<List<String[]>> getter =
+      new TextMapGetter<List<String[]>>() {
+        @Override
+        public Iterable<String> keys(List<String[]> carrier) {
+          List<String> keys = new ArrayList<>();
+          carrier.forEach(header -> keys.add(header[0]));
+          return keys;
+        }
+
+        @Override
+        @Nullable
+        public String get(@Nullable List<String[]> carrier, String key) {
+          gets.merge(key, 1, Integer::sum);
+          for (String[] header : headers) {
+            if (header[0].equalsIgnoreCase(key)) {
+              return header[1];
+            }
+          }
+          return null;
+        }
+      };
+
+  private final BulkTextMapGetter<List<String[]>> bulkGetter =
+      new BulkTextMapGetter<List<String[]>>() {
+        @Override
+        public Iterable<String> keys(List<String[]> carrier) {
+          return getter.keys(carrier);
+        }
+
+        @Override
+        @Nullable
+        public String get(@Nullable List<String[]> carrier, String key) {
+          return getter.get(carrier, key);
+        }
+
+        @Override
+        public void forEach(@Nullable List<String[]> carrier, BiConsumer<String, String> consumer) {
+          passes++;
+          headers.forEach(header -> consumer.accept(header[0], header[1]));
+        }
+      };
+
+  @BeforeEach
+  void setUp() {
+    headers.add(new String[] {"Host", "example.com"});
+    headers.add(
+        new String[] {"TraceParent", "00-0102030405060708090a0b0c0d0e0f00-090a0b0c0d0e0f00-01"});
+    headers.add(new String[] {"Baggage", "animal=cat"});
+    headers.add(new String[] {"Baggage", "animal=dog"});
+    headers.add(new String[] {"Other", "value"});
+  }
+
+  @Test
+  void extract_bulkGetter() {
+    Context context = propagator.extract(Context.root(), headers, bulkGetter);
+
+    assertExtracted(context);
+    assertThat(passes).isEqualTo(1);
+    // Only the key which is not a field is looked up
+    assertThat(gets).containsOnly(entry("other", 1));
+  }
+
+  @Test
+  void extract_getter() {
+    Context context = propagator.extract(Context.root(), headers, getter);
+
+    assertExtracted(context);
+    assertThat(gets)
+        .containsOnly(
+            entry("traceparent", 1),
+            entry("tracestate", 1),
+            entry("baggage", 1),
+            entry("other", 1));
+  }
+
+  @Test
+  void extract_getter_looksUpFieldsOnlyWhenRead() {
+    headers.remove(1);
+    TextMapPropagator propagator =
+        ExtendedContextPropagators.composite(
+            W3CTraceContextPropagator.getInstance(),
+            PassThroughPropagator.create("traceparent", "baggage"),
+            W3CBaggagePropagator.getInstance());
+
+    Context context = propagator.extract(Context.root(), headers, getter);
+
+    assertThat(Span.fromContext(context).getSpanContext().isValid()).isFalse();
+    assertThat(Baggage.fromContext(context).getEntryValue("animal")).isEqualTo("cat");
+    // tracestate is not read without a traceparent, and fields read by several propagators are
+    // only looked up once
+    assertThat(gets).containsOnly(entry("traceparent", 1), entry("baggage", 1));
+  }
+
+  @Test
+  void inject() {
+    Context context =
+        Context.root()
+            .with(Span.wrap(SPAN_CONTEXT))
+            .with(Baggage.builder().put("animal", "cat").build());
+
+    Map<String, String> carrier = new HashMap<>();
+    propagator.inject(context, carrier, Map::put);
+
+    assertThat(carrier)
+        .containsOnly(
+            entry("traceparent", "00-0102030405060708090a0b0c0d0e0f00-090a0b0c0d0e0f00-01"),
+            entry("baggage", "animal=cat"));
+  }
+
+  @Test
+  void fields() {
+    assertThat(propagator.fields()).containsExactly("traceparent", "tracestate", "baggage");
+  }
+
+  @Test
+  void composite_fewPropagators() {
+    assertThat(ExtendedContextPropagators.composite()).isSameAs(TextMapPropagator.noop());
+    assertThat(ExtendedContextPropagators.composite(W3CTraceContextPropagator.getInstance()))
+        .isSameAs(W3CTraceContextPropagator.getInstance());
+  }
+
+  private static void assertExtracted(Context context) {
+    assertThat(Span.fromContext(context).getSpanContext()).isEqualTo(SPAN_CONTEXT);
+    assertThat(Baggage.fromContext(context).getEntryValue("animal")).isEqualTo("cat");
+    assertThat(context.get(OTHER_KEY)).isEqualTo("value");
+  }
+}
@@ -19,7 +19,12 @@ import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import javax.annotation.Nullable;
 
 /**
@@ -49,6 +54,10 @@ public final class MarshalerUtil {
 
   private static final byte[] EMPTY_BYTES = new byte[0];
 
+  // Lists weighing more than this are split into chunks of contiguous items weighing at least this
+  // much to create marshalers in parallel
+  private static final int PARALLEL_CHUNK_WEIGHT = 2048;
+
   /** Groups SDK items by resource and instrumentation scope. */
   public static <T, U>
       Map<Resource, Map<InstrumentationScopeInfo, List<U>>> groupByResourceAndScope(
@@ -70,6 +79,101 @@ public final class MarshalerUtil {
     return result;
   }
 
+  /**
+   * Groups SDK items by resource and instrumentation scope like {@link
+   * #groupByResourceAndScope(Collection, Function, Function, Function)}, but creates the marshalers
+   * of large lists in parallel on {@code executor}, which is typically a {@link
+   * java.util.concurrent.ForkJoinPool}. The cost of marshaling an item is estimated by {@code
+   * getWeight}, such as its number of points, and lists are split into chunks of contiguous items
+   * of similar weight, rather than by resource and scope, so that a single large scope is
+   * parallelized too. The grouping and order of items are the same as when marshaling serially.
+   */
+  public static <T, U>
+      Map<Resource, Map<InstrumentationScopeInfo, List<U>>> groupByResourceAndScope(
+          Collection<T> dataList,
+          Function<T, Resource> getResource,
+          Function<T, InstrumentationScopeInfo> getInstrumentationScope,
+          Function<T, U> createMarshaler,
+          ToIntFunction<T> getWeight,
+          @Nullable ExecutorService executor) {
+    if (executor == null) {
+      return groupByResourceAndScope(
+          dataList, getResource, getInstrumentationScope, createMarshaler);
+    }
+    List<T> items = new ArrayList<>(dataList);
+    List<List<T>> chunks = split(items, getWeight);
+    if (chunks.size() <= 1) {
+      return groupByResourceAndScope(
+          dataList, getResource, getInstrumentationScope, createMarshaler);
+    }
+    List<U> marshalers = createMarshalers(chunks, items.size(), createMarshaler, executor);
+
+    // expectedMaxSize of 8 means initial map capacity of 16 to match HashMap
+    IdentityHashMap<Resource, Map<InstrumentationScopeInfo, List<U>>> result =
+        new IdentityHashMap<>(8);
+    for (int i = 0; i < items.size(); i++) {
+      T data = items.get(i);
+      Map<InstrumentationScopeInfo, List<U>> scopeInfoListMap =
+          result.computeIfAbsent(getResource.apply(data), unused -> new IdentityHashMap<>(8));
+      List<U> marshalerList =
+          scopeInfoListMap.computeIfAbsent(
+              getInstrumentationScope.apply(data), unused -> new ArrayList<>());
+      marshalerList.add(marshalers.get(i));
+    }
+    return result;
+  }
+
+  private static <T> List<List<T>> split(List<T> items, ToIntFunction<T> getWeight) {
+    List<List<T>> chunks = new ArrayList<>();
+    int from = 0;
+    long weight = 0;
+    for (int i = 0; i < items.size(); i++) {
+      // Items weigh at least 1, so that chunks of weightless items are bounded too
+      weight += Math.max(1, getWeight.applyAsInt(items.get(i)));
+      if (weight >= PARALLEL_CHUNK_WEIGHT) {
+        chunks.add(items.subList(from, i + 1));
+        from = i + 1;
+        weight = 0;
+      }
+    }
+    if (from < items.size()) {
+      chunks.add(items.subList(from, items.size()));
+    }
+    return chunks;
+  }
+
+  private static <T, U> List<U> createMarshalers(
+      List<List<T>> chunks, int size, Function<T, U> createMarshaler, ExecutorService executor) {
+    List<Callable<List<U>>> tasks = new ArrayList<>(chunks.size());
+    for (List<T> chunk : chunks) {
+      tasks.add(
+          () -> {
+            List<U> marshalers = new ArrayList<>(chunk.size());
+            for (T data : chunk) {
+              marshalers.add(createMarshaler.apply(data));
+            }
+            return marshalers;
+          });
+    }
+    List<U> marshalers = new ArrayList<>(size);
+    try {
+      for (Future<List<U>> future : executor.invokeAll(tasks)) {
+        marshalers.addAll(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while marshaling.", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException(
+          "Serialization error, this is likely a bug in OpenTelemetry.", cause);
+    }
+    return marshalers;
+  }
+
   /** Preserialize into JSON format. */
   public static String preserializeJsonFields(Marshaler marshaler) {
     if (!MarshalerUtil.JSON_AVAILABLE) {
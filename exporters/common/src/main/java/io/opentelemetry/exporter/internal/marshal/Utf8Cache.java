@@ -0,0 +1,71 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of the UTF-8 encoding of strings which repeat across exports, such as span names,
+ * attribute keys and low-cardinality attribute values.
+ *
+ * <p>The cache is direct-mapped: each string maps to a single slot by its hash. A string is only
+ * cached when it is seen a second time in its slot, replacing the slot's entry, so that
+ * high-cardinality values such as IDs, which are rarely encoded twice, neither evict the repeating
+ * strings nor allocate entries. Lookups and updates are lock-free since entries are immutable, the
+ * worst case of a race being an extra encoding. Strings longer than {@link #MAX_CACHED_LENGTH} are
+ * never cached. The returned arrays are shared and must not be modified.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class Utf8Cache {
+
+  private static final byte[] EMPTY_BYTES = new byte[0];
+
+  // Visible for testing
+  static final int MAX_CACHED_LENGTH = 128;
+  static final int SLOTS = 4096;
+
+  private static final Entry[] entries = new Entry[SLOTS];
+  // The last string seen in each slot and not cached, cached if it is the next one seen.
+  private static final String[] candidates = new String[SLOTS];
+
+  /** Returns the UTF-8 encoding of {@code value}, cached if it is short enough and repeats. */
+  public static byte[] toBytes(@Nullable String value) {
+    if (value == null || value.isEmpty()) {
+      return EMPTY_BYTES;
+    }
+    if (value.length() > MAX_CACHED_LENGTH) {
+      return value.getBytes(StandardCharsets.UTF_8);
+    }
+    int hash = value.hashCode();
+    int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    Entry entry = entries[slot];
+    if (entry != null && entry.value.equals(value)) {
+      return entry.utf8;
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    if (value.equals(candidates[slot])) {
+      entries[slot] = new Entry(value, utf8);
+    } else {
+      candidates[slot] = value;
+    }
+    return utf8;
+  }
+
+  private static final class Entry {
+    private final String value;
+    private final byte[] utf8;
+
+    private Entry(String value, byte[] utf8) {
+      this.value = value;
+      this.utf8 = utf8;
+    }
+  }
+
+  private Utf8Cache() {}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class Utf8CacheTest {
+
+  @Test
+  void toBytes_Empty() {
+    assertThat(Utf8Cache.toBytes(null)).isEmpty();
+    assertThat(Utf8Cache.toBytes("")).isEmpty();
+  }
+
+  @Test
+  void toBytes_CachesRepeatingStrings() {
+    byte[] first = Utf8Cache.toBytes("GET /api/orders");
+    assertThat(first).isEqualTo("GET /api/orders".getBytes(StandardCharsets.UTF_8));
+    // Cached when seen again, and then shared by equal strings built at runtime
+    byte[] second = Utf8Cache.toBytes(new StringBuilder("GET /api/").append("orders").toString());
+    assertThat(second).isEqualTo(first);
+    assertThat(Utf8Cache.toBytes(new StringBuilder("GET /api/").append("orders").toString()))
+        .isSameAs(second);
+  }
+
+  @Test
+  void toBytes_OneOffStringsDoNotEvict() {
+    Utf8Cache.toBytes("http.route");
+    byte[] cached = Utf8Cache.toBytes("http.route");
+    for (int i = 0; i < Utf8Cache.SLOTS * 2; i++) {
+      Utf8Cache.toBytes("request-" + i);
+    }
+    assertThat(Utf8Cache.toBytes("http.route")).isSameAs(cached);
+  }
+
+  @Test
+  void toBytes_MultiByte() {
+    assertThat(Utf8Cache.toBytes("ünïcødé 🚀"))
+        .isEqualTo("ünïcødé 🚀".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void toBytes_DoesNotCacheLongStrings() {
+    StringBuilder value = new StringBuilder();
+    for (int i = 0; i <= Utf8Cache.MAX_CACHED_LENGTH; i++) {
+      value.append('a');
+    }
+    Utf8Cache.toBytes(value.toString());
+    byte[] utf8 = Utf8Cache.toBytes(value.toString());
+    assertThat(utf8).isEqualTo(value.toString().getBytes(StandardCharsets.UTF_8));
+    assertThat(Utf8Cache.toBytes(value.toString())).isNotSameAs(utf8);
+  }
+
+  @Test
+  void toBytes_Collisions() {
+    // More distinct values than slots, so some evict others, but every encoding is correct
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < Utf8Cache.SLOTS * 2; i++) {
+        String value = "value-" + i;
+        assertThat(Utf8Cache.toBytes(value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+}
@@ -18,6 +18,8 @@ import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -33,18 +35,21 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
   private final AggregationTemporalitySelector aggregationTemporalitySelector;
   private final DefaultAggregationSelector defaultAggregationSelector;
   private final MemoryMode memoryMode;
+  @Nullable private final ExecutorService marshalingExecutor;
 
   OtlpHttpMetricExporter(
       HttpExporterBuilder<MetricsRequestMarshaler> builder,
       HttpExporter<MetricsRequestMarshaler> delegate,
       AggregationTemporalitySelector aggregationTemporalitySelector,
       DefaultAggregationSelector defaultAggregationSelector,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      @Nullable ExecutorService marshalingExecutor) {
     this.builder = builder;
     this.delegate = delegate;
     this.aggregationTemporalitySelector = aggregationTemporalitySelector;
     this.defaultAggregationSelector = defaultAggregationSelector;
     this.memoryMode = memoryMode;
+    this.marshalingExecutor = marshalingExecutor;
   }
 
   /**
@@ -76,7 +81,7 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
    * @since 1.29.0
    */
   public OtlpHttpMetricExporterBuilder toBuilder() {
-    return new OtlpHttpMetricExporterBuilder(builder.copy(), memoryMode);
+    return new OtlpHttpMetricExporterBuilder(builder.copy(), memoryMode, marshalingExecutor);
   }
 
   @Override
@@ -102,7 +107,8 @@ public final class OtlpHttpMetricExporter implements MetricExporter {
    */
   @Override
   public CompletableResultCode export(Collection<MetricData> metrics) {
-    MetricsRequestMarshaler exportRequest = MetricsRequestMarshaler.create(metrics);
+    MetricsRequestMarshaler exportRequest =
+        MetricsRequestMarshaler.create(metrics, marshalingExecutor);
     return delegate.export(exportRequest, metrics.size());
   }
 
@@ -24,8 +24,10 @@ import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 
@@ -49,17 +51,21 @@ public final class OtlpHttpMetricExporterBuilder {
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
   private MemoryMode memoryMode;
+  @Nullable private ExecutorService marshalingExecutor;
 
   OtlpHttpMetricExporterBuilder(
-      HttpExporterBuilder<MetricsRequestMarshaler> delegate, MemoryMode memoryMode) {
+      HttpExporterBuilder<MetricsRequestMarshaler> delegate,
+      MemoryMode memoryMode,
+      @Nullable ExecutorService marshalingExecutor) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.marshalingExecutor = marshalingExecutor;
     delegate.setMeterProvider(MeterProvider::noop);
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeaders);
   }
 
   OtlpHttpMetricExporterBuilder() {
-    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE);
+    this(new HttpExporterBuilder<>("otlp", "metric", DEFAULT_ENDPOINT), DEFAULT_MEMORY_MODE, null);
   }
 
   /**
@@ -232,6 +238,16 @@ public final class OtlpHttpMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link ExecutorService}, typically a {@link java.util.concurrent.ForkJoinPool}, used to
+   * marshal large exports in parallel. Exports are marshaled on the exporting thread if unset.
+   */
+  OtlpHttpMetricExporterBuilder setMarshalingExecutor(ExecutorService marshalingExecutor) {
+    requireNonNull(marshalingExecutor, "marshalingExecutor");
+    this.marshalingExecutor = marshalingExecutor;
+    return this;
+  }
+
   /** Set the {@link MemoryMode}. */
   OtlpHttpMetricExporterBuilder setMemoryMode(MemoryMode memoryMode) {
     requireNonNull(memoryMode, "memoryMode");
@@ -255,6 +271,7 @@ public final class OtlpHttpMetricExporterBuilder {
         delegate.build(),
         aggregationTemporalitySelector,
         defaultAggregationSelector,
-        memoryMode);
+        memoryMode,
+        marshalingExecutor);
   }
 }
@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
@@ -249,6 +250,44 @@ public final class OtlpConfigUtil {
     }
   }
 
+  /**
+   * Calls {@code #setMarshalingExecutor} on the {@code Otlp{Protocol}MetricExporterBuilder} with
+   * the {@code marshalingExecutor}.
+   */
+  public static void setMarshalingExecutorOnOtlpMetricExporterBuilder(
+      Object builder, ExecutorService marshalingExecutor) {
+    try {
+      if (builder instanceof OtlpGrpcMetricExporterBuilder) {
+        // See setMemoryModeOnOtlpMetricExporterBuilder for why this goes through
+        // OtlpGrpcMetricUtil.
+        Class<?> otlpGrpcMetricUtil =
+            Class.forName("io.opentelemetry.exporter.otlp.metrics.OtlpGrpcMetricUtil");
+        Method method =
+            otlpGrpcMetricUtil.getDeclaredMethod(
+                "setMarshalingExecutor",
+                OtlpGrpcMetricExporterBuilder.class,
+                ExecutorService.class);
+        method.setAccessible(true);
+        method.invoke(null, builder, marshalingExecutor);
+      } else if (builder instanceof OtlpHttpMetricExporterBuilder) {
+        Method method =
+            OtlpHttpMetricExporterBuilder.class.getDeclaredMethod(
+                "setMarshalingExecutor", ExecutorService.class);
+        method.setAccessible(true);
+        method.invoke(builder, marshalingExecutor);
+      } else {
+        throw new IllegalArgumentException(
+            "Can only set marshaling executor on OtlpHttpMetricExporterBuilder and"
+                + " OtlpGrpcMetricExporterBuilder.");
+      }
+    } catch (NoSuchMethodException
+        | InvocationTargetException
+        | IllegalAccessException
+        | ClassNotFoundException e) {
+      throw new IllegalStateException("Error calling setMarshalingExecutor.", e);
+    }
+  }
+
   private static URL createUrl(URL context, String spec) {
     try {
       return new URL(context, spec);
@@ -18,6 +18,8 @@ import io.opentelemetry.sdk.metrics.export.AggregationTemporalitySelector;
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -33,6 +35,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
   private final AggregationTemporalitySelector aggregationTemporalitySelector;
   private final DefaultAggregationSelector defaultAggregationSelector;
   private final MemoryMode memoryMode;
+  @Nullable private final ExecutorService marshalingExecutor;
 
   /**
    * Returns a new {@link OtlpGrpcMetricExporter} using the default values.
@@ -60,12 +63,14 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
       GrpcExporter<MetricsRequestMarshaler> delegate,
       AggregationTemporalitySelector aggregationTemporalitySelector,
       DefaultAggregationSelector defaultAggregationSelector,
-      MemoryMode memoryMode) {
+      MemoryMode memoryMode,
+      @Nullable ExecutorService marshalingExecutor) {
     this.builder = builder;
     this.delegate = delegate;
     this.aggregationTemporalitySelector = aggregationTemporalitySelector;
     this.defaultAggregationSelector = defaultAggregationSelector;
     this.memoryMode = memoryMode;
+    this.marshalingExecutor = marshalingExecutor;
   }
 
   /**
@@ -76,7 +81,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    * @since 1.29.0
    */
   public OtlpGrpcMetricExporterBuilder toBuilder() {
-    return new OtlpGrpcMetricExporterBuilder(builder.copy(), memoryMode);
+    return new OtlpGrpcMetricExporterBuilder(builder.copy(), memoryMode, marshalingExecutor);
   }
 
   @Override
@@ -102,7 +107,7 @@ public final class OtlpGrpcMetricExporter implements MetricExporter {
    */
   @Override
   public CompletableResultCode export(Collection<MetricData> metrics) {
-    MetricsRequestMarshaler request = MetricsRequestMarshaler.create(metrics);
+    MetricsRequestMarshaler request = MetricsRequestMarshaler.create(metrics, marshalingExecutor);
 
     return delegate.export(request, metrics.size());
   }
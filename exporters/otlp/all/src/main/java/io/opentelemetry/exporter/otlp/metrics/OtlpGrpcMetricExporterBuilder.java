@@ -25,8 +25,10 @@ import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 
@@ -58,11 +60,15 @@ public final class OtlpGrpcMetricExporterBuilder {
   private DefaultAggregationSelector defaultAggregationSelector =
       DefaultAggregationSelector.getDefault();
   private MemoryMode memoryMode;
+  @Nullable private ExecutorService marshalingExecutor;
 
   OtlpGrpcMetricExporterBuilder(
-      GrpcExporterBuilder<MetricsRequestMarshaler> delegate, MemoryMode memoryMode) {
+      GrpcExporterBuilder<MetricsRequestMarshaler> delegate,
+      MemoryMode memoryMode,
+      @Nullable ExecutorService marshalingExecutor) {
     this.delegate = delegate;
     this.memoryMode = memoryMode;
+    this.marshalingExecutor = marshalingExecutor;
     delegate.setMeterProvider(MeterProvider::noop);
     OtlpUserAgent.addUserAgentHeader(delegate::addConstantHeader);
   }
@@ -76,7 +82,8 @@ public final class OtlpGrpcMetricExporterBuilder {
             DEFAULT_ENDPOINT,
             () -> MarshalerMetricsServiceGrpc::newFutureStub,
             GRPC_ENDPOINT_PATH),
-        DEFAULT_MEMORY_MODE);
+        DEFAULT_MEMORY_MODE,
+        null);
   }
 
   /**
@@ -265,6 +272,16 @@ public final class OtlpGrpcMetricExporterBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link ExecutorService}, typically a {@link java.util.concurrent.ForkJoinPool}, used to
+   * marshal large exports in parallel. Exports are marshaled on the exporting thread if unset.
+   */
+  OtlpGrpcMetricExporterBuilder setMarshalingExecutor(ExecutorService marshalingExecutor) {
+    requireNonNull(marshalingExecutor, "marshalingExecutor");
+    this.marshalingExecutor = marshalingExecutor;
+    return this;
+  }
+
   /** Set the {@link MemoryMode}. */
   OtlpGrpcMetricExporterBuilder setMemoryMode(MemoryMode memoryMode) {
     requireNonNull(memoryMode, "memoryMode");
@@ -283,6 +300,7 @@ public final class OtlpGrpcMetricExporterBuilder {
         delegate.build(),
         aggregationTemporalitySelector,
         defaultAggregationSelector,
-        memoryMode);
+        memoryMode,
+        marshalingExecutor);
   }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.exporter.otlp.metrics;
 
 import io.opentelemetry.exporter.otlp.internal.OtlpConfigUtil;
 import io.opentelemetry.sdk.common.export.MemoryMode;
+import java.util.concurrent.ExecutorService;
 
 final class OtlpGrpcMetricUtil {
 
@@ -16,4 +17,13 @@ final class OtlpGrpcMetricUtil {
   static void setMemoryMode(OtlpGrpcMetricExporterBuilder builder, MemoryMode memoryMode) {
     builder.setMemoryMode(memoryMode);
   }
+
+  /**
+   * See {@link OtlpConfigUtil#setMarshalingExecutorOnOtlpMetricExporterBuilder(Object,
+   * ExecutorService)}.
+   */
+  static void setMarshalingExecutor(
+      OtlpGrpcMetricExporterBuilder builder, ExecutorService marshalingExecutor) {
+    builder.setMarshalingExecutor(marshalingExecutor);
+  }
 }
@@ -21,13 +21,20 @@ import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @BenchmarkMode({Mode.AverageTime})
@@ -122,4 +129,106 @@ public class MetricsRequestMarshalerBenchmark {
     marshaler.writeBinaryTo(bos);
     return bos;
   }
+
+  /** A large export of {@code metricCount} counters with 25 points each. */
+  @State(Scope.Benchmark)
+  public static class LargeExportState {
+
+    @Param({"2000"})
+    int metricCount;
+
+    Collection<MetricData> metrics;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+      SdkMeterProvider meterProvider =
+          SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+      for (int i = 0; i < metricCount; i++) {
+        LongCounter counter =
+            meterProvider.get("meter" + (i % 10)).counterBuilder("counter" + i).build();
+        for (long point = 0; point < 25; point++) {
+          counter.add(point, Attributes.of(AttributeKey.longKey("point"), point));
+        }
+      }
+      metrics = metricReader.collectAllMetrics();
+      meterProvider.close();
+      pool = new ForkJoinPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public TestOutputStream marshalLargeExport(LargeExportState state) throws IOException {
+    MetricsRequestMarshaler marshaler = MetricsRequestMarshaler.create(state.metrics);
+    TestOutputStream bos = new TestOutputStream(marshaler.getBinarySerializedSize());
+    marshaler.writeBinaryTo(bos);
+    return bos;
+  }
+
+  @Benchmark
+  public TestOutputStream marshalLargeExportParallel(LargeExportState state) throws IOException {
+    MetricsRequestMarshaler marshaler = MetricsRequestMarshaler.create(state.metrics, state.pool);
+    TestOutputStream bos = new TestOutputStream(marshaler.getBinarySerializedSize());
+    marshaler.writeBinaryTo(bos);
+    return bos;
+  }
+
+  /** An export of a few histograms with {@code pointCount} points each. */
+  @State(Scope.Benchmark)
+  public static class ManyPointsExportState {
+
+    @Param({"8"})
+    int metricCount;
+
+    @Param({"1500"})
+    int pointCount;
+
+    Collection<MetricData> metrics;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+      SdkMeterProvider meterProvider =
+          SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+      Meter meter = meterProvider.get("meter");
+      for (int i = 0; i < metricCount; i++) {
+        DoubleHistogram histogram = meter.histogramBuilder("histogram" + i).build();
+        for (long point = 0; point < pointCount; point++) {
+          histogram.record(point, Attributes.of(AttributeKey.longKey("point"), point));
+        }
+      }
+      metrics = metricReader.collectAllMetrics();
+      meterProvider.close();
+      pool = new ForkJoinPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public TestOutputStream marshalManyPointsExport(ManyPointsExportState state) throws IOException {
+    MetricsRequestMarshaler marshaler = MetricsRequestMarshaler.create(state.metrics);
+    TestOutputStream bos = new TestOutputStream(marshaler.getBinarySerializedSize());
+    marshaler.writeBinaryTo(bos);
+    return bos;
+  }
+
+  @Benchmark
+  public TestOutputStream marshalManyPointsExportParallel(ManyPointsExportState state)
+      throws IOException {
+    MetricsRequestMarshaler marshaler = MetricsRequestMarshaler.create(state.metrics, state.pool);
+    TestOutputStream bos = new TestOutputStream(marshaler.getBinarySerializedSize());
+    marshaler.writeBinaryTo(bos);
+    return bos;
+  }
 }
@@ -93,6 +93,9 @@ public class RequestMarshalState {
                 .put(KEY_STRING, "string")
                 .put(KEY_INT, 100L)
                 .put(KEY_DOUBLE, 100.3)
+                // Keys created per span, as instrumentation building keys dynamically does
+                .put(AttributeKey.stringKey("http.request.method"), "GET")
+                .put(AttributeKey.stringKey("http.route"), "/api/endpoint")
                 .build())
         .setTotalAttributeCount(2)
         .setEvents(
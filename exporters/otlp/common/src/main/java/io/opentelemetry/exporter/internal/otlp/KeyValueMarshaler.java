@@ -13,9 +13,9 @@ import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.Utf8Cache;
 import io.opentelemetry.proto.common.v1.internal.KeyValue;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -27,7 +27,6 @@ import java.util.function.BiConsumer;
  */
 public final class KeyValueMarshaler extends MarshalerWithSize {
 
-  private static final byte[] EMPTY_BYTES = new byte[0];
   private static final KeyValueMarshaler[] EMPTY_REPEATED = new KeyValueMarshaler[0];
 
   private final byte[] keyUtf8;
@@ -42,7 +41,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
   /** Returns Marshaler for the given KeyAnyValue. */
   public static KeyValueMarshaler createForKeyAnyValue(KeyAnyValue keyAnyValue) {
     return new KeyValueMarshaler(
-        keyAnyValue.getKey().getBytes(StandardCharsets.UTF_8),
+        Utf8Cache.toBytes(keyAnyValue.getKey()),
         AnyValueMarshaler.create(keyAnyValue.getAnyValue()));
   }
 
@@ -69,16 +68,15 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
   @SuppressWarnings("unchecked")
   private static KeyValueMarshaler create(AttributeKey<?> attributeKey, Object value) {
     byte[] keyUtf8;
-    if (attributeKey.getKey().isEmpty()) {
-      keyUtf8 = EMPTY_BYTES;
-    } else if (attributeKey instanceof InternalAttributeKeyImpl) {
+    if (attributeKey instanceof InternalAttributeKeyImpl) {
       keyUtf8 = ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
     } else {
-      keyUtf8 = attributeKey.getKey().getBytes(StandardCharsets.UTF_8);
+      keyUtf8 = Utf8Cache.toBytes(attributeKey.getKey());
     }
     switch (attributeKey.getType()) {
       case STRING:
-        return new KeyValueMarshaler(keyUtf8, StringAnyValueMarshaler.create((String) value));
+        return new KeyValueMarshaler(
+            keyUtf8, StringAnyValueMarshaler.create(Utf8Cache.toBytes((String) value)));
       case LONG:
         return new KeyValueMarshaler(keyUtf8, IntAnyValueMarshaler.create((long) value));
       case BOOLEAN:
@@ -28,7 +28,11 @@ final class StringAnyValueMarshaler extends MarshalerWithSize {
   }
 
   static MarshalerWithSize create(String value) {
-    return new StringAnyValueMarshaler(MarshalerUtil.toBytes(value));
+    return create(MarshalerUtil.toBytes(value));
+  }
+
+  static MarshalerWithSize create(byte[] valueUtf8) {
+    return new StringAnyValueMarshaler(valueUtf8);
   }
 
   @Override
@@ -10,6 +10,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.Utf8Cache;
 import io.opentelemetry.proto.metrics.v1.internal.Metric;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.io.IOException;
@@ -24,9 +25,9 @@ final class MetricMarshaler extends MarshalerWithSize {
 
   static Marshaler create(MetricData metric) {
     // TODO(anuraaga): Cache these as they should be effectively singleton.
-    byte[] name = MarshalerUtil.toBytes(metric.getName());
-    byte[] description = MarshalerUtil.toBytes(metric.getDescription());
-    byte[] unit = MarshalerUtil.toBytes(metric.getUnit());
+    byte[] name = Utf8Cache.toBytes(metric.getName());
+    byte[] description = Utf8Cache.toBytes(metric.getDescription());
+    byte[] unit = Utf8Cache.toBytes(metric.getUnit());
 
     Marshaler dataMarshaler = null;
     ProtoFieldInfo dataField = null;
@@ -13,6 +13,8 @@ import io.opentelemetry.proto.collector.metrics.v1.internal.ExportMetricsService
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 
 /**
  * {@link Marshaler} to convert SDK {@link MetricData} to OTLP ExportMetricsServiceRequest.
@@ -32,6 +34,16 @@ public final class MetricsRequestMarshaler extends MarshalerWithSize {
     return new MetricsRequestMarshaler(ResourceMetricsMarshaler.create(metricDataList));
   }
 
+  /**
+   * Returns a {@link MetricsRequestMarshaler} like {@link #create(Collection)}, but creates the
+   * marshalers of large batches in parallel on {@code executor}, typically a {@link
+   * java.util.concurrent.ForkJoinPool}. Marshals serially if {@code executor} is null.
+   */
+  public static MetricsRequestMarshaler create(
+      Collection<MetricData> metricDataList, @Nullable ExecutorService executor) {
+    return new MetricsRequestMarshaler(ResourceMetricsMarshaler.create(metricDataList, executor));
+  }
+
   private MetricsRequestMarshaler(ResourceMetricsMarshaler[] resourceMetricsMarshalers) {
     super(calculateSize(resourceMetricsMarshalers));
     this.resourceMetricsMarshalers = resourceMetricsMarshalers;
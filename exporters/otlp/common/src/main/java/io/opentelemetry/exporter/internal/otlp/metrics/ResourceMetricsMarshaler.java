@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import javax.annotation.Nullable;
 
 /**
  * A Marshaler of ResourceMetrics.
@@ -34,8 +36,18 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
   /** Returns Marshalers of ResourceMetrics created by grouping the provided metricData. */
   @SuppressWarnings("AvoidObjectArrays")
   public static ResourceMetricsMarshaler[] create(Collection<MetricData> metricDataList) {
+    return create(metricDataList, null);
+  }
+
+  /**
+   * Returns Marshalers of ResourceMetrics created by grouping the provided {@link MetricData},
+   * creating the marshalers of large collections in parallel on {@code executor} if it is not null.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public static ResourceMetricsMarshaler[] create(
+      Collection<MetricData> metricDataList, @Nullable ExecutorService executor) {
     Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>> resourceAndScopeMap =
-        groupByResourceAndScope(metricDataList);
+        groupByResourceAndScope(metricDataList, executor);
 
     ResourceMetricsMarshaler[] resourceMetricsMarshalers =
         new ResourceMetricsMarshaler[resourceAndScopeMap.size()];
@@ -95,13 +107,16 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
   }
 
   private static Map<Resource, Map<InstrumentationScopeInfo, List<Marshaler>>>
-      groupByResourceAndScope(Collection<MetricData> metricDataList) {
+      groupByResourceAndScope(
+          Collection<MetricData> metricDataList, @Nullable ExecutorService executor) {
     return MarshalerUtil.groupByResourceAndScope(
         metricDataList,
         // TODO(anuraaga): Replace with an internal SdkData type of interface that exposes these
         // two.
         MetricData::getResource,
         MetricData::getInstrumentationScopeInfo,
-        MetricMarshaler::create);
+        MetricMarshaler::create,
+        metricData -> metricData.getData().getPoints().size(),
+        executor);
   }
 }
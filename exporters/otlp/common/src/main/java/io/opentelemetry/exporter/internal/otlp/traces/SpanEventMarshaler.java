@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.internal.otlp.traces;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.Utf8Cache;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.EventData;
@@ -39,7 +40,7 @@ final class SpanEventMarshaler extends MarshalerWithSize {
   static SpanEventMarshaler create(EventData event) {
     return new SpanEventMarshaler(
         event.getEpochNanos(),
-        MarshalerUtil.toBytes(event.getName()),
+        Utf8Cache.toBytes(event.getName()),
         KeyValueMarshaler.createForAttributes(event.getAttributes()),
         event.getTotalAttributeCount() - event.getAttributes().size());
   }
@@ -14,6 +14,7 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.Utf8Cache;
 import io.opentelemetry.exporter.internal.otlp.KeyValueMarshaler;
 import io.opentelemetry.proto.trace.v1.internal.Span;
 import io.opentelemetry.sdk.trace.data.SpanData;
@@ -64,7 +65,7 @@ final class SpanMarshaler extends MarshalerWithSize {
         spanData.getSpanContext().getSpanId(),
         traceStateUtf8,
         parentSpanId,
-        MarshalerUtil.toBytes(spanData.getName()),
+        Utf8Cache.toBytes(spanData.getName()),
         toProtoSpanKind(spanData.getKind()),
         spanData.getStartEpochNanos(),
         spanData.getEndEpochNanos(),
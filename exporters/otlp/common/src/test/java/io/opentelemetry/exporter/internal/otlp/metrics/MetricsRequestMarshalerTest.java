@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp.metrics;
 
+import static io.opentelemetry.api.common.AttributeKey.longKey;
 import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.proto.metrics.v1.AggregationTemporality.AGGREGATION_TEMPORALITY_CUMULATIVE;
 import static io.opentelemetry.proto.metrics.v1.AggregationTemporality.AGGREGATION_TEMPORALITY_DELTA;
@@ -44,6 +45,7 @@ import io.opentelemetry.sdk.internal.DynamicPrimitiveLongList;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.ExponentialHistogramPointData;
 import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.data.SummaryPointData;
@@ -69,11 +71,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
@@ -1130,6 +1134,52 @@ class MetricsRequestMarshalerTest {
             });
   }
 
+  @Test
+  void create_Parallel() {
+    Resource[] resources = {
+      Resource.create(Attributes.of(stringKey("one"), "1")),
+      Resource.create(Attributes.of(stringKey("two"), "2"))
+    };
+    InstrumentationScopeInfo[] scopes = {
+      InstrumentationScopeInfo.create("a"),
+      InstrumentationScopeInfo.create("b"),
+      InstrumentationScopeInfo.create("c")
+    };
+    // A few metrics with many points, between metrics with a single point, so that the export is
+    // split into several chunks by points rather than by number of metrics
+    List<MetricData> metrics = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      int pointCount = i % 3 == 0 ? 1500 : 1;
+      List<LongPointData> points = new ArrayList<>(pointCount);
+      for (int point = 0; point < pointCount; point++) {
+        points.add(
+            ImmutableLongPointData.create(
+                123, 456, Attributes.of(longKey("point"), (long) point), i));
+      }
+      metrics.add(
+          ImmutableMetricData.createLongSum(
+              resources[i % resources.length],
+              scopes[i % scopes.length],
+              "sum-" + i,
+              "description",
+              "1",
+              ImmutableSumData.create(
+                  /* isMonotonic= */ true, AggregationTemporality.CUMULATIVE, points)));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Marshaler serial = MetricsRequestMarshaler.create(metrics);
+      Marshaler parallel = MetricsRequestMarshaler.create(metrics, pool);
+
+      assertThat(parallel.getBinarySerializedSize()).isEqualTo(serial.getBinarySerializedSize());
+      assertThat(toByteArray(parallel)).isEqualTo(toByteArray(serial));
+      assertThat(toJson(parallel)).isEqualTo(toJson(serial));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   private static List<NumberDataPoint> toNumberDataPoints(Collection<? extends PointData> points) {
     return points.stream()
         .map(
@@ -0,0 +1,426 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.testing.internal;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.grpc.protocol.ArmeriaStatusException;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.grpc.protocol.AbstractUnaryGrpcService;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceResponse;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import org.assertj.core.api.iterable.ThrowingExtractor;
+
+/**
+ * An in-process OTLP collector for load and stress testing exporters without Docker.
+ *
+ * <p>A single port serves the OTLP/gRPC export methods and the OTLP/HTTP protobuf paths for traces,
+ * metrics and logs. Requests are parsed only to count the received items. Faults can be injected
+ * with {@link Builder#setLatency(Duration)}, {@link Builder#setErrorRate(double)} and {@link
+ * Builder#setBandwidthBytesPerSecond(long)}. Rejected requests respond with {@code 503} over HTTP
+ * and {@code UNAVAILABLE} over gRPC, which exporters treat as retryable, and their items are not
+ * counted as received.
+ *
+ * <p>Bandwidth is modeled as a single link shared by all connections: each request reserves the
+ * link for its transfer time, and its response is delayed until the transfer completes.
+ */
+public final class LoopbackOtlpCollector implements AutoCloseable {
+
+  private static final int GRPC_UNAVAILABLE = 14;
+
+  private final Server server;
+  private final long latencyNanos;
+  private final double errorRate;
+  private final long bandwidthBytesPerSecond;
+
+  private final AtomicLong linkFreeAtNanos = new AtomicLong();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder rejectedRequests = new LongAdder();
+  private final LongAdder receivedBytes = new LongAdder();
+  private final LongAdder receivedSpans = new LongAdder();
+  private final LongAdder receivedMetricPoints = new LongAdder();
+  private final LongAdder receivedLogRecords = new LongAdder();
+
+  /** Returns a new {@link Builder} for {@link LoopbackOtlpCollector}. */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private LoopbackOtlpCollector(Builder builder) {
+    this.latencyNanos = builder.latency.toNanos();
+    this.errorRate = builder.errorRate;
+    this.bandwidthBytesPerSecond = builder.bandwidthBytesPerSecond;
+
+    ServerBuilder sb = Server.builder().http(0).maxRequestLength(0);
+    byte[] traceResponse = ExportTraceServiceResponse.getDefaultInstance().toByteArray();
+    byte[] metricsResponse = ExportMetricsServiceResponse.getDefaultInstance().toByteArray();
+    byte[] logsResponse = ExportLogsServiceResponse.getDefaultInstance().toByteArray();
+    addServices(
+        sb,
+        "/opentelemetry.proto.collector.trace.v1.TraceService/Export",
+        "/v1/traces",
+        ExportTraceServiceRequest::parseFrom,
+        LoopbackOtlpCollector::countSpans,
+        receivedSpans,
+        traceResponse);
+    addServices(
+        sb,
+        "/opentelemetry.proto.collector.metrics.v1.MetricsService/Export",
+        "/v1/metrics",
+        ExportMetricsServiceRequest::parseFrom,
+        LoopbackOtlpCollector::countMetricPoints,
+        receivedMetricPoints,
+        metricsResponse);
+    addServices(
+        sb,
+        "/opentelemetry.proto.collector.logs.v1.LogsService/Export",
+        "/v1/logs",
+        ExportLogsServiceRequest::parseFrom,
+        LoopbackOtlpCollector::countLogRecords,
+        receivedLogRecords,
+        logsResponse);
+    server = sb.build();
+    server.start().join();
+  }
+
+  private <T> void addServices(
+      ServerBuilder sb,
+      String grpcPath,
+      String httpPath,
+      ThrowingExtractor<byte[], T, InvalidProtocolBufferException> parse,
+      ItemCounter<T> itemCounter,
+      LongAdder received,
+      byte[] successResponse) {
+    SignalHandler<T> handler = new SignalHandler<>(parse, itemCounter, received);
+    sb.service(grpcPath, new GrpcCollectorService(handler, successResponse));
+    sb.service(httpPath, new HttpCollectorService(handler, successResponse));
+  }
+
+  /**
+   * Returns the base endpoint of the collector. gRPC exporters use it as is, HTTP exporters append
+   * the signal path, such as {@code /v1/traces}.
+   */
+  public String getEndpoint() {
+    return "http://127.0.0.1:" + server.activeLocalPort();
+  }
+
+  /** Returns the number of export requests received, including rejected ones. */
+  public long getRequestCount() {
+    return requests.sum();
+  }
+
+  /** Returns the number of export requests rejected by the injected error rate. */
+  public long getRejectedRequestCount() {
+    return rejectedRequests.sum();
+  }
+
+  /** Returns the number of request body bytes received, before decompression. */
+  public long getReceivedBytes() {
+    return receivedBytes.sum();
+  }
+
+  /** Returns the number of spans in accepted requests. */
+  public long getReceivedSpans() {
+    return receivedSpans.sum();
+  }
+
+  /** Returns the number of metric data points in accepted requests. */
+  public long getReceivedMetricPoints() {
+    return receivedMetricPoints.sum();
+  }
+
+  /** Returns the number of log records in accepted requests. */
+  public long getReceivedLogRecords() {
+    return receivedLogRecords.sum();
+  }
+
+  /** Resets all counters to zero. */
+  public void reset() {
+    requests.reset();
+    rejectedRequests.reset();
+    receivedBytes.reset();
+    receivedSpans.reset();
+    receivedMetricPoints.reset();
+    receivedLogRecords.reset();
+  }
+
+  @Override
+  public void close() {
+    server.stop().join();
+  }
+
+  /**
+   * Accounts for a request of {@code bytes} and returns how long its response must be delayed, in
+   * nanoseconds.
+   */
+  private long reserve(int bytes) {
+    requests.increment();
+    receivedBytes.add(bytes);
+    if (bandwidthBytesPerSecond <= 0) {
+      return latencyNanos;
+    }
+    long transferNanos = bytes * TimeUnit.SECONDS.toNanos(1) / bandwidthBytesPerSecond;
+    long now = System.nanoTime();
+    long doneAt;
+    while (true) {
+      long freeAt = linkFreeAtNanos.get();
+      doneAt = Math.max(now, freeAt) + transferNanos;
+      if (linkFreeAtNanos.compareAndSet(freeAt, doneAt)) {
+        break;
+      }
+    }
+    return doneAt - now + latencyNanos;
+  }
+
+  private boolean shouldReject() {
+    if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+      rejectedRequests.increment();
+      return true;
+    }
+    return false;
+  }
+
+  private static <T> CompletableFuture<T> delay(
+      ServiceRequestContext ctx, long delayNanos, T value) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    if (delayNanos <= 0) {
+      future.complete(value);
+    } else {
+      ScheduledFuture<?> unused =
+          ctx.eventLoop().schedule(() -> future.complete(value), delayNanos, TimeUnit.NANOSECONDS);
+    }
+    return future;
+  }
+
+  private static long countSpans(ExportTraceServiceRequest request) {
+    long count = 0;
+    for (ResourceSpans resourceSpans : request.getResourceSpansList()) {
+      for (ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+        count += scopeSpans.getSpansCount();
+      }
+    }
+    return count;
+  }
+
+  private static long countMetricPoints(ExportMetricsServiceRequest request) {
+    long count = 0;
+    for (ResourceMetrics resourceMetrics : request.getResourceMetricsList()) {
+      for (ScopeMetrics scopeMetrics : resourceMetrics.getScopeMetricsList()) {
+        for (Metric metric : scopeMetrics.getMetricsList()) {
+          count += countPoints(metric);
+        }
+      }
+    }
+    return count;
+  }
+
+  private static int countPoints(Metric metric) {
+    switch (metric.getDataCase()) {
+      case GAUGE:
+        return metric.getGauge().getDataPointsCount();
+      case SUM:
+        return metric.getSum().getDataPointsCount();
+      case HISTOGRAM:
+        return metric.getHistogram().getDataPointsCount();
+      case EXPONENTIAL_HISTOGRAM:
+        return metric.getExponentialHistogram().getDataPointsCount();
+      case SUMMARY:
+        return metric.getSummary().getDataPointsCount();
+      default:
+        return 0;
+    }
+  }
+
+  private static long countLogRecords(ExportLogsServiceRequest request) {
+    long count = 0;
+    for (ResourceLogs resourceLogs : request.getResourceLogsList()) {
+      for (ScopeLogs scopeLogs : resourceLogs.getScopeLogsList()) {
+        count += scopeLogs.getLogRecordsCount();
+      }
+    }
+    return count;
+  }
+
+  private static byte[] gunzip(byte[] content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(content.length * 4);
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  @FunctionalInterface
+  private interface ItemCounter<T> {
+    long count(T request);
+  }
+
+  private static final class SignalHandler<T> {
+    private final ThrowingExtractor<byte[], T, InvalidProtocolBufferException> parse;
+    private final ItemCounter<T> itemCounter;
+    private final LongAdder received;
+
+    private SignalHandler(
+        ThrowingExtractor<byte[], T, InvalidProtocolBufferException> parse,
+        ItemCounter<T> itemCounter,
+        LongAdder received) {
+      this.parse = parse;
+      this.itemCounter = itemCounter;
+      this.received = received;
+    }
+
+    private void accept(byte[] message) {
+      try {
+        received.add(itemCounter.count(parse.extractThrows(message)));
+      } catch (InvalidProtocolBufferException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private final class GrpcCollectorService extends AbstractUnaryGrpcService {
+    private final SignalHandler<?> handler;
+    private final byte[] successResponse;
+
+    private GrpcCollectorService(SignalHandler<?> handler, byte[] successResponse) {
+      this.handler = handler;
+      this.successResponse = successResponse;
+    }
+
+    @Override
+    protected CompletionStage<byte[]> handleMessage(ServiceRequestContext ctx, byte[] message) {
+      long delayNanos = reserve(message.length);
+      if (shouldReject()) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        ArmeriaStatusException error =
+            new ArmeriaStatusException(GRPC_UNAVAILABLE, "Injected error");
+        ScheduledFuture<?> unused =
+            ctx.eventLoop()
+                .schedule(
+                    () -> future.completeExceptionally(error), delayNanos, TimeUnit.NANOSECONDS);
+        return future;
+      }
+      handler.accept(message);
+      return delay(ctx, delayNanos, successResponse);
+    }
+  }
+
+  private final class HttpCollectorService implements HttpService {
+    private final SignalHandler<?> handler;
+    private final byte[] successResponse;
+
+    private HttpCollectorService(SignalHandler<?> handler, byte[] successResponse) {
+      this.handler = handler;
+      this.successResponse = successResponse;
+    }
+
+    @Override
+    public HttpResponse serve(ServiceRequestContext ctx, HttpRequest req) {
+      CompletableFuture<HttpResponse> responseFuture =
+          req.aggregate()
+              .thenCompose(
+                  aggReq -> {
+                    byte[] content = aggReq.content().array();
+                    long delayNanos = reserve(content.length);
+                    if (shouldReject()) {
+                      return delay(
+                          ctx, delayNanos, HttpResponse.of(HttpStatus.SERVICE_UNAVAILABLE));
+                    }
+                    try {
+                      handler.accept(
+                          aggReq.headers().contains("content-encoding", "gzip")
+                              ? gunzip(content)
+                              : content);
+                    } catch (IOException e) {
+                      throw new UncheckedIOException(e);
+                    }
+                    return delay(
+                        ctx,
+                        delayNanos,
+                        HttpResponse.of(
+                            HttpStatus.OK,
+                            MediaType.parse("application/x-protobuf"),
+                            successResponse));
+                  });
+      return HttpResponse.of(responseFuture);
+    }
+  }
+
+  /** A builder for {@link LoopbackOtlpCollector}. */
+  public static final class Builder {
+    private Duration latency = Duration.ZERO;
+    private double errorRate;
+    private long bandwidthBytesPerSecond;
+
+    private Builder() {}
+
+    /** Sets the fixed delay added to every response. Defaults to zero. */
+    public Builder setLatency(Duration latency) {
+      this.latency = latency;
+      return this;
+    }
+
+    /** Sets the fraction, between 0 and 1, of requests to reject. Defaults to 0. */
+    public Builder setErrorRate(double errorRate) {
+      if (errorRate < 0 || errorRate > 1) {
+        throw new IllegalArgumentException("errorRate must be between 0 and 1");
+      }
+      this.errorRate = errorRate;
+      return this;
+    }
+
+    /**
+     * Sets the bandwidth of the link shared by all requests, in request bytes per second. Zero, the
+     * default, means unlimited.
+     */
+    public Builder setBandwidthBytesPerSecond(long bandwidthBytesPerSecond) {
+      if (bandwidthBytesPerSecond < 0) {
+        throw new IllegalArgumentException("bandwidthBytesPerSecond must be non-negative");
+      }
+      this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+      return this;
+    }
+
+    /** Starts and returns a {@link LoopbackOtlpCollector} listening on an ephemeral port. */
+    public LoopbackOtlpCollector build() {
+      return new LoopbackOtlpCollector(this);
+    }
+  }
+}
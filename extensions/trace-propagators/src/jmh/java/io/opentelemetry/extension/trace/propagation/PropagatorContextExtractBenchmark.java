@@ -118,6 +118,51 @@ public class PropagatorContextExtractBenchmark {
     }
   }
 
+  /**
+   * Benchmark for extracting context from Jaeger headers with 64-bit trace IDs and IDs without
+   * leading zeros, as sent by Jaeger clients.
+   */
+  public static class JaegerShortIdContextExtractBenchmark extends AbstractContextExtractBenchmark {
+
+    private static final List<Map<String, String>> traceHeaders =
+        Arrays.asList(
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER, "905734c59b913b4a:9909983295041501:0:1"),
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER, "21196a77f299580e:993a97ee3691eb26:0:0"),
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER, "2e7d0ad239061770:d49582a2de984b86:0:1"),
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER, "5734c59b913b4a:76ff807b787538a:0:0"),
+            Collections.singletonMap(
+                JaegerPropagator.PROPAGATION_HEADER, "68ec932c33b3f2ee:8ec932c33b3f2ee:0:0"));
+
+    private final TextMapGetter<Map<String, String>> getter =
+        new TextMapGetter<Map<String, String>>() {
+          @Override
+          public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+          }
+
+          @Override
+          public String get(Map<String, String> carrier, String key) {
+            return carrier.get(key);
+          }
+        };
+
+    private final JaegerPropagator jaegerPropagator = JaegerPropagator.getInstance();
+
+    @Override
+    protected Context doExtract() {
+      return jaegerPropagator.extract(Context.current(), getCarrier(), getter);
+    }
+
+    @Override
+    protected List<Map<String, String>> getHeaders() {
+      return traceHeaders;
+    }
+  }
+
   /** Benchmark for extracting context from Jaeger headers which are url encoded. */
   public static class JaegerUrlEncodedContextExtractBenchmark
       extends AbstractContextExtractBenchmark {
@@ -264,4 +309,54 @@ public class PropagatorContextExtractBenchmark {
       return traceHeaders;
     }
   }
+
+  /** Benchmark for extracting context from OtTrace headers. */
+  public static class OtTraceContextExtractBenchmark extends AbstractContextExtractBenchmark {
+
+    private static final List<Map<String, String>> traceHeaders;
+
+    static {
+      traceHeaders =
+          Arrays.asList(
+              createHeaders("905734c59b913b4a", "9909983295041501", "true"),
+              createHeaders("21196a77f299580e", "993a97ee3691eb26", "false"),
+              createHeaders("2e7d0ad239061770", "d49582a2de984b86", "true"),
+              createHeaders("905734c59b913b4a", "776ff807b787538a", "false"),
+              createHeaders("68ec932c33b3f2ee", "68ec932c33b3f2ee", "false"));
+    }
+
+    private static Map<String, String> createHeaders(
+        String traceId, String spanId, String sampled) {
+      Map<String, String> headers = new HashMap<>();
+      headers.put(OtTracePropagator.TRACE_ID_HEADER, traceId);
+      headers.put(OtTracePropagator.SPAN_ID_HEADER, spanId);
+      headers.put(OtTracePropagator.SAMPLED_HEADER, sampled);
+      return headers;
+    }
+
+    private final TextMapGetter<Map<String, String>> getter =
+        new TextMapGetter<Map<String, String>>() {
+          @Override
+          public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+          }
+
+          @Override
+          public String get(Map<String, String> carrier, String key) {
+            return carrier.get(key);
+          }
+        };
+
+    private final OtTracePropagator otTracePropagator = OtTracePropagator.getInstance();
+
+    @Override
+    protected Context doExtract() {
+      return otTracePropagator.extract(Context.current(), getCarrier(), getter);
+    }
+
+    @Override
+    protected List<Map<String, String>> getHeaders() {
+      return traceHeaders;
+    }
+  }
 }
@@ -114,4 +114,16 @@ public class PropagatorContextInjectBenchmark {
       b3Propagator.inject(context, carrier, setter);
     }
   }
+
+  /** Benchmark for injecting trace context into OtTrace headers. */
+  public static class OtTraceContextInjectBenchmark extends AbstractContextInjectBenchmark {
+
+    private final OtTracePropagator otTracePropagator = OtTracePropagator.getInstance();
+    private final TextMapSetter<Map<String, String>> setter = Map::put;
+
+    @Override
+    protected void doInject(Context context, Map<String, String> carrier) {
+      otTracePropagator.inject(context, carrier, setter);
+    }
+  }
 }
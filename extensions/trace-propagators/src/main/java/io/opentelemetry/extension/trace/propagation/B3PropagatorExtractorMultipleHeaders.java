@@ -33,28 +33,31 @@ final class B3PropagatorExtractorMultipleHeaders implements B3PropagatorExtracto
   private static <C> Optional<Context> extractSpanContextFromMultipleHeaders(
       Context context, @Nullable C carrier, TextMapGetter<C> getter) {
     String traceId = getter.get(carrier, B3Propagator.TRACE_ID_HEADER);
-    if (!Common.isTraceIdValid(traceId)) {
+    if (traceId == null || !Common.isTraceIdValid(traceId, 0, traceId.length())) {
       logger.fine(
           "Invalid TraceId in B3 header: " + traceId + "'. Returning INVALID span context.");
       return Optional.empty();
     }
 
     String spanId = getter.get(carrier, B3Propagator.SPAN_ID_HEADER);
-    if (!Common.isSpanIdValid(spanId)) {
+    if (spanId == null || !Common.isSpanIdValid(spanId, 0, spanId.length())) {
       logger.fine("Invalid SpanId in B3 header: " + spanId + "'. Returning INVALID span context.");
       return Optional.empty();
     }
 
     // if debug flag is set, then set sampled flag, and also set B3 debug to true in the context
     // for onward use by B3 injector
+    String paddedTraceId = Common.padId(traceId, 0, traceId.length(), Common.MAX_TRACE_ID_LENGTH);
     if (B3Propagator.MULTI_HEADER_DEBUG.equals(getter.get(carrier, B3Propagator.DEBUG_HEADER))) {
       return Optional.of(
           context
               .with(B3Propagator.DEBUG_CONTEXT_KEY, true)
-              .with(Span.wrap(Common.buildSpanContext(traceId, spanId, Common.TRUE_INT))));
+              .with(Span.wrap(Common.buildSpanContext(paddedTraceId, spanId, true))));
     }
 
     String sampled = getter.get(carrier, B3Propagator.SAMPLED_HEADER);
-    return Optional.of(context.with(Span.wrap(Common.buildSpanContext(traceId, spanId, sampled))));
+    return Optional.of(
+        context.with(
+            Span.wrap(Common.buildSpanContext(paddedTraceId, spanId, Common.isSampled(sampled)))));
   }
 }
@@ -6,7 +6,11 @@
 package io.opentelemetry.extension.trace.propagation;
 
 import io.opentelemetry.api.internal.StringUtils;
+import io.opentelemetry.api.internal.TraceParentSpanContext;
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import java.util.Optional;
@@ -41,8 +45,16 @@ final class B3PropagatorExtractorSingleHeader implements B3PropagatorExtractor {
     // must have between 2 and 4 hyphen delimited parts:
     //   traceId-spanId-sampled-parentSpanId (last two are optional)
     // NOTE: we do not use parentSpanId
-    String[] parts = value.split(B3Propagator.COMBINED_HEADER_DELIMITER);
-    if (parts.length < 2 || parts.length > 4) {
+    // Trailing delimiters do not delimit empty parts.
+    int end = value.length();
+    while (end > 0 && value.charAt(end - 1) == B3Propagator.COMBINED_HEADER_DELIMITER_CHAR) {
+      end--;
+    }
+    int traceIdEnd = indexOfDelimiter(value, 0, end);
+    int spanIdStart = traceIdEnd + 1;
+    int spanIdEnd = indexOfDelimiter(value, spanIdStart, end);
+    int sampledEnd = indexOfDelimiter(value, spanIdEnd + 1, end);
+    if (traceIdEnd == end || indexOfDelimiter(value, sampledEnd + 1, end) != end) {
       logger.fine(
           "Invalid combined header '"
               + B3Propagator.COMBINED_HEADER
@@ -50,8 +62,7 @@ final class B3PropagatorExtractorSingleHeader implements B3PropagatorExtractor {
       return Optional.empty();
     }
 
-    String traceId = parts[0];
-    if (!Common.isTraceIdValid(traceId)) {
+    if (!Common.isTraceIdValid(value, 0, traceIdEnd)) {
       logger.fine(
           "Invalid TraceId in B3 header: "
               + B3Propagator.COMBINED_HEADER
@@ -59,8 +70,7 @@ final class B3PropagatorExtractorSingleHeader implements B3PropagatorExtractor {
       return Optional.empty();
     }
 
-    String spanId = parts[1];
-    if (!Common.isSpanIdValid(spanId)) {
+    if (!Common.isSpanIdValid(value, spanIdStart, spanIdEnd)) {
       logger.fine(
           "Invalid SpanId in B3 header: "
               + B3Propagator.COMBINED_HEADER
@@ -68,17 +78,45 @@ final class B3PropagatorExtractorSingleHeader implements B3PropagatorExtractor {
       return Optional.empty();
     }
 
-    String sampled = parts.length >= 3 ? parts[2] : null;
-
     // if sampled is marked as 'd'ebug, then set sampled flag, and also set B3 debug to true in
     // the context for onward use by the B3 injector
-    if (B3Propagator.SINGLE_HEADER_DEBUG.equals(sampled)) {
+    boolean debug =
+        sampledEnd - spanIdEnd == 2
+            && value.charAt(spanIdEnd + 1) == B3Propagator.SINGLE_HEADER_DEBUG.charAt(0);
+    boolean sampled =
+        debug || (spanIdEnd != end && Common.isSampled(value, spanIdEnd + 1, sampledEnd));
+    TraceFlags traceFlags = sampled ? TraceFlags.getSampled() : TraceFlags.getDefault();
+
+    SpanContext spanContext;
+    if (traceIdEnd == Common.MAX_TRACE_ID_LENGTH) {
+      // The identifiers are read from the header in place when first used
+      spanContext =
+          TraceParentSpanContext.createFromRemoteParent(
+              value, 0, spanIdStart, traceFlags, TraceState.getDefault());
+    } else {
+      spanContext =
+          Common.buildSpanContext(
+              Common.padId(value, 0, traceIdEnd, Common.MAX_TRACE_ID_LENGTH),
+              value.substring(spanIdStart, spanIdEnd),
+              sampled);
+    }
+
+    if (debug) {
       return Optional.of(
-          context
-              .with(B3Propagator.DEBUG_CONTEXT_KEY, true)
-              .with(Span.wrap(Common.buildSpanContext(traceId, spanId, Common.TRUE_INT))));
+          context.with(B3Propagator.DEBUG_CONTEXT_KEY, true).with(Span.wrap(spanContext)));
     }
+    return Optional.of(context.with(Span.wrap(spanContext)));
+  }
 
-    return Optional.of(context.with(Span.wrap(Common.buildSpanContext(traceId, spanId, sampled))));
+  /**
+   * Returns the index of the first delimiter in {@code value} at or after {@code from}, or {@code
+   * end} if there is none before it.
+   */
+  private static int indexOfDelimiter(String value, int from, int end) {
+    if (from >= end) {
+      return end;
+    }
+    int index = value.indexOf(B3Propagator.COMBINED_HEADER_DELIMITER_CHAR, from);
+    return index == -1 || index > end ? end : index;
   }
 }
@@ -5,61 +5,98 @@
 
 package io.opentelemetry.extension.trace.propagation;
 
-import io.opentelemetry.api.internal.StringUtils;
+import io.opentelemetry.api.internal.ImmutableSpanContext;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.internal.TemporaryBuffers;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.api.trace.TraceState;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
- * This set of common propagator utils is currently only used by the OtTracePropagator and the
- * B3Propagator.
+ * This set of common propagator utils is used by the B3Propagator, the OtTracePropagator and the
+ * JaegerPropagator. Identifiers are validated and padded in place in the header they were read
+ * from, so that extraction allocates at most the identifier strings themselves.
  */
 @Immutable
 final class Common {
-  private static final Logger logger = Logger.getLogger(Common.class.getName());
-
   static final String TRUE_INT = "1";
   static final String FALSE_INT = "0";
+  private static final String TRUE = "true";
   static final int MAX_TRACE_ID_LENGTH = TraceId.getLength();
   static final int MIN_TRACE_ID_LENGTH = MAX_TRACE_ID_LENGTH / 2;
 
   private Common() {}
 
-  static SpanContext buildSpanContext(
-      @Nullable String traceId, @Nullable String spanId, @Nullable String sampled) {
-    if (traceId == null || spanId == null) {
-      return SpanContext.getInvalid();
-    }
-    try {
-      TraceFlags traceFlags =
-          TRUE_INT.equals(sampled) || Boolean.parseBoolean(sampled) // accept either "1" or "true"
-              ? TraceFlags.getSampled()
-              : TraceFlags.getDefault();
+  /**
+   * Returns a remote {@link SpanContext} with identifiers which have already been validated, e.g.
+   * with {@link #isTraceIdValid(CharSequence, int, int)}.
+   */
+  static SpanContext buildSpanContext(String traceId, String spanId, boolean sampled) {
+    return ImmutableSpanContext.create(
+        traceId,
+        spanId,
+        sampled ? TraceFlags.getSampled() : TraceFlags.getDefault(),
+        TraceState.getDefault(),
+        /* remote= */ true,
+        /* skipIdValidation= */ true);
+  }
 
-      return SpanContext.createFromRemoteParent(
-          StringUtils.padLeft(traceId, MAX_TRACE_ID_LENGTH),
-          spanId,
-          traceFlags,
-          TraceState.getDefault());
-    } catch (RuntimeException e) {
-      logger.log(Level.FINE, "Error parsing header. Returning INVALID span context.", e);
-      return SpanContext.getInvalid();
-    }
+  /**
+   * Returns whether the characters of {@code value} between {@code start} and {@code end} are a
+   * 64-bit or 128-bit trace ID.
+   */
+  static boolean isTraceIdValid(CharSequence value, int start, int end) {
+    int length = end - start;
+    return (length == MIN_TRACE_ID_LENGTH || length == MAX_TRACE_ID_LENGTH)
+        && OtelEncodingUtils.isValidNonZeroBase16String(value, start, length);
+  }
+
+  /**
+   * Returns whether the characters of {@code value} between {@code start} and {@code end} are a
+   * span ID.
+   */
+  static boolean isSpanIdValid(CharSequence value, int start, int end) {
+    int length = end - start;
+    return length == SpanId.getLength()
+        && OtelEncodingUtils.isValidNonZeroBase16String(value, start, length);
+  }
+
+  /** Returns whether {@code value} is {@code "1"} or, ignoring case, {@code "true"}. */
+  static boolean isSampled(@Nullable String value) {
+    return value != null && isSampled(value, 0, value.length());
   }
 
-  static boolean isTraceIdValid(@Nullable String value) {
-    return !(StringUtils.isNullOrEmpty(value)
-        || (value.length() != MIN_TRACE_ID_LENGTH && value.length() != MAX_TRACE_ID_LENGTH)
-        || !TraceId.isValid(StringUtils.padLeft(value, TraceId.getLength())));
+  /**
+   * Returns whether the characters of {@code value} between {@code start} and {@code end} are
+   * {@code "1"} or, ignoring case, {@code "true"}.
+   */
+  static boolean isSampled(String value, int start, int end) {
+    int length = end - start;
+    return (length == TRUE_INT.length() && value.charAt(start) == TRUE_INT.charAt(0))
+        || (length == TRUE.length() && value.regionMatches(true, start, TRUE, 0, length));
   }
 
-  static boolean isSpanIdValid(@Nullable String value) {
-    return !StringUtils.isNullOrEmpty(value) && SpanId.isValid(value);
+  /**
+   * Returns the characters of {@code value} between {@code start} and {@code end} left padded with
+   * {@code '0'} to {@code length}, returning {@code value} itself when it is exactly that.
+   */
+  static String padId(String value, int start, int end, int length) {
+    if (start == 0 && end == value.length() && end >= length) {
+      return value;
+    }
+    int idLength = end - start;
+    if (idLength >= length) {
+      return value.substring(start, end);
+    }
+    char[] chars = TemporaryBuffers.chars(length);
+    int padding = length - idLength;
+    Arrays.fill(chars, 0, padding, '0');
+    value.getChars(start, end, chars, padding);
+    return new String(chars, 0, length);
   }
 }
@@ -7,8 +7,10 @@ package io.opentelemetry.extension.trace.propagation;
 
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.internal.StringUtils;
 import io.opentelemetry.api.internal.TemporaryBuffers;
+import io.opentelemetry.api.internal.TraceParentSpanContext;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanId;
@@ -23,7 +25,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -52,6 +53,9 @@ public final class JaegerPropagator implements TextMapPropagator {
   private static final char IS_SAMPLED_CHAR = '1';
   private static final char NOT_SAMPLED_CHAR = '0';
   private static final int PROPAGATION_HEADER_DELIMITER_SIZE = 1;
+  private static final String ENCODED_DELIMITER = "%3A";
+  private static final char ENCODED_DELIMITER_START = '%';
+  private static final int ENCODED_DELIMITER_SIZE = ENCODED_DELIMITER.length();
 
   private static final int TRACE_ID_HEX_SIZE = TraceId.getLength();
   private static final int SPAN_ID_HEX_SIZE = SpanId.getLength();
@@ -158,8 +162,12 @@ public final class JaegerPropagator implements TextMapPropagator {
     }
 
     // if the delimiter (:) cannot be found then the propagation value could be URL
-    // encoded, so we need to decode it before attempting to split it.
-    if (value.lastIndexOf(PROPAGATION_HEADER_DELIMITER) == -1) {
+    // encoded. The identifiers and flags are never encoded, so unless something else is, the
+    // value is parsed in place with the encoded delimiter (%3A) instead of being decoded.
+    if (value.indexOf(PROPAGATION_HEADER_DELIMITER) == -1) {
+      if (hasOnlyEncodedDelimiters(value)) {
+        return parseSpanContext(value, ENCODED_DELIMITER_START, ENCODED_DELIMITER_SIZE);
+      }
       try {
         // the propagation value
         value = URLDecoder.decode(value, "UTF-8");
@@ -173,9 +181,25 @@ public final class JaegerPropagator implements TextMapPropagator {
         return SpanContext.getInvalid();
       }
     }
+    return parseSpanContext(value, PROPAGATION_HEADER_DELIMITER, PROPAGATION_HEADER_DELIMITER_SIZE);
+  }
 
-    String[] parts = value.split(String.valueOf(PROPAGATION_HEADER_DELIMITER));
-    if (parts.length != 4) {
+  /**
+   * Parses the {@code traceId:spanId:parentSpanId:flags} header {@code value}, whose parts are
+   * delimited by {@code delimiterSize} characters starting with {@code delimiter}.
+   */
+  private static SpanContext parseSpanContext(String value, char delimiter, int delimiterSize) {
+    // Trailing delimiters do not delimit empty parts.
+    int end = value.length();
+    while (end >= delimiterSize && value.charAt(end - delimiterSize) == delimiter) {
+      end -= delimiterSize;
+    }
+    int traceIdEnd = indexOfDelimiter(value, 0, end, delimiter);
+    int spanIdStart = traceIdEnd + delimiterSize;
+    int spanIdEnd = indexOfDelimiter(value, spanIdStart, end, delimiter);
+    int parentSpanIdEnd = indexOfDelimiter(value, spanIdEnd + delimiterSize, end, delimiter);
+    int flagsStart = parentSpanIdEnd + delimiterSize;
+    if (parentSpanIdEnd == end || indexOfDelimiter(value, flagsStart, end, delimiter) != end) {
       logger.fine(
           "Invalid header '"
               + PROPAGATION_HEADER
@@ -185,19 +209,17 @@ public final class JaegerPropagator implements TextMapPropagator {
       return SpanContext.getInvalid();
     }
 
-    String traceId = parts[0];
-    if (!isTraceIdValid(traceId)) {
+    if (!isIdValid(value, 0, traceIdEnd, MAX_TRACE_ID_LENGTH)) {
       logger.fine(
           "Invalid TraceId in Jaeger header: '"
               + PROPAGATION_HEADER
               + "' with traceId "
-              + traceId
+              + value.substring(0, traceIdEnd)
               + ". Returning INVALID span context.");
       return SpanContext.getInvalid();
     }
 
-    String spanId = parts[1];
-    if (!isSpanIdValid(spanId)) {
+    if (!isIdValid(value, spanIdStart, spanIdEnd, MAX_SPAN_ID_LENGTH)) {
       logger.fine(
           "Invalid SpanId in Jaeger header: '"
               + PROPAGATION_HEADER
@@ -205,16 +227,97 @@ public final class JaegerPropagator implements TextMapPropagator {
       return SpanContext.getInvalid();
     }
 
-    String flags = parts[3];
-    if (!isFlagsValid(flags)) {
+    int flags = parseFlags(value, flagsStart, end);
+    if (flags == -1) {
       logger.fine(
           "Invalid Flags in Jaeger header: '"
               + PROPAGATION_HEADER
               + "'. Returning INVALID span context.");
       return SpanContext.getInvalid();
     }
+    boolean sampled = (flags & 1) == 1;
+
+    if (delimiterSize == PROPAGATION_HEADER_DELIMITER_SIZE
+        && traceIdEnd == MAX_TRACE_ID_LENGTH
+        && spanIdEnd - spanIdStart == MAX_SPAN_ID_LENGTH) {
+      // The identifiers are read from the header in place when first used
+      return TraceParentSpanContext.createFromRemoteParent(
+          value,
+          0,
+          spanIdStart,
+          sampled ? TraceFlags.getSampled() : TraceFlags.getDefault(),
+          TraceState.getDefault());
+    }
+    return Common.buildSpanContext(
+        Common.padId(value, 0, traceIdEnd, MAX_TRACE_ID_LENGTH),
+        Common.padId(value, spanIdStart, spanIdEnd, MAX_SPAN_ID_LENGTH),
+        sampled);
+  }
 
-    return buildSpanContext(traceId, spanId, flags);
+  /**
+   * Returns the index of the first {@code delimiter} in {@code value} at or after {@code from}, or
+   * {@code end} if there is none before it.
+   */
+  private static int indexOfDelimiter(String value, int from, int end, char delimiter) {
+    if (from >= end) {
+      return end;
+    }
+    int index = value.indexOf(delimiter, from);
+    return index == -1 || index > end ? end : index;
+  }
+
+  /** Returns whether the only URL encoded characters of {@code value} are encoded delimiters. */
+  private static boolean hasOnlyEncodedDelimiters(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '+') {
+        return false;
+      }
+      if (c == ENCODED_DELIMITER_START) {
+        if (!value.regionMatches(true, i, ENCODED_DELIMITER, 0, ENCODED_DELIMITER_SIZE)) {
+          return false;
+        }
+        i += ENCODED_DELIMITER_SIZE - 1;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the characters of {@code value} between {@code start} and {@code end} are a hex
+   * identifier of at most {@code maxLength} characters, which is valid once left padded.
+   */
+  private static boolean isIdValid(String value, int start, int end, int maxLength) {
+    int length = end - start;
+    return length > 0
+        && length <= maxLength
+        && OtelEncodingUtils.isValidNonZeroBase16String(value, start, length);
+  }
+
+  /**
+   * Returns the decimal flags between {@code start} and {@code end} of {@code value}, or {@code -1}
+   * if they are invalid. Only the parity of the flags is used, so a sign is accepted but ignored.
+   */
+  private static int parseFlags(String value, int start, int end) {
+    if (end - start > MAX_FLAGS_LENGTH) {
+      return -1;
+    }
+    if (end - start == MAX_FLAGS_LENGTH
+        && (value.charAt(start) == '+' || value.charAt(start) == '-')) {
+      start++;
+    }
+    if (start == end) {
+      return -1;
+    }
+    int flags = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      flags = flags * 10 + (c - '0');
+    }
+    return flags;
   }
 
   @Nullable
@@ -261,35 +364,4 @@ public final class JaegerPropagator implements TextMapPropagator {
     }
     return builder;
   }
-
-  private static SpanContext buildSpanContext(String traceId, String spanId, String flags) {
-    try {
-      String otelTraceId = StringUtils.padLeft(traceId, MAX_TRACE_ID_LENGTH);
-      String otelSpanId = StringUtils.padLeft(spanId, MAX_SPAN_ID_LENGTH);
-      int flagsInt = Integer.parseInt(flags);
-      return SpanContext.createFromRemoteParent(
-          otelTraceId,
-          otelSpanId,
-          ((flagsInt & 1) == 1) ? TraceFlags.getSampled() : TraceFlags.getDefault(),
-          TraceState.getDefault());
-    } catch (RuntimeException e) {
-      logger.log(
-          Level.FINE,
-          "Error parsing '" + PROPAGATION_HEADER + "' header. Returning INVALID span context.",
-          e);
-      return SpanContext.getInvalid();
-    }
-  }
-
-  private static boolean isTraceIdValid(String value) {
-    return !(StringUtils.isNullOrEmpty(value) || value.length() > MAX_TRACE_ID_LENGTH);
-  }
-
-  private static boolean isSpanIdValid(String value) {
-    return !(StringUtils.isNullOrEmpty(value) || value.length() > MAX_SPAN_ID_LENGTH);
-  }
-
-  private static boolean isFlagsValid(String value) {
-    return !(StringUtils.isNullOrEmpty(value) || value.length() > MAX_FLAGS_LENGTH);
-  }
 }
@@ -9,7 +9,7 @@ import static io.opentelemetry.extension.trace.propagation.Common.MAX_TRACE_ID_L
 
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.baggage.BaggageBuilder;
-import io.opentelemetry.api.internal.StringUtils;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceId;
@@ -91,11 +91,7 @@ public final class OtTracePropagator implements TextMapPropagator {
     if (getter == null) {
       return context;
     }
-    String incomingTraceId = getter.get(carrier, TRACE_ID_HEADER);
-    String traceId =
-        incomingTraceId == null
-            ? TraceId.getInvalid()
-            : StringUtils.padLeft(incomingTraceId, MAX_TRACE_ID_LENGTH);
+    String traceId = getter.get(carrier, TRACE_ID_HEADER);
     String spanId = getter.get(carrier, SPAN_ID_HEADER);
     String sampled = getter.get(carrier, SAMPLED_HEADER);
     SpanContext spanContext = buildSpanContext(traceId, spanId, sampled);
@@ -132,10 +128,19 @@ public final class OtTracePropagator implements TextMapPropagator {
 
   private static SpanContext buildSpanContext(
       @Nullable String traceId, @Nullable String spanId, @Nullable String sampled) {
-    if (!Common.isTraceIdValid(traceId) || !Common.isSpanIdValid(spanId)) {
+    // Trace IDs shorter than 128 bits are left padded, whatever their length
+    if (traceId == null
+        || traceId.isEmpty()
+        || traceId.length() > MAX_TRACE_ID_LENGTH
+        || !OtelEncodingUtils.isValidNonZeroBase16String(traceId, 0, traceId.length())
+        || spanId == null
+        || !Common.isSpanIdValid(spanId, 0, spanId.length())) {
       return SpanContext.getInvalid();
     }
-    return Common.buildSpanContext(traceId, spanId, sampled);
+    return Common.buildSpanContext(
+        Common.padId(traceId, 0, traceId.length(), MAX_TRACE_ID_LENGTH),
+        spanId,
+        Common.isSampled(sampled));
   }
 
   @Override
@@ -546,6 +546,29 @@ class B3PropagatorTest {
     verifyInvalidBehavior(invalidHeaders);
   }
 
+  @Test
+  void extract_TrailingDelimiters_SingleHeader() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(
+        B3Propagator.COMBINED_HEADER, TRACE_ID + "-" + SPAN_ID + "-" + Common.TRUE_INT + "--");
+
+    assertThat(getSpanContext(b3Propagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault()));
+  }
+
+  @Test
+  void extract_EmptySampled_SingleHeader() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(B3Propagator.COMBINED_HEADER, SHORT_TRACE_ID + "-" + SPAN_ID + "--0");
+
+    assertThat(getSpanContext(b3Propagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                SHORT_TRACE_ID_FULL, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault()));
+  }
+
   @Test
   void extract_SampledContext_Int_From_SingleHeader_When_MultipleHeadersAlsoPresent() {
     Map<String, String> carrier = new LinkedHashMap<>();
@@ -363,6 +363,40 @@ class JaegerPropagatorTest {
                 TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault()));
   }
 
+  @Test
+  void extract_UrlEncodedContext_LowerCase() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(PROPAGATION_HEADER, TRACE_ID + "%3a17c29%3a0%3a1");
+
+    assertThat(getSpanContext(jaegerPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault()));
+  }
+
+  @Test
+  void extract_UrlEncodedContext_OtherCharacters() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    // %31 is '1'
+    carrier.put(PROPAGATION_HEADER, TRACE_ID + "%3A17c29%3A0%3A%31");
+
+    assertThat(getSpanContext(jaegerPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault()));
+  }
+
+  @Test
+  void extract_TrailingDelimiter() {
+    Map<String, String> carrier = new LinkedHashMap<>();
+    carrier.put(PROPAGATION_HEADER, "236f2e:17c29:0:0:");
+
+    assertThat(getSpanContext(jaegerPropagator.extract(Context.current(), carrier, getter)))
+        .isEqualTo(
+            SpanContext.createFromRemoteParent(
+                SHORT_TRACE_ID, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault()));
+  }
+
   @Test
   void extract_SampledContext_withBaggage() {
     Map<String, String> carrier = new LinkedHashMap<>();
@@ -16,4 +16,49 @@ dependencies {
   implementation("org.testcontainers:junit-jupiter")
 
   runtimeOnly("io.grpc:grpc-netty-shaded")
+
+  testImplementation(project(":exporters:otlp:testing-internal"))
+}
+
+testing {
+  suites {
+    register<JvmTestSuite>("jmhBasedTest") {
+      dependencies {
+        implementation(project(":sdk:all"))
+        implementation(project(":sdk:testing"))
+        implementation(project(":exporters:otlp:common"))
+        implementation("org.openjdk.jmh:jmh-core")
+        implementation("org.openjdk.jmh:jmh-generator-bytecode")
+        annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
+      }
+      targets {
+        all {
+          testTask.configure {
+            systemProperty(
+              "otel.perf.allocationReport",
+              layout.buildDirectory.file("jmh-allocation/results.json").get().asFile.absolutePath
+            )
+            systemProperty(
+              "otel.perf.allocationBaselineFile",
+              file("src/jmhBasedTest/resources/io/opentelemetry/perf/allocation-baseline.properties").absolutePath
+            )
+            if (findProperty("updateAllocationBaseline") != null) {
+              systemProperty("otel.perf.updateAllocationBaseline", "true")
+            }
+          }
+        }
+      }
+    }
+  }
+}
+
+tasks {
+  check {
+    dependsOn(testing.suites)
+  }
+
+  test {
+    // Lengthen LoopbackOtlpStressTest runs with -Potel.perf.durationMillis=<millis>
+    findProperty("otel.perf.durationMillis")?.let { systemProperty("otel.perf.durationMillis", it) }
+  }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.perf;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.otlp.logs.LogsRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs each signal through the SDK, a processor which batches the finished data like the batch
+ * processors do, and the OTLP request marshaler, so that the GC profiler's {@code
+ * gc.alloc.rate.norm} is the number of bytes allocated per span, log record or measurement.
+ *
+ * <p>Everything runs on the benchmark thread so that no allocation escapes the profiler. {@link
+ * PipelineAllocationBenchmarkTest} compares the results against a checked-in baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(PipelineAllocationBenchmark.BATCH_SIZE)
+public class PipelineAllocationBenchmark {
+
+  static final int BATCH_SIZE = 512;
+  private static final int METRIC_SERIES = 16;
+
+  private static final AttributeKey<String> HTTP_METHOD = stringKey("http.method");
+  private static final AttributeKey<String> HTTP_ROUTE = stringKey("http.route");
+  private static final AttributeKey<Long> HTTP_STATUS = longKey("http.status_code");
+
+  @State(Scope.Thread)
+  public static class TraceState {
+    final List<SpanData> batch = new ArrayList<>(BATCH_SIZE);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SdkTracerProvider tracerProvider;
+    Tracer tracer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      tracerProvider =
+          SdkTracerProvider.builder().addSpanProcessor(new BatchingSpanProcessor(batch)).build();
+      tracer = tracerProvider.get("io.opentelemetry.perf");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class LogState {
+    final List<LogRecordData> batch = new ArrayList<>(BATCH_SIZE);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SdkLoggerProvider loggerProvider;
+    Logger logger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      loggerProvider =
+          SdkLoggerProvider.builder()
+              .addLogRecordProcessor(new BatchingLogRecordProcessor(batch))
+              .build();
+      logger = loggerProvider.get("io.opentelemetry.perf");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      loggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class MetricState {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final Attributes[] series = new Attributes[METRIC_SERIES];
+    InMemoryMetricReader reader;
+    SdkMeterProvider meterProvider;
+    LongCounter counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      for (int i = 0; i < METRIC_SERIES; i++) {
+        series[i] = Attributes.of(HTTP_METHOD, "GET", HTTP_STATUS, 200L + i);
+      }
+      reader = InMemoryMetricReader.createDelta();
+      meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+      counter = meterProvider.get("io.opentelemetry.perf").counterBuilder("requests").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  public int spans(TraceState state) throws IOException {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      Span span = state.tracer.spanBuilder("GET /users/{id}").startSpan();
+      span.setAttribute(HTTP_METHOD, "GET");
+      span.setAttribute(HTTP_ROUTE, "/users/{id}");
+      span.setAttribute(HTTP_STATUS, 200L);
+      span.addEvent("cache.miss");
+      span.end();
+    }
+    state.output.reset();
+    TraceRequestMarshaler.create(state.batch).writeBinaryTo(state.output);
+    state.batch.clear();
+    return state.output.size();
+  }
+
+  @Benchmark
+  public int logRecords(LogState state) throws IOException {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      state
+          .logger
+          .logRecordBuilder()
+          .setSeverity(Severity.INFO)
+          .setBody("request handled")
+          .setAttribute(HTTP_METHOD, "GET")
+          .setAttribute(HTTP_ROUTE, "/users/{id}")
+          .emit();
+    }
+    state.output.reset();
+    LogsRequestMarshaler.create(state.batch).writeBinaryTo(state.output);
+    state.batch.clear();
+    return state.output.size();
+  }
+
+  @Benchmark
+  public int measurements(MetricState state) throws IOException {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      state.counter.add(1, state.series[i % METRIC_SERIES]);
+    }
+    state.output.reset();
+    MetricsRequestMarshaler.create(state.reader.collectAllMetrics()).writeBinaryTo(state.output);
+    return state.output.size();
+  }
+
+  private static final class BatchingSpanProcessor implements SpanProcessor {
+    private final List<SpanData> batch;
+
+    private BatchingSpanProcessor(List<SpanData> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+      batch.add(span.toSpanData());
+    }
+
+    @Override
+    public boolean isEndRequired() {
+      return true;
+    }
+  }
+
+  private static final class BatchingLogRecordProcessor implements LogRecordProcessor {
+    private final List<LogRecordData> batch;
+
+    private BatchingLogRecordProcessor(List<LogRecordData> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+      batch.add(logRecord.toLogRecordData());
+    }
+  }
+}
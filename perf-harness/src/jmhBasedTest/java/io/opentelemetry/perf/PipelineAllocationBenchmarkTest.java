@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class PipelineAllocationBenchmarkTest {
+
+  private static final String BASELINE_RESOURCE = "allocation-baseline.properties";
+  private static final String TOLERANCE_PERCENT = "tolerance.percent";
+
+  /**
+   * This test runs {@link PipelineAllocationBenchmark} with the GC profiler and fails if the bytes
+   * allocated per span, log record or measurement grew by more than the tolerance over the
+   * checked-in {@code allocation-baseline.properties}, or if a benchmark has no baseline there.
+   *
+   * <p>The full JMH results, with the time and bytes allocated per operation, are written as JSON
+   * to {@code build/jmh-allocation/results.json}. When an allocation change is intended, record a
+   * new baseline by running {@code ./gradlew :perf-harness:jmhBasedTest -PupdateAllocationBaseline}
+   * with {@code RUN_JMH_BASED_TESTS=true} and commit the result.
+   */
+  @Test
+  public void allocationWithinBaseline() throws RunnerException, IOException {
+    // OTel GitHub CI Workflow (see .github/) sets an environment variable
+    // (RUN_JMH_BASED_TESTS=true).
+    // We set it only there since it's a lengthy test and we want to run it only in CI.
+    Assumptions.assumeTrue(
+        "true".equals(System.getenv("RUN_JMH_BASED_TESTS")),
+        "This test should only run in GitHub CI since it's long");
+
+    Path report =
+        Paths.get(System.getProperty("otel.perf.allocationReport", "jmh-allocation/results.json"));
+    Files.createDirectories(report.toAbsolutePath().getParent());
+    Options opt =
+        new OptionsBuilder()
+            .include(PipelineAllocationBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .shouldFailOnError(true)
+            .resultFormat(ResultFormatType.JSON)
+            .result(report.toString())
+            .jvmArgs("-Xmx1g")
+            .build();
+    Collection<RunResult> results = new Runner(opt).run();
+
+    Map<String, Double> bytesPerOp = new TreeMap<>();
+    for (RunResult result : results) {
+      String benchmark = result.getParams().getBenchmark();
+      Map<String, Result> secondaryResults = result.getSecondaryResults();
+      Result allocRateNorm = secondaryResults.get("gc.alloc.rate.norm");
+      assertThat(allocRateNorm)
+          .describedAs("Allocation rate in secondary results: %s", secondaryResults)
+          .isNotNull();
+      bytesPerOp.put(benchmark.substring(benchmark.lastIndexOf('.') + 1), allocRateNorm.getScore());
+    }
+    assertThat(bytesPerOp).containsOnlyKeys("spans", "logRecords", "measurements");
+
+    Properties baseline = new Properties();
+    try (InputStream in = getClass().getResourceAsStream(BASELINE_RESOURCE)) {
+      assertThat(in).describedAs("Missing %s", BASELINE_RESOURCE).isNotNull();
+      baseline.load(in);
+    }
+    double tolerancePercent = Double.parseDouble(baseline.getProperty(TOLERANCE_PERCENT, "10"));
+
+    if (Boolean.getBoolean("otel.perf.updateAllocationBaseline")) {
+      writeBaseline(bytesPerOp, tolerancePercent);
+      return;
+    }
+
+    SoftAssertions softly = new SoftAssertions();
+    bytesPerOp.forEach(
+        (benchmark, actual) -> {
+          String expected = baseline.getProperty(benchmark);
+          if (expected == null) {
+            softly.fail(
+                "No baseline for %s in %s, record one with -PupdateAllocationBaseline",
+                benchmark, BASELINE_RESOURCE);
+            return;
+          }
+          // If this fails, the change allocates more on the hot path than before. Find out where
+          // by running the benchmark with an allocation profiler, or record a new baseline if the
+          // increase is intended.
+          softly
+              .assertThat(actual)
+              .describedAs("Bytes allocated per operation of %s", benchmark)
+              .isLessThanOrEqualTo(Double.parseDouble(expected) * (1 + tolerancePercent / 100));
+        });
+    softly.assertAll();
+  }
+
+  private static void writeBaseline(Map<String, Double> bytesPerOp, double tolerancePercent)
+      throws IOException {
+    String baselineFile = System.getProperty("otel.perf.allocationBaselineFile");
+    assertThat(baselineFile).describedAs("otel.perf.allocationBaselineFile").isNotNull();
+    try (Writer writer = Files.newBufferedWriter(Paths.get(baselineFile), StandardCharsets.UTF_8)) {
+      writer.write("# Bytes allocated per operation by PipelineAllocationBenchmark.\n");
+      writer.write(
+          "# Recorded on Java "
+              + System.getProperty("java.version")
+              + ", update with -PupdateAllocationBaseline, see PipelineAllocationBenchmarkTest.\n");
+      writer.write(TOLERANCE_PERCENT + "=" + formatNumber(tolerancePercent) + "\n");
+      for (Map.Entry<String, Double> entry : bytesPerOp.entrySet()) {
+        writer.write(entry.getKey() + "=" + formatNumber(entry.getValue()) + "\n");
+      }
+    }
+  }
+
+  private static String formatNumber(double value) {
+    return String.format(Locale.ROOT, "%.1f", value);
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.perf;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.exporter.otlp.http.logs.OtlpHttpLogRecordExporter;
+import io.opentelemetry.exporter.otlp.http.metrics.OtlpHttpMetricExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.exporter.otlp.logs.OtlpGrpcLogRecordExporter;
+import io.opentelemetry.exporter.otlp.metrics.OtlpGrpcMetricExporter;
+import io.opentelemetry.exporter.otlp.testing.internal.LoopbackOtlpCollector;
+import io.opentelemetry.exporter.otlp.trace.OtlpGrpcSpanExporter;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import io.opentelemetry.sdk.metrics.export.PeriodicMetricReader;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives {@link BatchSpanProcessor}, {@link BatchLogRecordProcessor} and {@link
+ * PeriodicMetricReader} through the real OTLP exporters into an in-process {@link
+ * LoopbackOtlpCollector}, so it needs neither Docker nor network access.
+ *
+ * <p>Each case reports throughput, the items which never reached the collector, and the bytes
+ * allocated per item by the threads producing telemetry. Cases run for {@code
+ * otel.perf.durationMillis} milliseconds, which defaults to a short smoke run and can be raised
+ * with {@code -Potel.perf.durationMillis=60000} for stress runs.
+ */
+class LoopbackOtlpStressTest {
+
+  private static final org.slf4j.Logger logger =
+      LoggerFactory.getLogger(LoopbackOtlpStressTest.class);
+
+  private static final long DURATION_MILLIS = Long.getLong("otel.perf.durationMillis", 500);
+  private static final int THREADS = 4;
+  private static final int METRIC_SERIES = 100;
+
+  private static final Resource RESOURCE =
+      Resource.getDefault()
+          .merge(Resource.create(Attributes.of(stringKey("service.name"), "perf")));
+
+  enum Protocol {
+    GRPC,
+    HTTP
+  }
+
+  /** The faults injected by the collector. */
+  enum Faults {
+    NONE {
+      @Override
+      LoopbackOtlpCollector startCollector() {
+        return LoopbackOtlpCollector.builder().build();
+      }
+    },
+    DEGRADED {
+      @Override
+      LoopbackOtlpCollector startCollector() {
+        return LoopbackOtlpCollector.builder()
+            .setLatency(Duration.ofMillis(20))
+            .setErrorRate(0.1)
+            .setBandwidthBytesPerSecond(1024 * 1024)
+            .build();
+      }
+    };
+
+    abstract LoopbackOtlpCollector startCollector();
+  }
+
+  private final List<LoopbackOtlpCollector> collectors = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    collectors.forEach(LoopbackOtlpCollector::close);
+    collectors.clear();
+  }
+
+  @ParameterizedTest
+  @EnumSource(Protocol.class)
+  void spans(Protocol protocol) throws InterruptedException {
+    for (Faults faults : Faults.values()) {
+      LoopbackOtlpCollector collector = startCollector(faults);
+      SpanExporter exporter =
+          protocol == Protocol.GRPC
+              ? OtlpGrpcSpanExporter.builder().setEndpoint(collector.getEndpoint()).build()
+              : OtlpHttpSpanExporter.builder()
+                  .setEndpoint(collector.getEndpoint() + "/v1/traces")
+                  .build();
+      SdkTracerProvider tracerProvider =
+          SdkTracerProvider.builder()
+              .setResource(RESOURCE)
+              .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+              .build();
+      Tracer tracer = tracerProvider.get("io.opentelemetry.perf");
+
+      Result result =
+          run(
+              i -> {
+                Span span = tracer.spanBuilder("exampleSpan").startSpan();
+                span.setAttribute("exampleNumber", i);
+                span.setAttribute("attribute0", "attvalue-0");
+                span.setAttribute("attribute1", "attvalue-1");
+                span.addEvent("event");
+                span.end();
+              },
+              () -> tracerProvider.shutdown().join(30, TimeUnit.SECONDS),
+              collector::getReceivedSpans);
+
+      report("spans", protocol, faults, result, collector);
+      assertResult(result);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Protocol.class)
+  void logs(Protocol protocol) throws InterruptedException {
+    for (Faults faults : Faults.values()) {
+      LoopbackOtlpCollector collector = startCollector(faults);
+      LogRecordExporter exporter =
+          protocol == Protocol.GRPC
+              ? OtlpGrpcLogRecordExporter.builder().setEndpoint(collector.getEndpoint()).build()
+              : OtlpHttpLogRecordExporter.builder()
+                  .setEndpoint(collector.getEndpoint() + "/v1/logs")
+                  .build();
+      SdkLoggerProvider loggerProvider =
+          SdkLoggerProvider.builder()
+              .setResource(RESOURCE)
+              .addLogRecordProcessor(BatchLogRecordProcessor.builder(exporter).build())
+              .build();
+      Logger otelLogger = loggerProvider.get("io.opentelemetry.perf");
+
+      Result result =
+          run(
+              i ->
+                  otelLogger
+                      .logRecordBuilder()
+                      .setBody("log message")
+                      .setAttribute(longKey("exampleNumber"), i)
+                      .setAttribute(stringKey("attribute0"), "attvalue-0")
+                      .emit(),
+              () -> loggerProvider.shutdown().join(30, TimeUnit.SECONDS),
+              collector::getReceivedLogRecords);
+
+      report("log records", protocol, faults, result, collector);
+      assertResult(result);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Protocol.class)
+  void metrics(Protocol protocol) throws InterruptedException {
+    for (Faults faults : Faults.values()) {
+      LoopbackOtlpCollector collector = startCollector(faults);
+      MetricExporter exporter =
+          protocol == Protocol.GRPC
+              ? OtlpGrpcMetricExporter.builder().setEndpoint(collector.getEndpoint()).build()
+              : OtlpHttpMetricExporter.builder()
+                  .setEndpoint(collector.getEndpoint() + "/v1/metrics")
+                  .build();
+      SdkMeterProvider meterProvider =
+          SdkMeterProvider.builder()
+              .setResource(RESOURCE)
+              .registerMetricReader(
+                  PeriodicMetricReader.builder(exporter)
+                      .setInterval(Duration.ofMillis(100))
+                      .build())
+              .build();
+      LongCounter counter =
+          meterProvider.get("io.opentelemetry.perf").counterBuilder("counter").build();
+      Attributes[] series = new Attributes[METRIC_SERIES];
+      for (int i = 0; i < METRIC_SERIES; i++) {
+        series[i] = Attributes.of(longKey("series"), (long) i);
+      }
+
+      Result result =
+          run(
+              i -> counter.add(1, series[(int) (i % METRIC_SERIES)]),
+              () -> meterProvider.shutdown().join(30, TimeUnit.SECONDS),
+              collector::getReceivedMetricPoints);
+
+      // Measurements are aggregated, so the collector receives points rather than measurements
+      report("measurements", protocol, faults, result, collector);
+      assertThat(result.received).isPositive();
+    }
+  }
+
+  private LoopbackOtlpCollector startCollector(Faults faults) {
+    LoopbackOtlpCollector collector = faults.startCollector();
+    collectors.add(collector);
+    return collector;
+  }
+
+  private static void assertResult(Result result) {
+    assertThat(result.received).isPositive().isLessThanOrEqualTo(result.produced);
+  }
+
+  private static void report(
+      String items,
+      Protocol protocol,
+      Faults faults,
+      Result result,
+      LoopbackOtlpCollector collector) {
+    long produced = Math.max(1, result.produced);
+    logger.info(
+        String.format(
+            Locale.ROOT,
+            "%s %s %s: produced %d (%.0f/s), received %d, not received %d (%.1f%%), "
+                + "%.1f producer bytes/item, %d requests (%d rejected), %d bytes",
+            protocol,
+            faults,
+            items,
+            result.produced,
+            result.produced * 1000.0 / result.elapsedMillis,
+            result.received,
+            result.produced - result.received,
+            (result.produced - result.received) * 100.0 / produced,
+            (double) result.allocatedBytes / produced,
+            collector.getRequestCount(),
+            collector.getRejectedRequestCount(),
+            collector.getReceivedBytes()));
+  }
+
+  /**
+   * Calls {@code emit} from {@link #THREADS} threads for {@link #DURATION_MILLIS}, then runs {@code
+   * shutdown} to flush the pipeline.
+   */
+  private static Result run(Emitter emit, Runnable shutdown, LongSupplier received)
+      throws InterruptedException {
+    com.sun.management.ThreadMXBean threadBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    LongAdder produced = new LongAdder();
+    LongAdder allocatedBytes = new LongAdder();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  start.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+                long threadId = Thread.currentThread().getId();
+                long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+                long count = 0;
+                while (System.nanoTime() < deadline) {
+                  emit.emit(count++);
+                }
+                allocatedBytes.add(threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore);
+                produced.add(count);
+              },
+              "perf-producer-" + t);
+      thread.start();
+      threads.add(thread);
+    }
+
+    long startNanos = System.nanoTime();
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    shutdown.run();
+
+    return new Result(produced.sum(), received.getAsLong(), allocatedBytes.sum(), elapsedMillis);
+  }
+
+  @FunctionalInterface
+  private interface Emitter {
+    void emit(long i);
+  }
+
+  private static final class Result {
+    private final long produced;
+    private final long received;
+    private final long allocatedBytes;
+    private final long elapsedMillis;
+
+    private Result(long produced, long received, long allocatedBytes, long elapsedMillis) {
+      this.produced = produced;
+      this.received = received;
+      this.allocatedBytes = allocatedBytes;
+      this.elapsedMillis = elapsedMillis;
+    }
+  }
+}
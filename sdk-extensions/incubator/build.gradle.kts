@@ -5,6 +5,7 @@ plugins {
   id("otel.publish-conventions")
 
   id("otel.animalsniffer-conventions")
+  id("otel.jmh-conventions")
 
   id("de.undercouch.download")
   id("org.jsonschema2pojo")
@@ -0,0 +1,111 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per span overhead of the {@link SpanMetricsProcessor}, with the same spans as {@code
+ * SpanPipelineBenchmark} but without exporting them, so that {@code none} is the cost of the spans
+ * alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpanMetricsProcessorBenchmark {
+
+  private static final int SPANS = 100;
+
+  @Param({"none", "spanMetrics"})
+  String processor;
+
+  private SdkMeterProvider meterProvider;
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(new NoopMetricReader()).build();
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder();
+    if (processor.equals("spanMetrics")) {
+      builder.addSpanProcessor(
+          SpanMetricsProcessor.builder(meterProvider)
+              .addDimension(stringKey("benchmarkAttribute_0"))
+              .build());
+    }
+    tracerProvider = builder.build();
+    tracer = tracerProvider.get("PipelineBenchmarkTracer");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SPANS)
+  public void span() {
+    for (int j = 0; j < SPANS; j++) {
+      Span span =
+          tracer.spanBuilder("PipelineBenchmarkSpan " + j).setSpanKind(SpanKind.SERVER).startSpan();
+      for (int i = 0; i < 10; i++) {
+        span.setAttribute("benchmarkAttribute_" + i, "benchmarkAttrValue_" + i);
+      }
+      span.end();
+    }
+  }
+
+  private static final class NoopMetricReader implements MetricReader {
+    @Override
+    public void register(CollectionRegistration registration) {}
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+      return AggregationTemporality.CUMULATIVE;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
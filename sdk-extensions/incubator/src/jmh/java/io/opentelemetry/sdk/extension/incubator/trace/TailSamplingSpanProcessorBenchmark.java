@@ -0,0 +1,143 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link TailSamplingSpanProcessor}.
+ *
+ * <p>The {@code retainedBytesPerBufferedSpan} counter is the heap retained by each buffered span,
+ * including the span itself, measured once {@code bufferedSpans} spans of undecided traces are
+ * buffered. {@code trace} ends a trace of {@code spansPerTrace} spans, root last, which no policy
+ * keeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TailSamplingSpanProcessorBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"10"})
+    int spansPerTrace;
+
+    @Param({"100000"})
+    int bufferedSpans;
+
+    SdkTracerProvider tracerProvider;
+    Tracer tracer;
+    long retainedBytesPerBufferedSpan;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      TailSamplingSpanProcessor processor =
+          TailSamplingSpanProcessor.builder(new NoopSpanProcessor())
+              .addPolicy(TailSamplingPolicy.error())
+              .setDecisionWait(Duration.ofHours(1))
+              .setMaxBufferedSpans(bufferedSpans * 2)
+              .build();
+      tracerProvider = SdkTracerProvider.builder().addSpanProcessor(processor).build();
+      tracer = tracerProvider.get("benchmark");
+
+      long before = usedHeap();
+      // The roots never end, so all children stay buffered
+      for (int i = 0; i < bufferedSpans / spansPerTrace; i++) {
+        Context parent = Context.root().with(tracer.spanBuilder("root").startSpan());
+        for (int j = 0; j < spansPerTrace; j++) {
+          tracer
+              .spanBuilder("child")
+              .setParent(parent)
+              .setAttribute("http.method", "GET")
+              .startSpan()
+              .end();
+        }
+      }
+      retainedBytesPerBufferedSpan = (usedHeap() - before) / processor.getBufferedSpans();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    private static long usedHeap() {
+      Runtime runtime = Runtime.getRuntime();
+      for (int i = 0; i < 3; i++) {
+        System.gc();
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+    private BenchmarkState state;
+
+    @Setup(Level.Iteration)
+    public void setup(BenchmarkState state) {
+      this.state = state;
+    }
+
+    public long retainedBytesPerBufferedSpan() {
+      return state.retainedBytesPerBufferedSpan;
+    }
+  }
+
+  @Benchmark
+  public void trace(BenchmarkState state, Counters counters) {
+    Span root = state.tracer.spanBuilder("root").startSpan();
+    Context parent = Context.root().with(root);
+    for (int i = 1; i < state.spansPerTrace; i++) {
+      state.tracer.spanBuilder("child").setParent(parent).startSpan().end();
+    }
+    root.end();
+  }
+
+  private static final class NoopSpanProcessor implements SpanProcessor {
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+      return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {}
+
+    @Override
+    public boolean isEndRequired() {
+      return false;
+    }
+  }
+}
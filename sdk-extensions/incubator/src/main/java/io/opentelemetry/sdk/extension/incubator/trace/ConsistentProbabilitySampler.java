@@ -0,0 +1,290 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link Sampler} implementing consistent probability sampling, as described by the <a
+ * href="https://opentelemetry.io/docs/specs/otel/trace/tracestate-probability-sampling/">tracestate
+ * probability sampling</a> specification.
+ *
+ * <p>The sampling probability is converted once into a 56 bit rejection threshold, and a span is
+ * sampled when the randomness of its trace, which is the explicit {@code rv} value from the {@code
+ * ot} tracestate entry of its parent if present or else the 56 least significant bits of its trace
+ * ID, is at least the threshold. Sampled spans record the threshold as the {@code th} value of the
+ * {@code ot} tracestate entry, so that downstream consumers can compute the adjusted count of each
+ * span with {@link #getAdjustedCount(TraceState)}.
+ */
+@Immutable
+public final class ConsistentProbabilitySampler implements Sampler {
+
+  static final String OTEL_TRACE_STATE_KEY = "ot";
+
+  private static final int RANDOMNESS_BITS = 56;
+  private static final long MAX_THRESHOLD = 1L << RANDOMNESS_BITS;
+  private static final long RANDOMNESS_MASK = MAX_THRESHOLD - 1;
+  private static final int THRESHOLD_HEX_DIGITS = RANDOMNESS_BITS / 4;
+
+  private static final SamplingResult NEGATIVE_SAMPLING_RESULT = SamplingResult.drop();
+
+  private final long threshold;
+  private final String description;
+  @Nullable private final SamplingResult positiveSamplingResult;
+
+  /**
+   * Returns a new {@link ConsistentProbabilitySampler} that samples the given ratio of traces.
+   *
+   * @param ratio the sampling probability, in the range {@code [0.0, 1.0]}.
+   */
+  public static ConsistentProbabilitySampler create(double ratio) {
+    if (ratio < 0.0 || ratio > 1.0) {
+      throw new IllegalArgumentException("ratio must be in range [0.0, 1.0]");
+    }
+    return new ConsistentProbabilitySampler(
+        MAX_THRESHOLD - (long) (ratio * MAX_THRESHOLD), decimalFormat(ratio));
+  }
+
+  private ConsistentProbabilitySampler(long threshold, String ratio) {
+    this.threshold = threshold;
+    if (threshold == MAX_THRESHOLD) {
+      // A probability of zero has no encoding, as nothing is ever sampled.
+      this.positiveSamplingResult = null;
+      this.description = "ConsistentProbabilityBased{" + ratio + "}";
+    } else {
+      String encodedThreshold = encodeThreshold(threshold);
+      this.positiveSamplingResult = new ThresholdSamplingResult("th:" + encodedThreshold);
+      this.description = "ConsistentProbabilityBased{" + ratio + ", th:" + encodedThreshold + "}";
+    }
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    if (positiveSamplingResult == null) {
+      return NEGATIVE_SAMPLING_RESULT;
+    }
+    long randomness = -1;
+    String otValue =
+        Span.fromContext(parentContext).getSpanContext().getTraceState().get(OTEL_TRACE_STATE_KEY);
+    if (otValue != null) {
+      randomness = parseRandomness(otValue);
+    }
+    if (randomness < 0) {
+      randomness = OtelEncodingUtils.longFromBase16String(traceId, 16) & RANDOMNESS_MASK;
+    }
+    return randomness >= threshold ? positiveSamplingResult : NEGATIVE_SAMPLING_RESULT;
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (!(obj instanceof ConsistentProbabilitySampler)) {
+      return false;
+    }
+    ConsistentProbabilitySampler that = (ConsistentProbabilitySampler) obj;
+    return threshold == that.threshold;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(threshold);
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  /**
+   * Returns the adjusted count of a sampled span with the given {@link TraceState}, which is the
+   * number of spans in the population it represents. Spans without a valid threshold, such as spans
+   * not sampled by a consistent probability sampler, are assumed to represent only themselves and
+   * have an adjusted count of {@code 1}.
+   */
+  public static double getAdjustedCount(TraceState traceState) {
+    String otValue = traceState.get(OTEL_TRACE_STATE_KEY);
+    if (otValue == null) {
+      return 1.0;
+    }
+    long threshold = parseThreshold(otValue);
+    if (threshold < 0) {
+      return 1.0;
+    }
+    return (double) MAX_THRESHOLD / (MAX_THRESHOLD - threshold);
+  }
+
+  // Visible for testing
+  long getThreshold() {
+    return threshold;
+  }
+
+  /** Encodes the threshold as up to 14 hex digits, without trailing zeros. */
+  static String encodeThreshold(long threshold) {
+    if (threshold == 0) {
+      return "0";
+    }
+    char[] chars = new char[THRESHOLD_HEX_DIGITS];
+    int length = 0;
+    for (int i = 0; i < THRESHOLD_HEX_DIGITS; i++) {
+      int digit = (int) (threshold >>> (RANDOMNESS_BITS - 4 * (i + 1))) & 0xf;
+      chars[i] = Character.forDigit(digit, 16);
+      if (digit != 0) {
+        length = i + 1;
+      }
+    }
+    return new String(chars, 0, length);
+  }
+
+  /** Returns the {@code rv} value of the {@code ot} entry, or {@code -1} if absent or invalid. */
+  static long parseRandomness(String otValue) {
+    int start = findSubKey(otValue, "rv:");
+    if (start < 0) {
+      return -1;
+    }
+    int end = subKeyEnd(otValue, start);
+    if (end - start != THRESHOLD_HEX_DIGITS) {
+      return -1;
+    }
+    return parseHex(otValue, start, end);
+  }
+
+  /** Returns the {@code th} value of the {@code ot} entry, or {@code -1} if absent or invalid. */
+  static long parseThreshold(String otValue) {
+    int start = findSubKey(otValue, "th:");
+    if (start < 0) {
+      return -1;
+    }
+    int end = subKeyEnd(otValue, start);
+    if (end == start || end - start > THRESHOLD_HEX_DIGITS) {
+      return -1;
+    }
+    long value = parseHex(otValue, start, end);
+    // Omitted trailing digits are zeros.
+    return value < 0 ? -1 : value << (4 * (THRESHOLD_HEX_DIGITS - (end - start)));
+  }
+
+  /** Returns the index of the value of the given sub-key, or {@code -1} if absent. */
+  private static int findSubKey(String otValue, String prefix) {
+    int index = 0;
+    while (index < otValue.length()) {
+      if (otValue.startsWith(prefix, index)) {
+        return index + prefix.length();
+      }
+      int separator = otValue.indexOf(';', index);
+      if (separator < 0) {
+        return -1;
+      }
+      index = separator + 1;
+    }
+    return -1;
+  }
+
+  private static int subKeyEnd(String otValue, int start) {
+    int end = otValue.indexOf(';', start);
+    return end < 0 ? otValue.length() : end;
+  }
+
+  private static long parseHex(String value, int start, int end) {
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      // Only lowercase hex digits are valid.
+      if (!OtelEncodingUtils.isValidBase16Character(c)) {
+        return -1;
+      }
+      result = (result << 4) | Character.digit(c, 16);
+    }
+    return result;
+  }
+
+  private static String decimalFormat(double value) {
+    DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance();
+    decimalFormatSymbols.setDecimalSeparator('.');
+
+    DecimalFormat decimalFormat = new DecimalFormat("0.000000", decimalFormatSymbols);
+    return decimalFormat.format(value);
+  }
+
+  /**
+   * The result of sampling a span, which records the threshold in the {@code ot} tracestate entry.
+   * Root spans, which make up most of the spans sampled by this sampler, share a precomputed {@link
+   * TraceState}.
+   */
+  @Immutable
+  private static final class ThresholdSamplingResult implements SamplingResult {
+
+    private final String thresholdEntry;
+    private final TraceState rootTraceState;
+
+    private ThresholdSamplingResult(String thresholdEntry) {
+      this.thresholdEntry = thresholdEntry;
+      this.rootTraceState = TraceState.builder().put(OTEL_TRACE_STATE_KEY, thresholdEntry).build();
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return SamplingDecision.RECORD_AND_SAMPLE;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return Attributes.empty();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      if (parentTraceState.isEmpty()) {
+        return rootTraceState;
+      }
+      String otValue = parentTraceState.get(OTEL_TRACE_STATE_KEY);
+      String updatedOtValue =
+          otValue == null ? thresholdEntry : replaceThreshold(otValue, thresholdEntry);
+      if (updatedOtValue.equals(otValue)) {
+        return parentTraceState;
+      }
+      return parentTraceState.toBuilder().put(OTEL_TRACE_STATE_KEY, updatedOtValue).build();
+    }
+
+    /** Returns the {@code ot} entry with its {@code th} sub-key replaced by the given one. */
+    private static String replaceThreshold(String otValue, String thresholdEntry) {
+      StringBuilder result = new StringBuilder(otValue.length() + thresholdEntry.length() + 1);
+      result.append(thresholdEntry);
+      int index = 0;
+      while (index < otValue.length()) {
+        int end = subKeyEnd(otValue, index);
+        if (end > index && !otValue.startsWith("th:", index)) {
+          result.append(';').append(otValue, index, end);
+        }
+        index = end + 1;
+      }
+      return result.toString();
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link SpanProcessor} which records the request rate, error rate and duration of ended spans as
+ * metrics, so that they stay exact however aggressively spans are sampled.
+ *
+ * <p>Every span records to the {@code traces.span.metrics.calls} counter and the {@code
+ * traces.span.metrics.duration} histogram, in seconds, with the span name, kind and status code
+ * plus the values of the configured dimension attributes. The attributes of each combination are
+ * built once and reused. Once the number of combinations reaches the maximum cardinality, further
+ * combinations record with the attribute {@code otel.metric.overflow=true} instead.
+ *
+ * <p>Only spans which are recording reach span processors. To record metrics for spans which are
+ * not exported, use a sampler which returns {@link
+ * io.opentelemetry.sdk.trace.samplers.SamplingDecision#RECORD_ONLY} for them, or sample with a
+ * {@link TailSamplingSpanProcessor}.
+ */
+public final class SpanMetricsProcessor implements SpanProcessor {
+
+  private static final String INSTRUMENTATION_SCOPE_NAME =
+      "io.opentelemetry.sdk.extension.incubator.spanmetrics";
+
+  // Visible for testing
+  static final AttributeKey<String> SPAN_NAME = stringKey("span.name");
+  // Visible for testing
+  static final AttributeKey<String> SPAN_KIND = stringKey("span.kind");
+  // Visible for testing
+  static final AttributeKey<String> STATUS_CODE = stringKey("status.code");
+  // Visible for testing
+  static final Attributes OVERFLOW_ATTRIBUTES =
+      Attributes.of(booleanKey("otel.metric.overflow"), true);
+
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final List<AttributeKey<?>> dimensions;
+  private final int maxCardinality;
+  private final LongCounter calls;
+  private final DoubleHistogram duration;
+  private final ConcurrentHashMap<DimensionKey, Attributes> attributesByKey =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Returns a new {@link SpanMetricsProcessorBuilder} to construct a {@link SpanMetricsProcessor}
+   * recording to {@code meterProvider}.
+   */
+  public static SpanMetricsProcessorBuilder builder(MeterProvider meterProvider) {
+    return new SpanMetricsProcessorBuilder(meterProvider);
+  }
+
+  SpanMetricsProcessor(
+      MeterProvider meterProvider,
+      List<AttributeKey<?>> dimensions,
+      int maxCardinality,
+      List<Double> durationBucketBoundaries) {
+    this.dimensions = dimensions;
+    this.maxCardinality = maxCardinality;
+    Meter meter = meterProvider.get(INSTRUMENTATION_SCOPE_NAME);
+    calls =
+        meter
+            .counterBuilder("traces.span.metrics.calls")
+            .setDescription("The number of ended spans")
+            .setUnit("{call}")
+            .build();
+    duration =
+        meter
+            .histogramBuilder("traces.span.metrics.duration")
+            .setDescription("The duration of ended spans")
+            .setUnit("s")
+            .setExplicitBucketBoundariesAdvice(durationBucketBoundaries)
+            .build();
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+  @Override
+  public boolean isStartRequired() {
+    return false;
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    // Ended spans return their own state, without copying it
+    SpanData spanData = span.toSpanData();
+    Attributes attributes = attributesFor(spanData);
+    calls.add(1, attributes);
+    duration.record(
+        (spanData.getEndEpochNanos() - spanData.getStartEpochNanos()) / NANOS_PER_SECOND,
+        attributes);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  private Attributes attributesFor(SpanData spanData) {
+    Attributes spanAttributes = spanData.getAttributes();
+    Object[] values = new Object[dimensions.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = spanAttributes.get(dimensions.get(i));
+    }
+    DimensionKey key =
+        new DimensionKey(
+            spanData.getName(), spanData.getKind(), spanData.getStatus().getStatusCode(), values);
+
+    Attributes attributes = attributesByKey.get(key);
+    if (attributes != null) {
+      return attributes;
+    }
+    if (attributesByKey.size() >= maxCardinality) {
+      return OVERFLOW_ATTRIBUTES;
+    }
+    return attributesByKey.computeIfAbsent(key, this::buildAttributes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Attributes buildAttributes(DimensionKey key) {
+    AttributesBuilder builder =
+        Attributes.builder()
+            .put(SPAN_NAME, key.name)
+            .put(SPAN_KIND, key.kind.name())
+            .put(STATUS_CODE, key.statusCode.name());
+    for (int i = 0; i < key.values.length; i++) {
+      Object value = key.values[i];
+      if (value != null) {
+        builder.put((AttributeKey<Object>) dimensions.get(i), value);
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public String toString() {
+    return "SpanMetricsProcessor{"
+        + "dimensions="
+        + dimensions
+        + ", maxCardinality="
+        + maxCardinality
+        + '}';
+  }
+
+  private static final class DimensionKey {
+    private final String name;
+    private final SpanKind kind;
+    private final StatusCode statusCode;
+    private final Object[] values;
+    private final int hashCode;
+
+    private DimensionKey(String name, SpanKind kind, StatusCode statusCode, Object[] values) {
+      this.name = name;
+      this.kind = kind;
+      this.statusCode = statusCode;
+      this.values = values;
+      int hash = name.hashCode();
+      hash = 31 * hash + kind.hashCode();
+      hash = 31 * hash + statusCode.hashCode();
+      hash = 31 * hash + Arrays.hashCode(values);
+      this.hashCode = hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof DimensionKey)) {
+        return false;
+      }
+      DimensionKey that = (DimensionKey) o;
+      return hashCode == that.hashCode
+          && kind == that.kind
+          && statusCode == that.statusCode
+          && name.equals(that.name)
+          && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/** Builder class for {@link SpanMetricsProcessor}. */
+public final class SpanMetricsProcessorBuilder {
+
+  // Visible for testing
+  static final int DEFAULT_MAX_CARDINALITY = 1000;
+
+  private static final List<Double> DEFAULT_DURATION_BUCKET_BOUNDARIES =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              0.005, 0.01, 0.025, 0.05, 0.075, 0.1, 0.25, 0.5, 0.75, 1.0, 2.5, 5.0, 7.5, 10.0));
+
+  private final MeterProvider meterProvider;
+  private final List<AttributeKey<?>> dimensions = new ArrayList<>();
+  private int maxCardinality = DEFAULT_MAX_CARDINALITY;
+  private List<Double> durationBucketBoundaries = DEFAULT_DURATION_BUCKET_BOUNDARIES;
+
+  SpanMetricsProcessorBuilder(MeterProvider meterProvider) {
+    this.meterProvider = requireNonNull(meterProvider, "meterProvider");
+  }
+
+  /**
+   * Adds a span attribute whose value is recorded as a metric attribute. Spans without the
+   * attribute record without it.
+   */
+  public SpanMetricsProcessorBuilder addDimension(AttributeKey<?> key) {
+    requireNonNull(key, "key");
+    dimensions.add(key);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of distinct metric attribute combinations. Spans with further
+   * combinations record with the attribute {@code otel.metric.overflow=true}. If unset, defaults to
+   * {@value DEFAULT_MAX_CARDINALITY}.
+   */
+  public SpanMetricsProcessorBuilder setMaxCardinality(int maxCardinality) {
+    checkArgument(maxCardinality > 0, "maxCardinality must be positive");
+    this.maxCardinality = maxCardinality;
+    return this;
+  }
+
+  /**
+   * Sets the bucket boundaries, in seconds, advised for the duration histogram. If unset, defaults
+   * to the boundaries advised for HTTP request durations.
+   */
+  public SpanMetricsProcessorBuilder setDurationBucketBoundaries(List<Double> bucketBoundaries) {
+    requireNonNull(bucketBoundaries, "bucketBoundaries");
+    this.durationBucketBoundaries = Collections.unmodifiableList(new ArrayList<>(bucketBoundaries));
+    return this;
+  }
+
+  /** Returns a new {@link SpanMetricsProcessor}. */
+  public SpanMetricsProcessor build() {
+    return new SpanMetricsProcessor(
+        meterProvider,
+        Collections.unmodifiableList(new ArrayList<>(dimensions)),
+        maxCardinality,
+        durationBucketBoundaries);
+  }
+}
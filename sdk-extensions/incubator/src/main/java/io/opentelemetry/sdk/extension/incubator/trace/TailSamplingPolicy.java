@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Decides whether a buffered trace is kept by a {@link TailSamplingSpanProcessor}. A trace is kept
+ * if any of the processor's policies keeps it.
+ */
+@FunctionalInterface
+public interface TailSamplingPolicy {
+
+  /** Returns a policy keeping traces with at least one span with {@link StatusCode#ERROR}. */
+  static TailSamplingPolicy error() {
+    return anySpan(span -> span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR);
+  }
+
+  /** Returns a policy keeping traces with at least one span lasting {@code threshold} or longer. */
+  static TailSamplingPolicy latency(Duration threshold) {
+    long thresholdNanos = requireNonNull(threshold, "threshold").toNanos();
+    return anySpan(span -> span.getLatencyNanos() >= thresholdNanos);
+  }
+
+  /** Returns a policy keeping traces with at least one span with the attribute {@code value}. */
+  static <T> TailSamplingPolicy attribute(AttributeKey<T> key, T value) {
+    requireNonNull(key, "key");
+    requireNonNull(value, "value");
+    return anySpan(span -> value.equals(span.getAttribute(key)));
+  }
+
+  /** Returns a policy keeping traces with at least one span matching {@code predicate}. */
+  static TailSamplingPolicy anySpan(Predicate<ReadableSpan> predicate) {
+    requireNonNull(predicate, "predicate");
+    return spans -> {
+      for (ReadableSpan span : spans) {
+        if (predicate.test(span)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  /**
+   * Returns a policy keeping up to {@code tracesPerSecond} traces regardless of their content.
+   * Since policies are evaluated in order until one keeps the trace, add it last so that it only
+   * spends its budget on traces no other policy kept.
+   */
+  static TailSamplingPolicy rateLimited(double tracesPerSecond) {
+    if (tracesPerSecond <= 0) {
+      throw new IllegalArgumentException("tracesPerSecond must be positive");
+    }
+    RateLimiter rateLimiter =
+        new RateLimiter(tracesPerSecond, Math.max(tracesPerSecond, 1.0), Clock.getDefault());
+    return spans -> rateLimiter.trySpend(1.0);
+  }
+
+  /**
+   * Returns whether to keep the trace made of {@code spans}, the ended spans buffered for it. The
+   * list is not modified concurrently, but must not be retained.
+   */
+  boolean shouldKeep(List<ReadableSpan> spans);
+}
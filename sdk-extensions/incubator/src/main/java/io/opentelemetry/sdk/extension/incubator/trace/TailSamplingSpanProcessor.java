@@ -0,0 +1,335 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * A {@link SpanProcessor} which buffers ended spans per trace and only passes the spans of the
+ * traces kept by its {@link TailSamplingPolicy policies} on to a downstream processor, typically a
+ * {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor}.
+ *
+ * <p>A trace is decided when its local root span ends, or once the decision wait elapsed since its
+ * first span ended, whichever comes first. Spans which end after their trace was decided follow the
+ * decision, which is remembered for as long as the decision wait. The number of buffered spans and
+ * remembered decisions is bounded: when the bound is exceeded, the oldest decisions are forgotten
+ * first, then the oldest undecided trace is decided early with the spans buffered so far.
+ */
+public final class TailSamplingSpanProcessor implements SpanProcessor {
+
+  private static final Logger logger = Logger.getLogger(TailSamplingSpanProcessor.class.getName());
+
+  private final SpanProcessor downstream;
+  private final List<TailSamplingPolicy> policies;
+  private final long decisionWaitNanos;
+  private final int maxBufferedSpans;
+  private final Clock clock;
+  @Nullable private final ScheduledExecutorService sweeper;
+
+  private final Object lock = new Object();
+
+  // Undecided traces, in the order their first span ended.
+  @GuardedBy("lock")
+  private final LinkedHashMap<String, TraceBuffer> traces = new LinkedHashMap<>();
+
+  // Decided traces, in the order they were decided.
+  @GuardedBy("lock")
+  private final LinkedHashMap<String, TraceBuffer> decisions = new LinkedHashMap<>();
+
+  private final AtomicInteger bufferedSpans = new AtomicInteger();
+  // The size of decisions, read without the lock to check the bound.
+  private volatile int decisionCount;
+  private final AtomicBoolean isShutdown = new AtomicBoolean();
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessorBuilder} to construct a {@link
+   * TailSamplingSpanProcessor} passing kept spans on to {@code downstream}.
+   */
+  public static TailSamplingSpanProcessorBuilder builder(SpanProcessor downstream) {
+    return new TailSamplingSpanProcessorBuilder(downstream);
+  }
+
+  TailSamplingSpanProcessor(
+      SpanProcessor downstream,
+      List<TailSamplingPolicy> policies,
+      long decisionWaitNanos,
+      int maxBufferedSpans,
+      Clock clock,
+      boolean scheduleSweep) {
+    this.downstream = downstream;
+    this.policies = policies;
+    this.decisionWaitNanos = decisionWaitNanos;
+    this.maxBufferedSpans = maxBufferedSpans;
+    this.clock = clock;
+    if (scheduleSweep) {
+      sweeper =
+          Executors.newSingleThreadScheduledExecutor(
+              new DaemonThreadFactory("TailSamplingSpanProcessor_Sweeper"));
+      long sweepIntervalNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), decisionWaitNanos / 4);
+      ScheduledFuture<?> unused =
+          sweeper.scheduleWithFixedDelay(
+              this::sweep, sweepIntervalNanos, sweepIntervalNanos, TimeUnit.NANOSECONDS);
+    } else {
+      sweeper = null;
+    }
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    if (downstream.isStartRequired()) {
+      downstream.onStart(parentContext, span);
+    }
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return downstream.isStartRequired();
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    if (isShutdown.get()) {
+      return;
+    }
+    String traceId = span.getSpanContext().getTraceId();
+    TraceBuffer buffer;
+    synchronized (lock) {
+      buffer = traces.get(traceId);
+      if (buffer == null) {
+        buffer = decisions.get(traceId);
+      }
+      if (buffer == null) {
+        buffer = new TraceBuffer(traceId, clock.nanoTime());
+        traces.put(traceId, buffer);
+      }
+    }
+
+    Boolean decision = buffer.add(span);
+    if (decision != null) {
+      // The trace was already decided, the late span follows the decision
+      if (decision) {
+        downstream.onEnd(span);
+      }
+      return;
+    }
+
+    if (isLocalRoot(span)) {
+      decide(buffer);
+    }
+    if (bufferedSpans.incrementAndGet() + decisionCount > maxBufferedSpans) {
+      evictOldest();
+    }
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return true;
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (!isShutdown.compareAndSet(false, true)) {
+      return CompletableResultCode.ofSuccess();
+    }
+    if (sweeper != null) {
+      sweeper.shutdown();
+    }
+    decideAll();
+    return downstream.shutdown();
+  }
+
+  /** Decides all buffered traces now, then flushes the downstream processor. */
+  @Override
+  public CompletableResultCode forceFlush() {
+    decideAll();
+    return downstream.forceFlush();
+  }
+
+  /** Returns the number of spans buffered for undecided traces. */
+  int getBufferedSpans() {
+    return bufferedSpans.get();
+  }
+
+  /** Returns the number of decisions remembered for spans ending after their trace was decided. */
+  int getDecisionCount() {
+    return decisionCount;
+  }
+
+  /** Decides the traces buffered for longer than the decision wait, and forgets old decisions. */
+  void sweep() {
+    try {
+      long now = clock.nanoTime();
+      List<TraceBuffer> expired = new ArrayList<>();
+      synchronized (lock) {
+        for (TraceBuffer buffer : traces.values()) {
+          if (now - buffer.arrivalNanos < decisionWaitNanos) {
+            break;
+          }
+          expired.add(buffer);
+        }
+        Iterator<TraceBuffer> it = decisions.values().iterator();
+        while (it.hasNext() && now - it.next().decisionNanos >= decisionWaitNanos) {
+          it.remove();
+        }
+        decisionCount = decisions.size();
+      }
+      for (TraceBuffer buffer : expired) {
+        decide(buffer);
+      }
+    } catch (RuntimeException e) {
+      logger.log(Level.WARNING, "Exception while deciding expired traces", e);
+    }
+  }
+
+  /**
+   * Forgets the oldest decisions, then decides the oldest undecided traces, until the bound is no
+   * longer exceeded.
+   */
+  private void evictOldest() {
+    while (true) {
+      TraceBuffer oldest;
+      synchronized (lock) {
+        Iterator<TraceBuffer> it = decisions.values().iterator();
+        while (bufferedSpans.get() + decisions.size() > maxBufferedSpans && it.hasNext()) {
+          it.next();
+          it.remove();
+        }
+        decisionCount = decisions.size();
+        if (bufferedSpans.get() + decisions.size() <= maxBufferedSpans || traces.isEmpty()) {
+          return;
+        }
+        oldest = traces.values().iterator().next();
+      }
+      decide(oldest);
+    }
+  }
+
+  private void decideAll() {
+    List<TraceBuffer> undecided;
+    synchronized (lock) {
+      undecided = new ArrayList<>(traces.values());
+    }
+    for (TraceBuffer buffer : undecided) {
+      decide(buffer);
+    }
+  }
+
+  /** Decides the trace of {@code buffer}, unless it is already being decided. */
+  private void decide(TraceBuffer buffer) {
+    synchronized (lock) {
+      if (!traces.remove(buffer.traceId, buffer)) {
+        return;
+      }
+      // Found by spans of the trace ending meanwhile, which wait for the decision below
+      buffer.decisionNanos = clock.nanoTime();
+      decisions.put(buffer.traceId, buffer);
+      decisionCount = decisions.size();
+    }
+    List<ReadableSpan> spans;
+    boolean keep;
+    synchronized (buffer) {
+      spans = requireNonNull(buffer.spans);
+      keep = shouldKeep(spans);
+      buffer.spans = null;
+      buffer.keep = keep;
+    }
+    bufferedSpans.addAndGet(-spans.size());
+    if (keep) {
+      for (ReadableSpan span : spans) {
+        downstream.onEnd(span);
+      }
+    }
+  }
+
+  private boolean shouldKeep(List<ReadableSpan> spans) {
+    for (TailSamplingPolicy policy : policies) {
+      try {
+        if (policy.shouldKeep(spans)) {
+          return true;
+        }
+      } catch (RuntimeException e) {
+        logger.log(Level.WARNING, "Exception thrown by tail sampling policy " + policy, e);
+      }
+    }
+    return false;
+  }
+
+  private static boolean isLocalRoot(ReadableSpan span) {
+    SpanContext parent = span.getParentSpanContext();
+    return !parent.isValid() || parent.isRemote();
+  }
+
+  @Override
+  public String toString() {
+    return "TailSamplingSpanProcessor{"
+        + "downstream="
+        + downstream
+        + ", policies="
+        + policies
+        + ", decisionWaitNanos="
+        + decisionWaitNanos
+        + ", maxBufferedSpans="
+        + maxBufferedSpans
+        + '}';
+  }
+
+  private static final class TraceBuffer {
+    private final String traceId;
+    private final long arrivalNanos;
+
+    // Set under the processor's lock when the trace is decided
+    private long decisionNanos;
+
+    // Null once the trace is decided
+    @GuardedBy("this")
+    @Nullable
+    private List<ReadableSpan> spans = new ArrayList<>();
+
+    @GuardedBy("this")
+    private boolean keep;
+
+    private TraceBuffer(String traceId, long arrivalNanos) {
+      this.traceId = traceId;
+      this.arrivalNanos = arrivalNanos;
+    }
+
+    /**
+     * Buffers {@code span} and returns {@code null} if the trace is undecided, otherwise returns
+     * the decision.
+     */
+    @Nullable
+    synchronized Boolean add(ReadableSpan span) {
+      if (spans == null) {
+        return keep;
+      }
+      spans.add(span);
+      return null;
+    }
+  }
+}
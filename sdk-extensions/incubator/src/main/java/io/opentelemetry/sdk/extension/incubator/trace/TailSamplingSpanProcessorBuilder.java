@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Builder class for {@link TailSamplingSpanProcessor}. */
+public final class TailSamplingSpanProcessorBuilder {
+
+  // Visible for testing
+  static final long DEFAULT_DECISION_WAIT_MILLIS = 10_000;
+  // Visible for testing
+  static final int DEFAULT_MAX_BUFFERED_SPANS = 20_000;
+
+  private final SpanProcessor downstream;
+  private final List<TailSamplingPolicy> policies = new ArrayList<>();
+  private long decisionWaitNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECISION_WAIT_MILLIS);
+  private int maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+  private Clock clock = Clock.getDefault();
+  private boolean scheduleSweep = true;
+
+  TailSamplingSpanProcessorBuilder(SpanProcessor downstream) {
+    this.downstream = requireNonNull(downstream, "downstream");
+  }
+
+  /**
+   * Adds a policy deciding which traces are kept. Policies are evaluated in the order they are
+   * added, and a trace is kept as soon as one of them keeps it. At least one policy is required.
+   */
+  public TailSamplingSpanProcessorBuilder addPolicy(TailSamplingPolicy policy) {
+    requireNonNull(policy, "policy");
+    policies.add(policy);
+    return this;
+  }
+
+  /**
+   * Sets how long to wait after the first span of a trace ended for its local root span to end,
+   * before deciding on the spans buffered so far. If unset, defaults to {@value
+   * DEFAULT_DECISION_WAIT_MILLIS}ms.
+   */
+  public TailSamplingSpanProcessorBuilder setDecisionWait(Duration decisionWait) {
+    requireNonNull(decisionWait, "decisionWait");
+    checkArgument(
+        !decisionWait.isNegative() && !decisionWait.isZero(), "decisionWait must be positive");
+    decisionWaitNanos = decisionWait.toNanos();
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of spans buffered across all undecided traces, where each decision
+   * remembered for the late spans of a decided trace counts as a span. When exceeded, the oldest
+   * decisions are forgotten first, then the oldest undecided trace is decided early. If unset,
+   * defaults to {@value DEFAULT_MAX_BUFFERED_SPANS}.
+   */
+  public TailSamplingSpanProcessorBuilder setMaxBufferedSpans(int maxBufferedSpans) {
+    checkArgument(maxBufferedSpans > 0, "maxBufferedSpans must be positive");
+    this.maxBufferedSpans = maxBufferedSpans;
+    return this;
+  }
+
+  // Visible for testing
+  TailSamplingSpanProcessorBuilder setClock(Clock clock) {
+    this.clock = requireNonNull(clock, "clock");
+    return this;
+  }
+
+  // Visible for testing
+  TailSamplingSpanProcessorBuilder setScheduleSweep(boolean scheduleSweep) {
+    this.scheduleSweep = scheduleSweep;
+    return this;
+  }
+
+  /**
+   * Returns a new {@link TailSamplingSpanProcessor}.
+   *
+   * @throws IllegalStateException if no policy was added
+   */
+  public TailSamplingSpanProcessor build() {
+    if (policies.isEmpty()) {
+      throw new IllegalStateException("At least one policy must be added");
+    }
+    return new TailSamplingSpanProcessor(
+        downstream,
+        Collections.unmodifiableList(new ArrayList<>(policies)),
+        decisionWaitNanos,
+        maxBufferedSpans,
+        clock,
+        scheduleSweep);
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ConsistentProbabilitySamplerTest {
+
+  private static final String PARENT_SPAN_ID = "8765432112345678";
+
+  private static SamplingResult sample(
+      ConsistentProbabilitySampler sampler, Context parentContext, String traceId) {
+    return sampler.shouldSample(
+        parentContext,
+        traceId,
+        "span",
+        SpanKind.INTERNAL,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+
+  private static Context parent(String traceId, TraceState traceState) {
+    return Context.root()
+        .with(
+            Span.wrap(
+                SpanContext.createFromRemoteParent(
+                    traceId, PARENT_SPAN_ID, TraceFlags.getSampled(), traceState)));
+  }
+
+  @Test
+  void invalidRatio() {
+    assertThatThrownBy(() -> ConsistentProbabilitySampler.create(-0.1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ConsistentProbabilitySampler.create(1.1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void threshold() {
+    assertThat(ConsistentProbabilitySampler.create(1.0).getThreshold()).isEqualTo(0);
+    assertThat(ConsistentProbabilitySampler.create(0.5).getThreshold()).isEqualTo(1L << 55);
+    assertThat(ConsistentProbabilitySampler.create(0.25).getDescription())
+        .isEqualTo("ConsistentProbabilityBased{0.250000, th:c}");
+    assertThat(ConsistentProbabilitySampler.create(1.0).getDescription())
+        .isEqualTo("ConsistentProbabilityBased{1.000000, th:0}");
+    assertThat(ConsistentProbabilitySampler.create(0.0).getDescription())
+        .isEqualTo("ConsistentProbabilityBased{0.000000}");
+    assertThat(ConsistentProbabilitySampler.create(0.25))
+        .isEqualTo(ConsistentProbabilitySampler.create(0.25))
+        .isNotEqualTo(ConsistentProbabilitySampler.create(0.5));
+  }
+
+  @Test
+  void encodeThreshold() {
+    assertThat(ConsistentProbabilitySampler.encodeThreshold(0)).isEqualTo("0");
+    assertThat(ConsistentProbabilitySampler.encodeThreshold(0xc0000000000000L)).isEqualTo("c");
+    assertThat(ConsistentProbabilitySampler.encodeThreshold(0x0f000000000000L)).isEqualTo("0f");
+    assertThat(ConsistentProbabilitySampler.encodeThreshold(0xfffffffffffffeL))
+        .isEqualTo("fffffffffffffe");
+  }
+
+  @Test
+  void parseOtValue() {
+    assertThat(ConsistentProbabilitySampler.parseThreshold("th:c")).isEqualTo(0xc0000000000000L);
+    assertThat(ConsistentProbabilitySampler.parseThreshold("rv:0123456789abcd;th:0f"))
+        .isEqualTo(0x0f000000000000L);
+    assertThat(ConsistentProbabilitySampler.parseThreshold("th:")).isEqualTo(-1);
+    assertThat(ConsistentProbabilitySampler.parseThreshold("th:C")).isEqualTo(-1);
+    assertThat(ConsistentProbabilitySampler.parseThreshold("th:000000000000000")).isEqualTo(-1);
+    assertThat(ConsistentProbabilitySampler.parseThreshold("xth:c")).isEqualTo(-1);
+
+    assertThat(ConsistentProbabilitySampler.parseRandomness("th:c;rv:0123456789abcd"))
+        .isEqualTo(0x0123456789abcdL);
+    assertThat(ConsistentProbabilitySampler.parseRandomness("rv:0123456789abc")).isEqualTo(-1);
+    assertThat(ConsistentProbabilitySampler.parseRandomness("th:c")).isEqualTo(-1);
+  }
+
+  @Test
+  void samplesOnTraceIdRandomness() {
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.25);
+    // Only the 56 least significant bits of the trace ID are compared to the threshold.
+    assertThat(sample(sampler, Context.root(), "ffffffffffffffff00c0000000000000").getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sample(sampler, Context.root(), "ffffffffffffffffffbfffffffffffff").getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(
+            sample(
+                    ConsistentProbabilitySampler.create(0.0),
+                    Context.root(),
+                    "ffffffffffffffffffffffffffffffff")
+                .getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void samplesOnExplicitRandomness() {
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.25);
+    String traceId = "ffffffffffffffff0000000000000000";
+    assertThat(sample(sampler, Context.root(), traceId).getDecision())
+        .isEqualTo(SamplingDecision.DROP);
+    Context parent = parent(traceId, TraceState.builder().put("ot", "rv:c0000000000000").build());
+    assertThat(sample(sampler, parent, traceId).getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  void recordsThresholdInTraceState() {
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.25);
+    String traceId = "ffffffffffffffffffffffffffffffff";
+
+    SamplingResult root = sample(sampler, Context.root(), traceId);
+    TraceState rootTraceState = root.getUpdatedTraceState(TraceState.getDefault());
+    assertThat(rootTraceState.asMap()).containsExactly(entry("ot", "th:c"));
+    // The trace state of root spans is shared.
+    assertThat(root.getUpdatedTraceState(TraceState.getDefault())).isSameAs(rootTraceState);
+
+    TraceState parentTraceState =
+        TraceState.builder().put("vendor", "value").put("ot", "th:8;rv:ffffffffffffff").build();
+    SamplingResult child = sample(sampler, parent(traceId, parentTraceState), traceId);
+    assertThat(child.getUpdatedTraceState(parentTraceState).asMap())
+        .containsOnly(entry("vendor", "value"), entry("ot", "th:c;rv:ffffffffffffff"));
+
+    TraceState sameThreshold = TraceState.builder().put("ot", "th:c").build();
+    assertThat(child.getUpdatedTraceState(sameThreshold)).isSameAs(sameThreshold);
+  }
+
+  @Test
+  void adjustedCount() {
+    assertThat(ConsistentProbabilitySampler.getAdjustedCount(TraceState.getDefault()))
+        .isEqualTo(1.0);
+    assertThat(
+            ConsistentProbabilitySampler.getAdjustedCount(
+                TraceState.builder().put("ot", "th:c").build()))
+        .isEqualTo(4.0);
+    assertThat(
+            ConsistentProbabilitySampler.getAdjustedCount(
+                TraceState.builder().put("ot", "rv:0123456789abcd;th:0").build()))
+        .isEqualTo(1.0);
+    assertThat(
+            ConsistentProbabilitySampler.getAdjustedCount(
+                TraceState.builder().put("ot", "th:invalid").build()))
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void sampledRatio() {
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.1);
+    IdGenerator idGenerator = IdGenerator.random();
+    int sampled = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (sample(sampler, Context.root(), idGenerator.generateTraceId()).getDecision()
+          == SamplingDecision.RECORD_AND_SAMPLE) {
+        sampled++;
+      }
+    }
+    assertThat(sampled).isBetween(9_000, 11_000);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SpanMetricsProcessorTest {
+
+  private static final AttributeKey<String> HTTP_ROUTE = stringKey("http.route");
+
+  private final InMemoryMetricReader reader = InMemoryMetricReader.create();
+  private final SdkMeterProvider meterProvider =
+      SdkMeterProvider.builder().registerMetricReader(reader).build();
+  private final TestClock clock = TestClock.create();
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+
+  private void setUp(SpanMetricsProcessorBuilder builder) {
+    tracerProvider =
+        SdkTracerProvider.builder()
+            .setClock(clock)
+            // Spans are recorded but not sampled, as when sampling aggressively
+            .setSampler(new RecordOnlySampler())
+            .addSpanProcessor(builder.build())
+            .build();
+    tracer = tracerProvider.get("test");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown();
+    }
+    meterProvider.shutdown();
+  }
+
+  @Test
+  void recordsCallsAndDuration() {
+    setUp(SpanMetricsProcessor.builder(meterProvider).addDimension(HTTP_ROUTE));
+
+    for (int i = 0; i < 3; i++) {
+      Span span =
+          tracer
+              .spanBuilder("GET /users")
+              .setSpanKind(SpanKind.SERVER)
+              .setAttribute(HTTP_ROUTE, "/users")
+              .setAttribute("http.request.method", "GET")
+              .startSpan();
+      clock.advance(Duration.ofMillis(20));
+      span.end();
+    }
+    Span error = tracer.spanBuilder("GET /users").setSpanKind(SpanKind.SERVER).startSpan();
+    clock.advance(Duration.ofSeconds(3));
+    error.setStatus(StatusCode.ERROR).end();
+
+    Attributes ok =
+        Attributes.builder()
+            .put(SpanMetricsProcessor.SPAN_NAME, "GET /users")
+            .put(SpanMetricsProcessor.SPAN_KIND, "SERVER")
+            .put(SpanMetricsProcessor.STATUS_CODE, "UNSET")
+            .put(HTTP_ROUTE, "/users")
+            .build();
+    Attributes failed =
+        Attributes.builder()
+            .put(SpanMetricsProcessor.SPAN_NAME, "GET /users")
+            .put(SpanMetricsProcessor.SPAN_KIND, "SERVER")
+            .put(SpanMetricsProcessor.STATUS_CODE, "ERROR")
+            .build();
+    assertThat(reader.collectAllMetrics())
+        .satisfiesExactlyInAnyOrder(
+            metric ->
+                assertThat(metric)
+                    .hasName("traces.span.metrics.calls")
+                    .hasUnit("{call}")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.isMonotonic()
+                                .hasPointsSatisfying(
+                                    point -> point.hasValue(3).hasAttributes(ok),
+                                    point -> point.hasValue(1).hasAttributes(failed))),
+            metric ->
+                assertThat(metric)
+                    .hasName("traces.span.metrics.duration")
+                    .hasUnit("s")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(3)
+                                        .hasSum(0.06)
+                                        .hasBucketCounts(
+                                            0, 0, 3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)
+                                        .hasAttributes(ok),
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasSum(3.0)
+                                        .hasBucketCounts(
+                                            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0)
+                                        .hasAttributes(failed))));
+  }
+
+  @Test
+  void overflowsBeyondMaxCardinality() {
+    setUp(
+        SpanMetricsProcessor.builder(meterProvider)
+            .addDimension(HTTP_ROUTE)
+            .setMaxCardinality(2)
+            .setDurationBucketBoundaries(Arrays.asList(1.0, 10.0)));
+
+    for (String route : Arrays.asList("/a", "/b", "/c", "/d", "/a")) {
+      tracer.spanBuilder("span").setAttribute(HTTP_ROUTE, route).startSpan().end();
+    }
+
+    assertThat(reader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("traces.span.metrics.calls")
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasValue(2).hasAttribute(HTTP_ROUTE, "/a"),
+                                point -> point.hasValue(1).hasAttribute(HTTP_ROUTE, "/b"),
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(SpanMetricsProcessor.OVERFLOW_ATTRIBUTES))))
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("traces.span.metrics.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point -> point.hasBucketBoundaries(1.0, 10.0),
+                                point -> point.hasBucketBoundaries(1.0, 10.0),
+                                point -> point.hasBucketBoundaries(1.0, 10.0))));
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("meterProvider");
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(meterProvider).setMaxCardinality(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxCardinality must be positive");
+    assertThatThrownBy(() -> SpanMetricsProcessor.builder(meterProvider).addDimension(null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("key");
+  }
+
+  private static final class RecordOnlySampler implements Sampler {
+    @Override
+    public SamplingResult shouldSample(
+        Context parentContext,
+        String traceId,
+        String name,
+        SpanKind spanKind,
+        Attributes attributes,
+        List<LinkData> parentLinks) {
+      return SamplingResult.recordOnly();
+    }
+
+    @Override
+    public String getDescription() {
+      return "RecordOnlySampler";
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.incubator.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TailSamplingSpanProcessorTest {
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+  private final TestClock clock = TestClock.create();
+
+  private TailSamplingSpanProcessor processor;
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+
+  private void setUp(TailSamplingSpanProcessorBuilder builder) {
+    processor = builder.setClock(clock).setScheduleSweep(false).build();
+    tracerProvider =
+        SdkTracerProvider.builder().setClock(clock).addSpanProcessor(processor).build();
+    tracer = tracerProvider.get("test");
+  }
+
+  private TailSamplingSpanProcessorBuilder builder() {
+    return TailSamplingSpanProcessor.builder(SimpleSpanProcessor.create(exporter));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (tracerProvider != null) {
+      tracerProvider.shutdown();
+    }
+  }
+
+  @Test
+  void keepsTracesMatchingPolicy() {
+    setUp(builder().addPolicy(TailSamplingPolicy.error()));
+
+    Span root = tracer.spanBuilder("ok").startSpan();
+    tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+    root.end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    Span errorRoot = tracer.spanBuilder("error").startSpan();
+    tracer
+        .spanBuilder("child")
+        .setParent(Context.root().with(errorRoot))
+        .startSpan()
+        .setStatus(StatusCode.ERROR)
+        .end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+    errorRoot.end();
+
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactlyInAnyOrder("child", "error");
+    assertThat(processor.getBufferedSpans()).isZero();
+  }
+
+  @Test
+  void lateSpansFollowDecision() {
+    setUp(builder().addPolicy(TailSamplingPolicy.attribute(stringKey("keep"), "yes")));
+
+    Span root = tracer.spanBuilder("root").setAttribute("keep", "yes").startSpan();
+    Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+    root.end();
+    assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+
+    child.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("root", "child");
+    assertThat(processor.getBufferedSpans()).isZero();
+    assertThat(processor.getDecisionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void decidesAfterDecisionWait() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.latency(Duration.ofSeconds(1)))
+            .setDecisionWait(Duration.ofSeconds(5)));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    Span child = tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan();
+    clock.advance(Duration.ofSeconds(2));
+    child.end();
+    assertThat(processor.getBufferedSpans()).isEqualTo(1);
+
+    clock.advance(Duration.ofSeconds(4));
+    processor.sweep();
+    assertThat(processor.getBufferedSpans()).isEqualTo(1);
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    clock.advance(Duration.ofSeconds(1));
+    processor.sweep();
+    assertThat(processor.getBufferedSpans()).isZero();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child");
+  }
+
+  @Test
+  void decidesOldestTraceWhenFull() {
+    setUp(builder().addPolicy(TailSamplingPolicy.anySpan(span -> true)).setMaxBufferedSpans(2));
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    Span root2 = tracer.spanBuilder("root2").startSpan();
+    tracer.spanBuilder("child1").setParent(Context.root().with(root1)).startSpan().end();
+    tracer.spanBuilder("child2").setParent(Context.root().with(root2)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    tracer.spanBuilder("child2b").setParent(Context.root().with(root2)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child1");
+    assertThat(processor.getBufferedSpans()).isEqualTo(2);
+    // The decision of the first trace is forgotten to stay within the bound
+    assertThat(processor.getDecisionCount()).isZero();
+  }
+
+  @Test
+  void forgetsOldestDecisionsWhenFull() {
+    setUp(
+        builder()
+            .addPolicy(TailSamplingPolicy.anySpan(span -> true))
+            .setMaxBufferedSpans(3)
+            .setDecisionWait(Duration.ofSeconds(5)));
+
+    Span root1 = tracer.spanBuilder("root1").startSpan();
+    Span late1 = tracer.spanBuilder("late1").setParent(Context.root().with(root1)).startSpan();
+    root1.end();
+    clock.advance(Duration.ofSeconds(1));
+    Span root2 = tracer.spanBuilder("root2").startSpan();
+    Span late2 = tracer.spanBuilder("late2").setParent(Context.root().with(root2)).startSpan();
+    root2.end();
+    assertThat(processor.getDecisionCount()).isEqualTo(2);
+
+    Span root3 = tracer.spanBuilder("root3").startSpan();
+    tracer.spanBuilder("child3").setParent(Context.root().with(root3)).startSpan().end();
+    tracer.spanBuilder("child3b").setParent(Context.root().with(root3)).startSpan().end();
+    assertThat(processor.getBufferedSpans()).isEqualTo(2);
+    assertThat(processor.getDecisionCount()).isEqualTo(1);
+
+    // The decision of the second trace is still remembered
+    late2.end();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("root1", "root2", "late2");
+
+    // The decision of the first trace was forgotten, so its late span is buffered on its own
+    late1.end();
+    assertThat(exporter.getFinishedSpanItems()).hasSize(3);
+    assertThat(processor.getBufferedSpans()).isEqualTo(3);
+    assertThat(processor.getDecisionCount()).isZero();
+
+    // Decisions are forgotten after the decision wait, as the late span is decided
+    root3.end();
+    assertThat(processor.getDecisionCount()).isEqualTo(1);
+    clock.advance(Duration.ofSeconds(5));
+    processor.sweep();
+    assertThat(processor.getBufferedSpans()).isZero();
+    assertThat(processor.getDecisionCount()).isEqualTo(1);
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("root1", "root2", "late2", "child3", "child3b", "root3", "late1");
+  }
+
+  @Test
+  void rateLimited() {
+    setUp(builder().addPolicy(TailSamplingPolicy.rateLimited(1)));
+
+    for (int i = 0; i < 10; i++) {
+      tracer.spanBuilder("root").startSpan().end();
+    }
+    assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+  }
+
+  @Test
+  void policyThrows() {
+    setUp(
+        builder()
+            .addPolicy(
+                spans -> {
+                  throw new IllegalStateException("boom");
+                })
+            .addPolicy(TailSamplingPolicy.anySpan(span -> true)));
+
+    tracer.spanBuilder("root").startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+  }
+
+  @Test
+  void forceFlushDecidesBufferedTraces() {
+    setUp(builder().addPolicy(TailSamplingPolicy.anySpan(span -> true)));
+
+    Span root = tracer.spanBuilder("root").startSpan();
+    tracer.spanBuilder("child").setParent(Context.root().with(root)).startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    assertThat(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("child");
+  }
+
+  @Test
+  void invalidConfig() {
+    assertThatThrownBy(() -> builder().build())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("At least one policy must be added");
+    assertThatThrownBy(() -> builder().setMaxBufferedSpans(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxBufferedSpans must be positive");
+    assertThatThrownBy(() -> builder().setDecisionWait(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("decisionWait must be positive");
+    assertThatThrownBy(() -> TailSamplingPolicy.rateLimited(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("tracesPerSecond must be positive");
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of picking the sampler of a span in {@link PerOperationSampler} for strategies
+ * with many operations, for span names that are interned literals, names built at runtime and names
+ * without a strategy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PerOperationSamplerBenchmark {
+
+  private static final String TRACE_ID = "12345678876543211234567887654321";
+
+  @Param({"10", "1000", "10000"})
+  private int operations;
+
+  private PerOperationSampler sampler;
+  private String internedName;
+  private String runtimeName;
+  private String missingName;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    List<SamplingStrategyResponse.OperationSamplingStrategy> strategies =
+        new ArrayList<>(operations);
+    for (int i = 0; i < operations; i++) {
+      strategies.add(
+          new SamplingStrategyResponse.OperationSamplingStrategy.Builder()
+              .setOperation("GET /api/v1/resource/" + i)
+              .setProbabilisticSamplingStrategy(
+                  new SamplingStrategyResponse.ProbabilisticSamplingStrategy.Builder()
+                      .setSamplingRate(i % 2 == 0 ? 0.1 : 0.5)
+                      .build())
+              .build());
+    }
+    sampler = new PerOperationSampler(Sampler.traceIdRatioBased(0.01), strategies);
+    internedName = ("GET /api/v1/resource/" + (operations / 2)).intern();
+    runtimeName = "GET /api/v1/resource/" + (operations / 2);
+    missingName = "GET /api/v1/other/" + (operations / 2);
+  }
+
+  @Benchmark
+  public SamplingResult internedName() {
+    return shouldSample(internedName);
+  }
+
+  @Benchmark
+  public SamplingResult runtimeName() {
+    return shouldSample(runtimeName);
+  }
+
+  @Benchmark
+  public SamplingResult missingName() {
+    return shouldSample(missingName);
+  }
+
+  private SamplingResult shouldSample(String name) {
+    return sampler.shouldSample(
+        Context.root(),
+        TRACE_ID,
+        name,
+        SpanKind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.internal.StripedRateLimiter;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of sampling root spans with {@link RateLimitingSampler} from many threads
+ * at once, compared to spending from a single, unstriped {@link RateLimiter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitingSamplerBenchmark {
+
+  private static final String TRACE_ID = "12345678876543211234567887654321";
+
+  @Param({"100", "100000"})
+  private int maxTracesPerSecond;
+
+  private RateLimitingSampler sampler;
+  private RateLimiter rateLimiter;
+  private StripedRateLimiter stripedRateLimiter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    sampler = new RateLimitingSampler(maxTracesPerSecond);
+    rateLimiter = new RateLimiter(maxTracesPerSecond, maxTracesPerSecond, Clock.getDefault());
+    stripedRateLimiter =
+        new StripedRateLimiter(maxTracesPerSecond, maxTracesPerSecond, Clock.getDefault());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public SamplingResult sampler_01Thread() {
+    return shouldSample();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public SamplingResult sampler_04Threads() {
+    return shouldSample();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public SamplingResult sampler_16Threads() {
+    return shouldSample();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public SamplingResult sampler_64Threads() {
+    return shouldSample();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public boolean rateLimiter_01Thread() {
+    return rateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean rateLimiter_04Threads() {
+    return rateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public boolean rateLimiter_16Threads() {
+    return rateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public boolean rateLimiter_64Threads() {
+    return rateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public boolean stripedRateLimiter_01Thread() {
+    return stripedRateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean stripedRateLimiter_04Threads() {
+    return stripedRateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public boolean stripedRateLimiter_16Threads() {
+    return stripedRateLimiter.trySpend(1.0);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public boolean stripedRateLimiter_64Threads() {
+    return stripedRateLimiter.trySpend(1.0);
+  }
+
+  private SamplingResult shouldSample() {
+    return sampler.shouldSample(
+        Context.root(),
+        TRACE_ID,
+        "span",
+        SpanKind.SERVER,
+        Attributes.empty(),
+        Collections.emptyList());
+  }
+}
@@ -11,26 +11,96 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 
-/** {@link PerOperationSampler} samples spans per operation. */
+/**
+ * {@link PerOperationSampler} samples spans per operation.
+ *
+ * <p>The per-operation samplers are compiled once, when a new strategy is received, into an
+ * immutable open addressing table keyed by the interned operation name. Looking up the sampler of a
+ * span is a probe of that table, which for span names that are string literals usually resolves
+ * with a single identity comparison.
+ */
 class PerOperationSampler implements Sampler {
 
   private final Sampler defaultSampler;
-  private final Map<String, Sampler> perOperationSampler;
+  // Operations and their samplers, in the order they were received.
+  private final String[] operations;
+  private final int[] operationHashes;
+  private final Sampler[] samplers;
+  // Open addressing table of indexes into operations, offset by one so that 0 marks an empty slot.
+  private final int[] table;
+  private final int mask;
 
   PerOperationSampler(
       Sampler defaultSampler,
       List<SamplingStrategyResponse.OperationSamplingStrategy> perOperationSampling) {
     this.defaultSampler = defaultSampler;
-    this.perOperationSampler = new LinkedHashMap<>(perOperationSampling.size());
+
+    // Keep the table at most half full so that probe sequences stay short.
+    int tableSize = Integer.highestOneBit(Math.max(perOperationSampling.size(), 1) * 4 - 1);
+    this.table = new int[tableSize];
+    this.mask = tableSize - 1;
+
+    List<String> operations = new ArrayList<>(perOperationSampling.size());
+    List<Sampler> samplers = new ArrayList<>(perOperationSampling.size());
+    // Strategies with thousands of operations typically repeat a handful of rates.
+    Map<Double, Sampler> samplersByRate = new HashMap<>();
     for (SamplingStrategyResponse.OperationSamplingStrategy opSamplingStrategy :
         perOperationSampling) {
-      this.perOperationSampler.put(
-          opSamplingStrategy.operation,
-          Sampler.traceIdRatioBased(opSamplingStrategy.probabilisticSamplingStrategy.samplingRate));
+      // Span names are often string literals, which are interned, so identity usually matches.
+      String operation = opSamplingStrategy.operation.intern();
+      Sampler sampler =
+          samplersByRate.computeIfAbsent(
+              opSamplingStrategy.probabilisticSamplingStrategy.samplingRate,
+              Sampler::traceIdRatioBased);
+      int slot = findSlot(operation, operation.hashCode(), operations);
+      if (table[slot] != 0) {
+        // Later strategies for the same operation win, as they did with a map.
+        samplers.set(table[slot] - 1, sampler);
+        continue;
+      }
+      operations.add(operation);
+      samplers.add(sampler);
+      table[slot] = operations.size();
+    }
+
+    this.operations = operations.toArray(new String[0]);
+    this.samplers = samplers.toArray(new Sampler[0]);
+    this.operationHashes = new int[this.operations.length];
+    for (int i = 0; i < this.operations.length; i++) {
+      operationHashes[i] = this.operations[i].hashCode();
+    }
+  }
+
+  private int findSlot(String operation, int hash, List<String> operations) {
+    int slot = spread(hash) & mask;
+    while (table[slot] != 0 && !operations.get(table[slot] - 1).equals(operation)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  @Nullable
+  private Sampler lookup(String name) {
+    int hash = name.hashCode();
+    for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+      int index = table[slot] - 1;
+      if (index < 0) {
+        return null;
+      }
+      String operation = operations[index];
+      if (operation == name || (operationHashes[index] == hash && operation.equals(name))) {
+        return samplers[index];
+      }
     }
   }
 
@@ -42,7 +112,7 @@ class PerOperationSampler implements Sampler {
       SpanKind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
-    Sampler sampler = this.perOperationSampler.get(name);
+    Sampler sampler = lookup(name);
     if (sampler == null) {
       sampler = this.defaultSampler;
     }
@@ -51,9 +121,16 @@ class PerOperationSampler implements Sampler {
 
   @Override
   public String getDescription() {
+    StringBuilder perOperation = new StringBuilder("{");
+    for (int i = 0; i < operations.length; i++) {
+      if (i > 0) {
+        perOperation.append(", ");
+      }
+      perOperation.append(operations[i]).append('=').append(samplers[i]);
+    }
+    perOperation.append('}');
     return String.format(
-        "PerOperationSampler{default=%s, perOperation=%s}",
-        this.defaultSampler, this.perOperationSampler);
+        "PerOperationSampler{default=%s, perOperation=%s}", this.defaultSampler, perOperation);
   }
 
   @Override
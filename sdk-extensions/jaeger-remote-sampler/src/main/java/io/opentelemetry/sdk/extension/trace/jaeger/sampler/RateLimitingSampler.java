@@ -13,7 +13,7 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.Clock;
-import io.opentelemetry.sdk.internal.RateLimiter;
+import io.opentelemetry.sdk.internal.StripedRateLimiter;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
@@ -24,14 +24,15 @@ import java.util.List;
 
 /**
  * {@link RateLimitingSampler} sampler uses a leaky bucket rate limiter to ensure that traces are
- * sampled with a certain constant rate.
+ * sampled with a certain constant rate. The bucket is striped across processors so that root spans
+ * started concurrently on many threads do not contend on a single balance.
  */
 class RateLimitingSampler implements Sampler {
   static final String TYPE = "ratelimiting";
   static final AttributeKey<String> SAMPLER_TYPE = stringKey("sampler.type");
   static final AttributeKey<Double> SAMPLER_PARAM = doubleKey("sampler.param");
 
-  private final RateLimiter rateLimiter;
+  private final StripedRateLimiter rateLimiter;
   private final SamplingResult onSamplingResult;
   private final SamplingResult offSamplingResult;
   private final String description;
@@ -43,7 +44,7 @@ class RateLimitingSampler implements Sampler {
    */
   RateLimitingSampler(int maxTracesPerSecond) {
     double maxBalance = maxTracesPerSecond < 1.0 ? 1.0 : maxTracesPerSecond;
-    this.rateLimiter = new RateLimiter(maxTracesPerSecond, maxBalance, Clock.getDefault());
+    this.rateLimiter = new StripedRateLimiter(maxTracesPerSecond, maxBalance, Clock.getDefault());
     Attributes attributes =
         Attributes.of(SAMPLER_TYPE, TYPE, SAMPLER_PARAM, (double) maxTracesPerSecond);
     this.onSamplingResult = SamplingResult.create(SamplingDecision.RECORD_AND_SAMPLE, attributes);
@@ -0,0 +1,91 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.extension.trace.jaeger.sampler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PerOperationSamplerTest {
+
+  private static final String TRACE_ID = "12345678876543211234567887654321";
+
+  private static SamplingStrategyResponse.OperationSamplingStrategy strategy(
+      String operation, double samplingRate) {
+    return new SamplingStrategyResponse.OperationSamplingStrategy.Builder()
+        .setOperation(operation)
+        .setProbabilisticSamplingStrategy(
+            new SamplingStrategyResponse.ProbabilisticSamplingStrategy.Builder()
+                .setSamplingRate(samplingRate)
+                .build())
+        .build();
+  }
+
+  private static SamplingDecision decision(Sampler sampler, String name) {
+    return sampler
+        .shouldSample(
+            Context.root(),
+            TRACE_ID,
+            name,
+            SpanKind.SERVER,
+            Attributes.empty(),
+            Collections.emptyList())
+        .getDecision();
+  }
+
+  @Test
+  void usesOperationSampler() {
+    List<SamplingStrategyResponse.OperationSamplingStrategy> strategies = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      strategies.add(strategy("op" + i, i % 2 == 0 ? 1.0 : 0.0));
+    }
+    PerOperationSampler sampler = new PerOperationSampler(Sampler.alwaysOff(), strategies);
+
+    for (int i = 0; i < 1000; i++) {
+      // Built at runtime, so not the interned instance the sampler holds.
+      String name = new StringBuilder("op").append(i).toString();
+      assertThat(decision(sampler, name))
+          .isEqualTo(i % 2 == 0 ? SamplingDecision.RECORD_AND_SAMPLE : SamplingDecision.DROP);
+    }
+  }
+
+  @Test
+  void unknownOperationUsesDefault() {
+    PerOperationSampler sampler =
+        new PerOperationSampler(Sampler.alwaysOn(), Arrays.asList(strategy("foo", 0.0)));
+    assertThat(decision(sampler, "foo")).isEqualTo(SamplingDecision.DROP);
+    assertThat(decision(sampler, "bar")).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+
+    PerOperationSampler empty =
+        new PerOperationSampler(Sampler.alwaysOn(), Collections.emptyList());
+    assertThat(decision(empty, "foo")).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(empty.getDescription())
+        .isEqualTo("PerOperationSampler{default=AlwaysOnSampler, perOperation={}}");
+  }
+
+  @Test
+  void duplicateOperationUsesLastStrategy() {
+    PerOperationSampler sampler =
+        new PerOperationSampler(
+            Sampler.alwaysOff(),
+            Arrays.asList(strategy("foo", 0.0), strategy("bar", 0.5), strategy("foo", 1.0)));
+    assertThat(decision(sampler, "foo")).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(sampler.getDescription())
+        .isEqualTo(
+            "PerOperationSampler{default=AlwaysOffSampler,"
+                + " perOperation={foo=TraceIdRatioBased{1.000000},"
+                + " bar=TraceIdRatioBased{0.500000}}}");
+  }
+}
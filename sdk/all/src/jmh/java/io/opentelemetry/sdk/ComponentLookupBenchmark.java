@@ -0,0 +1,100 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk;
+
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures repeated lookups of existing loggers and tracers, as done by logging bridges which
+ * obtain a logger named after the bridged logger for every log statement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ComponentLookupBenchmark {
+
+  private static final int NAME_COUNT = 100;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    SdkLoggerProvider loggerProvider;
+    SdkTracerProvider tracerProvider;
+    String[] names;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      loggerProvider = SdkLoggerProvider.builder().build();
+      tracerProvider = SdkTracerProvider.builder().build();
+      names = new String[NAME_COUNT];
+      for (int i = 0; i < NAME_COUNT; i++) {
+        names[i] = "com.example.component.Class" + i;
+        loggerProvider.get(names[i]);
+        loggerProvider.loggerBuilder(names[i]).setInstrumentationVersion("1.0.0").build();
+        tracerProvider.get(names[i]);
+        tracerProvider.get(names[i], "1.0.0");
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      loggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    String name() {
+      return names[ThreadLocalRandom.current().nextInt(NAME_COUNT)];
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Logger getLogger(BenchmarkState state) {
+    return state.loggerProvider.get(state.name());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Logger getLoggerWithVersion(BenchmarkState state) {
+    return state
+        .loggerProvider
+        .loggerBuilder(state.name())
+        .setInstrumentationVersion("1.0.0")
+        .build();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Tracer getTracer(BenchmarkState state) {
+    return state.tracerProvider.get(state.name());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Tracer getTracerWithVersion(BenchmarkState state) {
+    return state.tracerProvider.get(state.name(), "1.0.0");
+  }
+}
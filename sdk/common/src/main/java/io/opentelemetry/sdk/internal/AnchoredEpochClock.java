@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Clock} which reads the epoch time of its delegate once, and then computes {@link #now()}
+ * by adding the {@linkplain Clock#nanoTime() monotonic time} elapsed since. This avoids reading the
+ * system's wall time, which on Java 9+ allocates an {@link java.time.Instant}, for every root span,
+ * log record and exemplar.
+ *
+ * <p>The anchor is re-read from the delegate once {@code resyncIntervalNanos} elapsed, which bounds
+ * the drift from the wall clock, such as after an NTP adjustment, to what accumulates over one
+ * interval. Timestamps may step by that drift when the anchor is re-read. Use it with {@code
+ * setClock} of the tracer, logger and meter provider builders. Root spans then read the monotonic
+ * time once for both their start epoch time and the anchor of their descendants.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@ThreadSafe
+public final class AnchoredEpochClock implements Clock {
+
+  private static final long DEFAULT_RESYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Clock delegate;
+  private final long resyncIntervalNanos;
+
+  private volatile Anchor anchor;
+
+  /**
+   * Returns an {@link AnchoredEpochClock} which re-reads the epoch time from {@code delegate} every
+   * second.
+   */
+  public static AnchoredEpochClock create(Clock delegate) {
+    return create(delegate, DEFAULT_RESYNC_INTERVAL_NANOS);
+  }
+
+  /**
+   * Returns an {@link AnchoredEpochClock} which re-reads the epoch time from {@code delegate} every
+   * {@code resyncIntervalNanos}.
+   */
+  public static AnchoredEpochClock create(Clock delegate, long resyncIntervalNanos) {
+    if (resyncIntervalNanos <= 0) {
+      throw new IllegalArgumentException("resyncIntervalNanos must be positive");
+    }
+    return new AnchoredEpochClock(delegate, resyncIntervalNanos);
+  }
+
+  private AnchoredEpochClock(Clock delegate, long resyncIntervalNanos) {
+    this.delegate = delegate;
+    this.resyncIntervalNanos = resyncIntervalNanos;
+    this.anchor = Anchor.read(delegate);
+  }
+
+  @Override
+  public long now() {
+    return epochNanosAt(delegate.nanoTime());
+  }
+
+  /**
+   * Returns the epoch time at {@code nanoTime}, a value just returned by {@link #nanoTime()}, so
+   * that callers needing both read the monotonic time only once.
+   */
+  public long epochNanosAt(long nanoTime) {
+    Anchor current = anchor;
+    if (nanoTime - current.nanoTime >= resyncIntervalNanos) {
+      // Concurrent callers may each re-read the anchor, any of them is as good as the others
+      current = Anchor.read(delegate);
+      anchor = current;
+    }
+    return current.epochNanos + (nanoTime - current.nanoTime);
+  }
+
+  @Override
+  public long nanoTime() {
+    return delegate.nanoTime();
+  }
+
+  @Override
+  public String toString() {
+    return "AnchoredEpochClock{delegate="
+        + delegate
+        + ", resyncIntervalNanos="
+        + resyncIntervalNanos
+        + "}";
+  }
+
+  @Immutable
+  private static final class Anchor {
+    private final long epochNanos;
+    private final long nanoTime;
+
+    private Anchor(long epochNanos, long nanoTime) {
+      this.epochNanos = epochNanos;
+      this.nanoTime = nanoTime;
+    }
+
+    private static Anchor read(Clock clock) {
+      return new Anchor(clock.now(), clock.nanoTime());
+    }
+  }
+}
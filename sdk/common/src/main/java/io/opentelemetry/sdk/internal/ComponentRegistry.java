@@ -8,11 +8,12 @@ package io.opentelemetry.sdk.internal;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfoBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -23,15 +24,12 @@ import javax.annotation.Nullable;
  * MeterProvider, etc.).
  *
  * <p>Components are identified by name, version, and schema. Name is required, but version and
- * schema are optional. Therefore, we have 4 possible scenarios for component keys:
- *
- * <ol>
- *   <li>Only name is provided, represented by {@link #componentByName}
- *   <li>Name and version are provided, represented by {@link #componentByNameAndVersion}
- *   <li>Name and schema are provided, represented by {@link #componentByNameAndSchema}
- *   <li>Name, version and schema are provided, represented by {@link
- *       #componentByNameVersionAndSchema}
- * </ol>
+ * schema are optional. Components are cached in a single map keyed by name, whose values are
+ * immutable chains of the components registered for each version and schema of that name. Looking
+ * up an existing component is therefore a single lock-free {@link ConcurrentHashMap#get(Object)}
+ * followed by a scan of a chain which is typically one entry long, and allocates nothing. New
+ * components are created and published under a lock, so that each is created exactly once, by
+ * replacing the chain of their name.
  *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
@@ -40,11 +38,7 @@ import javax.annotation.Nullable;
  */
 public final class ComponentRegistry<V> {
 
-  private final Map<String, V> componentByName = new ConcurrentHashMap<>();
-  private final Map<String, Map<String, V>> componentByNameAndVersion = new ConcurrentHashMap<>();
-  private final Map<String, Map<String, V>> componentByNameAndSchema = new ConcurrentHashMap<>();
-  private final Map<String, Map<String, Map<String, V>>> componentByNameVersionAndSchema =
-      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Entry<V>> componentsByName = new ConcurrentHashMap<>();
 
   private final Object lock = new Object();
 
@@ -65,59 +59,45 @@ public final class ComponentRegistry<V> {
    */
   public V get(
       String name, @Nullable String version, @Nullable String schemaUrl, Attributes attributes) {
-    if (version != null && schemaUrl != null) {
-      Map<String, Map<String, V>> componentByVersionAndSchema =
-          componentByNameVersionAndSchema.computeIfAbsent(
-              name, unused -> new ConcurrentHashMap<>());
-      Map<String, V> componentBySchema =
-          componentByVersionAndSchema.computeIfAbsent(version, unused -> new ConcurrentHashMap<>());
-      return componentBySchema.computeIfAbsent(
-          schemaUrl,
-          schemaUrl1 ->
-              buildComponent(
-                  InstrumentationScopeInfo.builder(name)
-                      .setVersion(version)
-                      .setSchemaUrl(schemaUrl1)
-                      .setAttributes(attributes)
-                      .build()));
-    } else if (version != null) { // schemaUrl == null
-      Map<String, V> componentByVersion =
-          componentByNameAndVersion.computeIfAbsent(name, unused -> new ConcurrentHashMap<>());
-      return componentByVersion.computeIfAbsent(
-          version,
-          version1 ->
-              buildComponent(
-                  InstrumentationScopeInfo.builder(name)
-                      .setVersion(version1)
-                      .setAttributes(attributes)
-                      .build()));
+    Entry<V> head = componentsByName.get(name);
+    V component = find(head, version, schemaUrl);
+    if (component != null) {
+      return component;
     }
-    if (schemaUrl != null) { // version == null
-      Map<String, V> componentBySchema =
-          componentByNameAndSchema.computeIfAbsent(name, unused -> new ConcurrentHashMap<>());
-      return componentBySchema.computeIfAbsent(
-          schemaUrl,
-          schemaUrl1 ->
-              buildComponent(
-                  InstrumentationScopeInfo.builder(name)
-                      .setSchemaUrl(schemaUrl1)
-                      .setAttributes(attributes)
-                      .build()));
-    } else { // schemaUrl == null && version == null
-      return componentByName.computeIfAbsent(
-          name,
-          name1 ->
-              buildComponent(
-                  InstrumentationScopeInfo.builder(name1).setAttributes(attributes).build()));
+
+    synchronized (lock) {
+      // Another thread may have registered the component since the lock-free lookup
+      head = componentsByName.get(name);
+      component = find(head, version, schemaUrl);
+      if (component != null) {
+        return component;
+      }
+      InstrumentationScopeInfoBuilder builder =
+          InstrumentationScopeInfo.builder(name).setAttributes(attributes);
+      if (version != null) {
+        builder.setVersion(version);
+      }
+      if (schemaUrl != null) {
+        builder.setSchemaUrl(schemaUrl);
+      }
+      V created = factory.apply(builder.build());
+      allComponents.add(created);
+      // Re-read in case the factory registered another component of the same name
+      componentsByName.put(
+          name, new Entry<>(version, schemaUrl, created, componentsByName.get(name)));
+      return created;
     }
   }
 
-  private V buildComponent(InstrumentationScopeInfo instrumentationScopeInfo) {
-    V component = factory.apply(instrumentationScopeInfo);
-    synchronized (lock) {
-      allComponents.add(component);
+  @Nullable
+  private static <V> V find(
+      @Nullable Entry<V> head, @Nullable String version, @Nullable String schemaUrl) {
+    for (Entry<V> entry = head; entry != null; entry = entry.next) {
+      if (Objects.equals(entry.version, version) && Objects.equals(entry.schemaUrl, schemaUrl)) {
+        return entry.component;
+      }
     }
-    return component;
+    return null;
   }
 
   /**
@@ -130,4 +110,22 @@ public final class ComponentRegistry<V> {
       return Collections.unmodifiableCollection(new ArrayList<>(allComponents));
     }
   }
+
+  private static final class Entry<V> {
+    @Nullable private final String version;
+    @Nullable private final String schemaUrl;
+    private final V component;
+    @Nullable private final Entry<V> next;
+
+    private Entry(
+        @Nullable String version,
+        @Nullable String schemaUrl,
+        V component,
+        @Nullable Entry<V> next) {
+      this.version = version;
+      this.schemaUrl = schemaUrl;
+      this.component = component;
+      this.next = next;
+    }
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import io.opentelemetry.sdk.common.Clock;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link RateLimiter} variant for call sites that are hit by many threads at once, such as
+ * samplers of root spans. The credit is split across a number of independent stripes, each holding
+ * an equal share of the rate and of the maximum balance, and threads spend from the stripe picked
+ * by their thread ID. A thread whose stripe is exhausted borrows from the other stripes before
+ * giving up, so credit accrued on stripes that are not being used is never stranded.
+ *
+ * <p>The stripes accrue credit at exactly the configured rate in aggregate, so the long term rate
+ * is the same as for {@link RateLimiter}. Because each stripe only spends whole items, at most
+ * {@code stripes * itemCost} credits can be held back across stripes at any point in time, which
+ * bounds the short term error. The number of stripes is capped so that each stripe can hold at
+ * least one credit, so limiters with a max balance of 1 behave exactly like {@link RateLimiter}.
+ * Items costing more than {@code maxBalance / stripes} can never be spent, so this class is meant
+ * for spending many cheap items, such as one credit per sampled trace.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class StripedRateLimiter {
+
+  // Distance in longs between two stripes, so that each stripe sits on its own cache line.
+  private static final int PADDING = 8;
+
+  private final Clock clock;
+  private final int stripes;
+  private final double creditsPerNanosecondPerStripe;
+  private final long maxBalance; // max balance of each stripe in nano ticks
+  // Each element is the last op nano time less the remaining balance of a stripe.
+  private final AtomicLongArray balances;
+
+  /**
+   * Create a new StripedRateLimiter with the provided parameters and one stripe per available
+   * processor.
+   *
+   * @param creditsPerSecond How many credits to accrue per second.
+   * @param maxBalance The maximum balance that the limiter can hold, which corresponds to the rate
+   *     that is being limited to.
+   * @param clock An implementation of the {@link Clock} interface.
+   */
+  public StripedRateLimiter(double creditsPerSecond, double maxBalance, Clock clock) {
+    this(creditsPerSecond, maxBalance, clock, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Create a new StripedRateLimiter with the provided parameters.
+   *
+   * @param creditsPerSecond How many credits to accrue per second.
+   * @param maxBalance The maximum balance that the limiter can hold, which corresponds to the rate
+   *     that is being limited to.
+   * @param clock An implementation of the {@link Clock} interface.
+   * @param maxStripes The maximum number of stripes to split the balance into.
+   */
+  public StripedRateLimiter(
+      double creditsPerSecond, double maxBalance, Clock clock, int maxStripes) {
+    this.clock = clock;
+    this.stripes = stripeCount(maxBalance, maxStripes);
+    this.creditsPerNanosecondPerStripe = creditsPerSecond / 1.0e9 / stripes;
+    this.maxBalance = (long) (maxBalance / stripes / creditsPerNanosecondPerStripe);
+    this.balances = new AtomicLongArray(stripes * PADDING);
+    long initialBalance = clock.nanoTime() - this.maxBalance;
+    for (int i = 0; i < stripes; i++) {
+      balances.set(i * PADDING, initialBalance);
+    }
+  }
+
+  private static int stripeCount(double maxBalance, int maxStripes) {
+    // Each stripe has to be able to hold at least one credit, or items would never be spent.
+    int stripes = (int) Math.min(Math.max(maxStripes, 1), Math.max(Math.floor(maxBalance), 1));
+    // Round down to a power of two so the home stripe can be picked with a mask.
+    return Integer.highestOneBit(stripes);
+  }
+
+  /** Returns the number of stripes the balance is split into. */
+  public int getStripes() {
+    return stripes;
+  }
+
+  /**
+   * Check to see if the provided cost can be spent within the current limits. Will deduct the cost
+   * from the balance of one of the stripes if it can be spent.
+   */
+  public boolean trySpend(double itemCost) {
+    long cost = (long) (itemCost / creditsPerNanosecondPerStripe);
+    long currentNanos = clock.nanoTime();
+    int home = (int) Thread.currentThread().getId() & (stripes - 1);
+    for (int i = 0; i < stripes; i++) {
+      if (trySpend((home + i) & (stripes - 1), cost, currentNanos)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean trySpend(int stripe, long cost, long currentNanos) {
+    int index = stripe * PADDING;
+    long currentBalanceNanos;
+    long availableBalanceAfterWithdrawal;
+    do {
+      currentBalanceNanos = balances.get(index);
+      long currentAvailableBalance = currentNanos - currentBalanceNanos;
+      if (currentAvailableBalance > maxBalance) {
+        currentAvailableBalance = maxBalance;
+      }
+      availableBalanceAfterWithdrawal = currentAvailableBalance - cost;
+      if (availableBalanceAfterWithdrawal < 0) {
+        return false;
+      }
+    } while (!balances.compareAndSet(
+        index, currentBalanceNanos, currentNanos - availableBalanceAfterWithdrawal));
+    return true;
+  }
+}
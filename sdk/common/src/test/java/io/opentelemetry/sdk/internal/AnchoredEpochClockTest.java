@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.sdk.common.Clock;
+import org.junit.jupiter.api.Test;
+
+class AnchoredEpochClockTest {
+
+  private final FakeClock delegate = new FakeClock(1_000_000_000L, 42L);
+
+  @Test
+  void now_AddsElapsedNanoTime() {
+    AnchoredEpochClock clock = AnchoredEpochClock.create(delegate, 100);
+    assertThat(delegate.nowCalls).isEqualTo(1);
+
+    delegate.nanoTime += 10;
+    // The wall clock is only read again once the anchor is re-read
+    delegate.epochNanos += 1_000;
+    assertThat(clock.now()).isEqualTo(1_000_000_010L);
+    delegate.nanoTime += 89;
+    assertThat(clock.now()).isEqualTo(1_000_000_099L);
+    assertThat(clock.nanoTime()).isEqualTo(141L);
+    assertThat(delegate.nowCalls).isEqualTo(1);
+  }
+
+  @Test
+  void now_Resyncs() {
+    AnchoredEpochClock clock = AnchoredEpochClock.create(delegate, 100);
+
+    delegate.nanoTime += 100;
+    delegate.epochNanos += 5_000;
+    assertThat(clock.now()).isEqualTo(1_000_005_000L);
+    assertThat(delegate.nowCalls).isEqualTo(2);
+
+    delegate.nanoTime += 50;
+    assertThat(clock.now()).isEqualTo(1_000_005_050L);
+    assertThat(delegate.nowCalls).isEqualTo(2);
+  }
+
+  @Test
+  void now_Default() {
+    Clock clock = AnchoredEpochClock.create(Clock.getDefault());
+    long before = Clock.getDefault().now();
+    long now = clock.now();
+    // Both clocks read the same wall clock, within the resolution of the system clock
+    assertThat(now).isGreaterThan(before - 1_000_000_000L).isLessThan(before + 1_000_000_000L);
+  }
+
+  @Test
+  void create_InvalidInterval() {
+    assertThatThrownBy(() -> AnchoredEpochClock.create(delegate, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("resyncIntervalNanos must be positive");
+  }
+
+  private static final class FakeClock implements Clock {
+    private long epochNanos;
+    private long nanoTime;
+    private int nowCalls;
+
+    private FakeClock(long epochNanos, long nanoTime) {
+      this.epochNanos = epochNanos;
+      this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public long now() {
+      nowCalls++;
+      return epochNanos;
+    }
+
+    @Override
+    public long nanoTime() {
+      return nanoTime;
+    }
+  }
+}
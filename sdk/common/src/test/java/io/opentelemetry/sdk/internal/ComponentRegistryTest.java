@@ -9,13 +9,18 @@ import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +64,26 @@ class ComponentRegistryTest {
 
     assertThat(registry.get(NAME, null, SCHEMA_URL, Attributes.empty()))
         .isNotSameAs(registry.get(NAME, null, null, Attributes.empty()));
+
+    assertThat(registry.get(NAME, SCHEMA_URL, null, Attributes.empty()))
+        .isNotSameAs(registry.get(NAME, null, SCHEMA_URL, Attributes.empty()));
+  }
+
+  @Test
+  void get_ScopeInfo() {
+    ComponentRegistry<InstrumentationScopeInfo> scopeRegistry =
+        new ComponentRegistry<>(scopeInfo -> scopeInfo);
+
+    assertThat(scopeRegistry.get(NAME, VERSION, SCHEMA_URL, ATTRIBUTES))
+        .isEqualTo(
+            InstrumentationScopeInfo.builder(NAME)
+                .setVersion(VERSION)
+                .setSchemaUrl(SCHEMA_URL)
+                .setAttributes(ATTRIBUTES)
+                .build());
+    assertThat(scopeRegistry.get(NAME, null, null, Attributes.empty()))
+        .isEqualTo(InstrumentationScopeInfo.create(NAME));
+    assertThat(scopeRegistry.getComponents()).hasSize(2);
   }
 
   @Test
@@ -92,5 +117,95 @@ class ComponentRegistryTest {
     }
   }
 
+  @Test
+  void get_SameInstanceWhenRacing() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    ComponentRegistry<TestComponent> registry =
+        new ComponentRegistry<>(
+            unused -> {
+              created.incrementAndGet();
+              return new TestComponent();
+            });
+    int concurrency = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<TestComponent>> futures = new ArrayList<>();
+      for (int i = 0; i < concurrency; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return registry.get(NAME, VERSION, null, Attributes.empty());
+                }));
+      }
+      start.countDown();
+
+      TestComponent component = futures.get(0).get();
+      for (Future<TestComponent> future : futures) {
+        assertThat(future.get()).isSameAs(component);
+      }
+      assertThat(registry.getComponents()).containsExactly(component);
+      assertThat(created.get()).isEqualTo(1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void get_ExistingComponentDoesNotWaitForFactory() throws Exception {
+    CountDownLatch creating = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ComponentRegistry<TestComponent> registry =
+        new ComponentRegistry<>(
+            scope -> {
+              if (scope.getName().equals("slow")) {
+                creating.countDown();
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+              return new TestComponent();
+            });
+    TestComponent fast = registry.get("fast", null, null, Attributes.empty());
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<TestComponent> slow =
+          executor.submit(() -> registry.get("slow", null, null, Attributes.empty()));
+      assertThat(creating.await(10, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(registry.get("fast", null, null, Attributes.empty())).isSameAs(fast);
+
+      release.countDown();
+      TestComponent slowComponent = slow.get();
+      assertThat(registry.getComponents()).containsExactlyInAnyOrder(fast, slowComponent);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void get_FactoryRegisteringSameName() {
+    AtomicReference<ComponentRegistry<TestComponent>> registryRef = new AtomicReference<>();
+    ComponentRegistry<TestComponent> registry =
+        new ComponentRegistry<>(
+            scope -> {
+              if (scope.getVersion() == null) {
+                registryRef.get().get(NAME, VERSION, null, Attributes.empty());
+              }
+              return new TestComponent();
+            });
+    registryRef.set(registry);
+
+    TestComponent component = registry.get(NAME, null, null, Attributes.empty());
+    TestComponent nested = registry.get(NAME, VERSION, null, Attributes.empty());
+
+    assertThat(registry.get(NAME, null, null, Attributes.empty())).isSameAs(component);
+    assertThat(registry.getComponents()).containsExactlyInAnyOrder(component, nested);
+  }
+
   private static final class TestComponent {}
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StripedRateLimiterTest {
+
+  @Test
+  void stripeCount() {
+    TestClock clock = TestClock.create();
+    assertThat(new StripedRateLimiter(100, 100, clock, 8).getStripes()).isEqualTo(8);
+    // Rounded down to a power of two.
+    assertThat(new StripedRateLimiter(100, 100, clock, 6).getStripes()).isEqualTo(4);
+    // Each stripe must be able to hold at least one credit.
+    assertThat(new StripedRateLimiter(3, 3, clock, 8).getStripes()).isEqualTo(2);
+    assertThat(new StripedRateLimiter(1, 1, clock, 8).getStripes()).isEqualTo(1);
+    assertThat(new StripedRateLimiter(0.5, 0.5, clock, 8).getStripes()).isEqualTo(1);
+  }
+
+  @Test
+  void singleThreadSpendsAllStripes() {
+    TestClock clock = TestClock.create();
+    StripedRateLimiter limiter = new StripedRateLimiter(8.0, 8.0, clock, 4);
+
+    // The initial balance of every stripe is available to a single thread.
+    for (int i = 0; i < 8; i++) {
+      assertThat(limiter.trySpend(1.0)).isTrue();
+    }
+    assertThat(limiter.trySpend(1.0)).isFalse();
+
+    // Move time 250ms forward, each stripe accrues half a credit.
+    clock.advance(Duration.ofMillis(250));
+    assertThat(limiter.trySpend(1.0)).isFalse();
+
+    // Move time 250ms forward, each stripe now holds one credit.
+    clock.advance(Duration.ofMillis(250));
+    for (int i = 0; i < 4; i++) {
+      assertThat(limiter.trySpend(1.0)).isTrue();
+    }
+    assertThat(limiter.trySpend(1.0)).isFalse();
+
+    // Move time 5s forward, the balance is still capped at the max balance.
+    clock.advance(Duration.ofSeconds(5));
+    for (int i = 0; i < 8; i++) {
+      assertThat(limiter.trySpend(1.0)).isTrue();
+    }
+    assertThat(limiter.trySpend(1.0)).isFalse();
+  }
+
+  @Test
+  void steadyRate() {
+    TestClock clock = TestClock.create();
+    StripedRateLimiter limiter = new StripedRateLimiter(100, 100, clock, 8);
+    // Each stripe holds 12.5 credits, of which only whole items can be spent.
+    int initial = 0;
+    while (limiter.trySpend(1.0)) {
+      initial++;
+    }
+    assertThat(initial).isEqualTo(96);
+    int spent = 0;
+    for (int second = 0; second < 10; second++) {
+      for (int millis = 0; millis < 1000; millis++) {
+        clock.advance(Duration.ofMillis(1));
+        if (limiter.trySpend(1.0)) {
+          spent++;
+        }
+      }
+    }
+    // Credit held back by partially filled stripes is bounded by the number of stripes.
+    assertThat(spent).isBetween(1000 - 8, 1000 + 4);
+  }
+
+  @Test
+  void cantWithdrawMoreThanStripeMax() {
+    TestClock clock = TestClock.create();
+    StripedRateLimiter limiter = new StripedRateLimiter(4, 4.0, clock, 4);
+    assertThat(limiter.trySpend(2)).isFalse();
+    assertThat(limiter.trySpend(1)).isTrue();
+  }
+
+  /** Validates concurrent credit check correctness. */
+  @Test
+  void concurrency() throws InterruptedException, ExecutionException {
+    int numWorkers = 8;
+    ExecutorService executorService = Executors.newFixedThreadPool(numWorkers);
+    int creditsPerWorker = 1000;
+    TestClock clock = TestClock.create();
+    StripedRateLimiter limiter =
+        new StripedRateLimiter(1, numWorkers * creditsPerWorker, clock, numWorkers);
+    AtomicInteger count = new AtomicInteger();
+    List<Future<?>> futures = new ArrayList<>(numWorkers);
+    for (int w = 0; w < numWorkers; ++w) {
+      Future<?> future =
+          executorService.submit(
+              () -> {
+                for (int i = 0; i < creditsPerWorker * 2; ++i) {
+                  if (limiter.trySpend(1)) {
+                    count.getAndIncrement(); // count allowed operations
+                  }
+                }
+              });
+      futures.add(future);
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+    executorService.awaitTermination(1, TimeUnit.SECONDS);
+    assertThat(count.get())
+        .withFailMessage("Exactly the allocated number of credits must be consumed")
+        .isEqualTo(numWorkers * creditsPerWorker);
+    assertThat(limiter.trySpend(1)).isFalse();
+  }
+}
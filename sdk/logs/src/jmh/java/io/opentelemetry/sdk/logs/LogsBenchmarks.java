@@ -7,8 +7,15 @@ package io.opentelemetry.sdk.logs;
 
 import static java.util.stream.Collectors.joining;
 
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.logs.Logger;
 import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -16,12 +23,14 @@ import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -33,6 +42,8 @@ import org.openjdk.jmh.annotations.Warmup;
 public class LogsBenchmarks {
 
   private static final Random RANDOM = new Random();
+  private static final AttributeKey<String> THREAD_NAME = AttributeKey.stringKey("thread.name");
+  private static final AttributeKey<Long> CODE_LINE = AttributeKey.longKey("code.lineno");
 
   @State(Scope.Benchmark)
   public static class BenchmarkState {
@@ -78,4 +89,67 @@ public class LogsBenchmarks {
         .setSeverity(Severity.DEBUG)
         .emit();
   }
+
+  @State(Scope.Benchmark)
+  public static class BatchState {
+
+    private SdkLoggerProvider sdk;
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      sdk =
+          SdkLoggerProvider.builder()
+              .addLogRecordProcessor(
+                  BatchLogRecordProcessor.builder(new DiscardingExporter()).build())
+              .build();
+      logger = sdk.get("benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      sdk.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Emits a log with attributes from several threads through a {@link BatchLogRecordProcessor},
+   * whose worker converts each log to {@link LogRecordData} concurrently with the emitting threads.
+   */
+  @Benchmark
+  @Threads(4)
+  public void emitBatchedLog(BatchState batchState) {
+    batchState
+        .logger
+        .logRecordBuilder()
+        .setBody("log message body")
+        .setSeverity(Severity.INFO)
+        .setAttribute(THREAD_NAME, "benchmark-thread")
+        .setAttribute(CODE_LINE, 42L)
+        .emit();
+  }
+
+  private static class DiscardingExporter implements LogRecordExporter {
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      long attributeCount = 0;
+      for (LogRecordData log : logs) {
+        attributeCount += log.getAttributes().size();
+      }
+      return attributeCount >= 0
+          ? CompletableResultCode.ofSuccess()
+          : CompletableResultCode.ofFailure();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
 }
@@ -54,6 +54,9 @@ public interface LogRecordProcessor extends Closeable {
   /**
    * Called when a {@link Logger} {@link LogRecordBuilder#emit()}s a log record.
    *
+   * <p>The log record can only be updated until every processor has been called, updates made
+   * afterwards are ignored.
+   *
    * @param context the context set via {@link LogRecordBuilder#setContext(Context)}, or {@link
    *     Context#current()} if not explicitly set
    * @param logRecord the log record
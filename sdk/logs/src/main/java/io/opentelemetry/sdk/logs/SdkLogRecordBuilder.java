@@ -122,20 +122,19 @@ final class SdkLogRecordBuilder implements ExtendedLogRecordBuilder {
         this.observedTimestampEpochNanos == 0
             ? this.loggerSharedState.getClock().now()
             : this.observedTimestampEpochNanos;
-    loggerSharedState
-        .getLogRecordProcessor()
-        .onEmit(
-            context,
-            SdkReadWriteLogRecord.create(
-                loggerSharedState.getLogLimits(),
-                loggerSharedState.getResource(),
-                instrumentationScopeInfo,
-                timestampEpochNanos,
-                observedTimestampEpochNanos,
-                Span.fromContext(context).getSpanContext(),
-                severity,
-                severityText,
-                body,
-                attributes));
+    SdkReadWriteLogRecord logRecord =
+        SdkReadWriteLogRecord.create(
+            loggerSharedState.getLogLimits(),
+            loggerSharedState.getResource(),
+            instrumentationScopeInfo,
+            timestampEpochNanos,
+            observedTimestampEpochNanos,
+            Span.fromContext(context).getSpanContext(),
+            severity,
+            severityText,
+            body,
+            attributes);
+    loggerSharedState.getLogRecordProcessor().onEmit(context, logRecord);
+    logRecord.markEmitted();
   }
 }
@@ -10,17 +10,30 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.logs.data.Body;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+/**
+ * {@link ReadWriteLogRecord} which is immutable once emitted.
+ *
+ * <p>Processors may update attributes until the {@link LogRecordProcessor#onEmit(Context,
+ * ReadWriteLogRecord)} chain returns, after which updates are ignored. {@link #toLogRecordData()}
+ * then hands the attributes off to the {@link LogRecordData} as is, without locking or copying
+ * them, as an ended span does.
+ */
 @ThreadSafe
 class SdkReadWriteLogRecord implements ReadWriteLogRecord {
 
+  private static final Logger logger = Logger.getLogger(SdkReadWriteLogRecord.class.getName());
+
   private final LogLimits logLimits;
   private final Resource resource;
   private final InstrumentationScopeInfo instrumentationScopeInfo;
@@ -32,9 +45,11 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
   private final Body body;
   private final Object lock = new Object();
 
-  @GuardedBy("lock")
-  @Nullable
-  private AttributesMap attributes;
+  // Only updated under the lock, and never once emitted.
+  @Nullable private AttributesMap attributes;
+
+  // Set under the lock once the log record is emitted.
+  private volatile boolean hasBeenEmitted;
 
   private SdkReadWriteLogRecord(
       LogLimits logLimits,
@@ -90,39 +105,94 @@ class SdkReadWriteLogRecord implements ReadWriteLogRecord {
       return this;
     }
     synchronized (lock) {
-      if (attributes == null) {
-        attributes =
-            AttributesMap.create(
-                logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      if (hasBeenEmitted) {
+        logger.log(Level.FINE, "Calling setAttribute() on an emitted log record.");
+        return this;
       }
-      attributes.put(key, value);
+      attributes().put(key, value);
     }
     return this;
   }
 
-  private Attributes getImmutableAttributes() {
+  @Override
+  @SuppressWarnings("unchecked")
+  public ReadWriteLogRecord setAllAttributes(Attributes attributes) {
+    if (attributes == null || attributes.isEmpty()) {
+      return this;
+    }
     synchronized (lock) {
-      if (attributes == null || attributes.isEmpty()) {
-        return Attributes.empty();
+      if (hasBeenEmitted) {
+        logger.log(Level.FINE, "Calling setAllAttributes() on an emitted log record.");
+        return this;
       }
-      return attributes.immutableCopy();
+      AttributesMap attributesMap = attributes();
+      attributes.forEach(
+          (key, value) -> {
+            if (!key.getKey().isEmpty() && value != null) {
+              attributesMap.put((AttributeKey<Object>) key, value);
+            }
+          });
+    }
+    return this;
+  }
+
+  @GuardedBy("lock")
+  private AttributesMap attributes() {
+    AttributesMap attributes = this.attributes;
+    if (attributes == null) {
+      attributes =
+          AttributesMap.create(
+              logLimits.getMaxNumberOfAttributes(), logLimits.getMaxAttributeValueLength());
+      this.attributes = attributes;
+    }
+    return attributes;
+  }
+
+  /**
+   * Marks the log record as emitted, once every processor has been called. Attributes are no longer
+   * updated after.
+   */
+  void markEmitted() {
+    synchronized (lock) {
+      hasBeenEmitted = true;
     }
   }
 
   @Override
-  public LogRecordData toLogRecordData() {
+  public SdkLogRecordData toLogRecordData() {
+    if (hasBeenEmitted) {
+      // Attributes are no longer updated, so they are read without locking.
+      return createData(attributes);
+    }
     synchronized (lock) {
-      return SdkLogRecordData.create(
-          resource,
-          instrumentationScopeInfo,
-          timestampEpochNanos,
-          observedTimestampEpochNanos,
-          spanContext,
-          severity,
-          severityText,
-          body,
-          getImmutableAttributes(),
-          attributes == null ? 0 : attributes.getTotalAddedValues());
+      return createData(attributes);
+    }
+  }
+
+  private SdkLogRecordData createData(@Nullable AttributesMap attributes) {
+    return SdkLogRecordData.create(
+        resource,
+        instrumentationScopeInfo,
+        timestampEpochNanos,
+        observedTimestampEpochNanos,
+        spanContext,
+        severity,
+        severityText,
+        body,
+        getImmutableAttributes(attributes),
+        attributes == null ? 0 : attributes.getTotalAddedValues());
+  }
+
+  private Attributes getImmutableAttributes(@Nullable AttributesMap attributes) {
+    if (attributes == null || attributes.isEmpty()) {
+      return Attributes.empty();
+    }
+    // if the log record has been emitted, then the attributes are unmodifiable,
+    // so we can return them directly and save copying all the data.
+    if (hasBeenEmitted) {
+      return attributes;
     }
+    // otherwise, make a copy of the data into an immutable container.
+    return attributes.immutableCopy();
   }
 }
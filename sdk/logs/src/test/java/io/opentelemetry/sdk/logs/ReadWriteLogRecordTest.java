@@ -14,7 +14,10 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.logs.data.Body;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class ReadWriteLogRecordTest {
@@ -48,6 +51,95 @@ class ReadWriteLogRecordTest {
     assertThat(result.toLogRecordData().getAttributes()).isEqualTo(originalAttributes);
   }
 
+  @Test
+  void toLogRecordData_CopiesAttributesUntilEmitted() {
+    SdkReadWriteLogRecord logRecord = buildLogRecord();
+    LogRecordData before = logRecord.toLogRecordData();
+
+    logRecord.setAttribute(stringKey("foo"), "baz");
+
+    LogRecordData after = logRecord.toLogRecordData();
+    assertThat(before.getAttributes().get(stringKey("foo")))
+        .isEqualTo("aaiosjfjioasdiojfjioasojifja");
+    assertThat(before.getTotalAttributeCount()).isEqualTo(2);
+    assertThat(after.getAttributes().get(stringKey("foo"))).isEqualTo("baz");
+    assertThat(after.getAttributes().get(stringKey("untouched"))).isEqualTo("yes");
+    assertThat(after.getTotalAttributeCount()).isEqualTo(3);
+    assertThat(after.getBody()).isEqualTo(before.getBody());
+    assertThat(after.getSeverityText()).isEqualTo("buggin");
+  }
+
+  @Test
+  void toLogRecordData_SharesAttributesOnceEmitted() {
+    SdkReadWriteLogRecord logRecord = buildLogRecord();
+    logRecord.markEmitted();
+
+    logRecord.setAttribute(stringKey("foo"), "baz");
+    logRecord.setAllAttributes(Attributes.of(stringKey("bar"), "buzz"));
+
+    LogRecordData logRecordData = logRecord.toLogRecordData();
+    assertThat(logRecordData.getAttributes().get(stringKey("foo")))
+        .isEqualTo("aaiosjfjioasdiojfjioasojifja");
+    assertThat(logRecordData.getAttributes().get(stringKey("bar"))).isNull();
+    assertThat(logRecordData.getTotalAttributeCount()).isEqualTo(2);
+    assertThat(logRecord.toLogRecordData().getAttributes()).isSameAs(logRecordData.getAttributes());
+  }
+
+  @Test
+  void setAttribute_AppliesLimits() {
+    SdkReadWriteLogRecord logRecord =
+        SdkReadWriteLogRecord.create(
+            LogLimits.builder().setMaxNumberOfAttributes(2).setMaxAttributeValueLength(3).build(),
+            Resource.empty(),
+            InstrumentationScopeInfo.create("test"),
+            0L,
+            0L,
+            SpanContext.getInvalid(),
+            Severity.DEBUG,
+            null,
+            Body.empty(),
+            null);
+
+    logRecord
+        .setAttribute(stringKey("a"), "aaaaa")
+        .setAttribute(stringKey("b"), "b")
+        .setAttribute(stringKey("c"), "c")
+        .setAttribute(stringKey("a"), "a");
+
+    LogRecordData logRecordData = logRecord.toLogRecordData();
+    assertThat(logRecordData.getAttributes())
+        .isEqualTo(Attributes.of(stringKey("a"), "a", stringKey("b"), "b"));
+    assertThat(logRecordData.getTotalAttributeCount()).isEqualTo(4);
+  }
+
+  @Test
+  void setAttribute_Concurrent() throws InterruptedException {
+    SdkReadWriteLogRecord logRecord = buildLogRecord();
+    int threadCount = 4;
+    int attributesPerThread = 24;
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      int thread = i;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int j = 0; j < attributesPerThread; j++) {
+                  logRecord.setAttribute(stringKey("key-" + thread + "-" + j), "value");
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    LogRecordData logRecordData = logRecord.toLogRecordData();
+    assertThat(logRecordData.getAttributes().size())
+        .isEqualTo(2 + threadCount * attributesPerThread);
+    assertThat(logRecordData.getTotalAttributeCount())
+        .isEqualTo(2 + threadCount * attributesPerThread);
+  }
+
   SdkReadWriteLogRecord buildLogRecord() {
     Body body = Body.string("bod");
     AttributesMap initialAttributes = AttributesMap.create(100, 200);
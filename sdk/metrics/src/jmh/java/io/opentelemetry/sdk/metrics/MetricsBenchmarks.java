@@ -62,6 +62,10 @@ public class MetricsBenchmarks {
     Span span;
     io.opentelemetry.context.Scope contextScope;
     final Attributes sharedLabelSet = Attributes.builder().put("KEY", "VALUE").build();
+    // Only differ from sharedLabelSet by a key that views filtering attributes drop, which has a
+    // distinct value in each of them, as a request ID would.
+    final Attributes[] labelSetsWithDroppedKey = new Attributes[4096];
+    int droppedKeyIndex;
     Attributes threadUniqueLabelSet;
 
     @Setup
@@ -75,6 +79,10 @@ public class MetricsBenchmarks {
       op = opBuilder.build(meter);
       threadUniqueLabelSet =
           Attributes.builder().put("KEY", String.valueOf(threadParams.getThreadIndex())).build();
+      for (int i = 0; i < labelSetsWithDroppedKey.length; i++) {
+        labelSetsWithDroppedKey[i] =
+            Attributes.builder().put("KEY", "VALUE").put("request.id", "request-" + i).build();
+      }
     }
 
     @TearDown
@@ -98,6 +106,13 @@ public class MetricsBenchmarks {
     threadState.op.perform(threadState.sharedLabelSet);
   }
 
+  @Benchmark
+  @Threads(1)
+  public void oneThreadDroppedKey(ThreadState threadState) {
+    Attributes[] labelSets = threadState.labelSetsWithDroppedKey;
+    threadState.op.perform(labelSets[threadState.droppedKeyIndex++ & (labelSets.length - 1)]);
+  }
+
   @Benchmark
   @Threads(8)
   public void eightThreadsCommonLabelSet(ThreadState threadState) {
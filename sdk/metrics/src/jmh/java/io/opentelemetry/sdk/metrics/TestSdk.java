@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.Collections;
 
 @SuppressWarnings("ImmutableEnumChecker")
 public enum TestSdk {
@@ -51,6 +52,23 @@ public enum TestSdk {
               .get("io.opentelemetry.sdk.metrics");
         }
       }),
+  SDK_FILTERING_VIEW(
+      new SdkBuilder() {
+        @Override
+        Meter build() {
+          return SdkMeterProvider.builder()
+              .setClock(Clock.getDefault())
+              .setResource(Resource.empty())
+              // Must register reader for real SDK.
+              .registerMetricReader(InMemoryMetricReader.create())
+              // Only retain the "KEY" attribute, dropping any others.
+              .registerView(
+                  InstrumentSelector.builder().setName("*").build(),
+                  View.builder().setAttributeFilter(Collections.singleton("KEY")).build())
+              .build()
+              .get("io.opentelemetry.sdk.metrics");
+        }
+      }),
   SDK_DELTA(
       new SdkBuilder() {
         @Override
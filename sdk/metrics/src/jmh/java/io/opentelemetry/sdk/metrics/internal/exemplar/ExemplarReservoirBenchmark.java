@@ -0,0 +1,163 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of exemplar sampling on the record path, both end to end for a counter with
+ * exemplars turned off and on, and for the fixed size reservoirs in isolation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExemplarReservoirBenchmark {
+
+  private static final Attributes ATTRIBUTES = Attributes.builder().put("KEY", "VALUE").build();
+  private static final Context SAMPLED_CONTEXT =
+      Context.root()
+          .with(
+              Span.wrap(
+                  SpanContext.create(
+                      "ff000000000000000000000000000041",
+                      "ff00000000000041",
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault())));
+
+  @SuppressWarnings("ImmutableEnumChecker")
+  public enum FilterParam {
+    ALWAYS_OFF(ExemplarFilter.alwaysOff()),
+    TRACE_BASED(ExemplarFilter.traceBased()),
+    ALWAYS_ON(ExemplarFilter.alwaysOn());
+
+    private final ExemplarFilter filter;
+
+    FilterParam(ExemplarFilter filter) {
+      this.filter = filter;
+    }
+  }
+
+  public enum ReservoirParam {
+    RANDOM {
+      @Override
+      ExemplarReservoir<LongExemplarData> create() {
+        return RandomFixedSizeExemplarReservoir.createLong(
+            Clock.getDefault(), RESERVOIR_SIZE, RandomSupplier.platformDefault());
+      }
+    },
+    SKIP_SAMPLING {
+      @Override
+      ExemplarReservoir<LongExemplarData> create() {
+        return SkipSamplingFixedSizeExemplarReservoir.createLong(
+            Clock.getDefault(), RESERVOIR_SIZE, RandomSupplier.platformDefault());
+      }
+    };
+
+    // The size SumAggregation uses on a typical server.
+    private static final int RESERVOIR_SIZE = 8;
+
+    abstract ExemplarReservoir<LongExemplarData> create();
+  }
+
+  @State(Scope.Benchmark)
+  public static class CounterState {
+
+    @Param FilterParam filter;
+
+    SdkMeterProvider meterProvider;
+    LongCounter counter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      SdkMeterProviderBuilder builder =
+          SdkMeterProvider.builder()
+              .setResource(Resource.empty())
+              .registerMetricReader(InMemoryMetricReader.create());
+      SdkMeterProviderUtil.setExemplarFilter(builder, filter.filter);
+      meterProvider = builder.build();
+      counter = meterProvider.get("benchmark").counterBuilder("counter").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ReservoirState {
+
+    @Param ReservoirParam reservoir;
+
+    ExemplarReservoir<LongExemplarData> exemplarReservoir;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      exemplarReservoir = reservoir.create();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void counterAdd_01Threads(CounterState state) {
+    state.counter.add(1, ATTRIBUTES, SAMPLED_CONTEXT);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void counterAdd_04Threads(CounterState state) {
+    state.counter.add(1, ATTRIBUTES, SAMPLED_CONTEXT);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void counterAddWithoutSpan_01Threads(CounterState state) {
+    state.counter.add(1, ATTRIBUTES, Context.root());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void reservoirOffer_01Threads(ReservoirState state) {
+    state.exemplarReservoir.offerLongMeasurement(1, ATTRIBUTES, SAMPLED_CONTEXT);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void reservoirOffer_04Threads(ReservoirState state) {
+    state.exemplarReservoir.offerLongMeasurement(1, ATTRIBUTES, SAMPLED_CONTEXT);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.View;
+import io.opentelemetry.sdk.metrics.ViewBuilder;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default and columnar storage of a CUMULATIVE counter with many series.
+ *
+ * <p>The {@code retainedBytesPerSeries} counter is the heap retained by each series, measured once
+ * all series are recorded. {@code record} records to a random existing series, and {@code collect}
+ * collects all series.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarSumStorageBenchmark {
+
+  private static final AttributeKey<Long> SERIES_ID = AttributeKey.longKey("series.id");
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"false", "true"})
+    boolean columnar;
+
+    @Param({"100000"})
+    int seriesCount;
+
+    InMemoryMetricReader reader;
+    SdkMeterProvider sdkMeterProvider;
+    LongCounter counter;
+    Attributes[] attributes;
+    long retainedBytesPerSeries;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      attributes = new Attributes[seriesCount];
+      for (int i = 0; i < seriesCount; i++) {
+        attributes[i] = Attributes.of(SERIES_ID, (long) i);
+      }
+
+      ViewBuilder viewBuilder = View.builder();
+      SdkMeterProviderUtil.setCardinalityLimit(viewBuilder, seriesCount + 1);
+      SdkMeterProviderUtil.setColumnarSumStorage(viewBuilder, columnar);
+      reader = InMemoryMetricReader.create();
+      SdkMeterProviderBuilder builder =
+          SdkMeterProvider.builder()
+              .registerMetricReader(reader)
+              .registerView(
+                  InstrumentSelector.builder().setName("counter").build(), viewBuilder.build());
+      // Columnar storage doesn't sample exemplars, so don't sample them for the default either
+      SdkMeterProviderUtil.setExemplarFilter(builder, ExemplarFilter.alwaysOff());
+      sdkMeterProvider = builder.build();
+      counter = sdkMeterProvider.get("meter").counterBuilder("counter").build();
+
+      long before = usedHeap();
+      for (Attributes seriesAttributes : attributes) {
+        counter.add(1, seriesAttributes);
+      }
+      retainedBytesPerSeries = (usedHeap() - before) / seriesCount;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      sdkMeterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    private static long usedHeap() {
+      Runtime runtime = Runtime.getRuntime();
+      for (int i = 0; i < 3; i++) {
+        System.gc();
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+    private BenchmarkState state;
+
+    @Setup(Level.Iteration)
+    public void setup(BenchmarkState state) {
+      this.state = state;
+    }
+
+    public long retainedBytesPerSeries() {
+      return state.retainedBytesPerSeries;
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void record(BenchmarkState state, Counters counters) {
+    state.counter.add(1, state.attributes[ThreadLocalRandom.current().nextInt(state.seriesCount)]);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Collection<MetricData> collect(BenchmarkState state, Counters counters) {
+    return state.reader.collectAllMetrics();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.View;
+import io.opentelemetry.sdk.metrics.ViewBuilder;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a CUMULATIVE counter whose series churn, as when an attribute holds a short-lived value
+ * such as a connection or pod id. Each operation records to a new generation of series and
+ * collects.
+ *
+ * <p>The {@code points} counter is the total number of points collected, and the points collected
+ * per operation are the series the storage retains. Without eviction they grow to the cardinality
+ * limit, after which new series are folded into the overflow series. Run with {@code -prof gc} to
+ * compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdleSeriesEvictionBenchmark {
+
+  private static final AttributeKey<Long> CONNECTION_ID = AttributeKey.longKey("connection.id");
+  private static final int SERIES_PER_COLLECTION = 100;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"0", "1", "5"})
+    int maxIdleCollections;
+
+    InMemoryMetricReader reader;
+    SdkMeterProvider sdkMeterProvider;
+    LongCounter counter;
+    long generation;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+      ViewBuilder viewBuilder = View.builder();
+      SdkMeterProviderUtil.setMaxIdleCollections(viewBuilder, maxIdleCollections);
+      reader = InMemoryMetricReader.create();
+      sdkMeterProvider =
+          SdkMeterProvider.builder()
+              .registerMetricReader(reader)
+              .registerView(
+                  InstrumentSelector.builder().setName("counter").build(), viewBuilder.build())
+              .build();
+      counter = sdkMeterProvider.get("meter").counterBuilder("counter").build();
+      generation = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+      sdkMeterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+    public long points;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void recordAndCollect(BenchmarkState state, Counters counters) {
+    long first = state.generation++ * SERIES_PER_COLLECTION;
+    for (long id = first; id < first + SERIES_PER_COLLECTION; id++) {
+      state.counter.add(1, Attributes.of(CONNECTION_ID, id));
+    }
+    for (MetricData metricData : state.reader.collectAllMetrics()) {
+      counters.points += metricData.getData().getPoints().size();
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
+import io.opentelemetry.sdk.metrics.InstrumentSelectorBuilder;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
+import io.opentelemetry.sdk.metrics.View;
+import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
+import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures resolving the views of 10,000 instruments against 200 registered views selecting
+ * instruments by exact name, name pattern and instrument type, both directly on the {@link
+ * ViewRegistry} and end to end when registering the instruments on a meter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ViewRegistryBenchmark {
+
+  private static final int INSTRUMENTS = 10_000;
+  private static final int VIEWS = 200;
+  private static final InstrumentationScopeInfo SCOPE = InstrumentationScopeInfo.create("meter");
+
+  private static List<RegisteredView> registeredViews() {
+    List<RegisteredView> registeredViews = new ArrayList<>(VIEWS);
+    for (int i = 0; i < VIEWS; i++) {
+      InstrumentSelectorBuilder selector = InstrumentSelector.builder();
+      switch (i % 4) {
+        case 0:
+          selector.setName("service_" + i + "_requests");
+          break;
+        case 1:
+          selector.setName("service_" + i + "_*");
+          break;
+        case 2:
+          selector.setName("*_latency_" + i).setType(InstrumentType.HISTOGRAM);
+          break;
+        default:
+          selector.setName("service_" + i + "_requests").setMeterName("other");
+          break;
+      }
+      registeredViews.add(
+          RegisteredView.create(
+              selector.build(),
+              View.builder().setDescription("view " + i).build(),
+              AttributesProcessor.noop(),
+              MetricStorage.DEFAULT_MAX_CARDINALITY,
+              SourceInfo.noSourceInfo()));
+    }
+    return registeredViews;
+  }
+
+  // The first instruments are selected by exact name, the others by name pattern or not at all.
+  private static String instrumentName(int i) {
+    if (i < VIEWS) {
+      return "service_" + i + "_requests";
+    }
+    return "service_" + (i % (2 * VIEWS)) + "_requests_" + i;
+  }
+
+  @State(Scope.Benchmark)
+  public static class RegistryState {
+
+    ViewRegistry viewRegistry;
+    List<InstrumentDescriptor> descriptors;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      viewRegistry =
+          ViewRegistry.create(
+              DefaultAggregationSelector.getDefault(),
+              CardinalityLimitSelector.defaultCardinalityLimitSelector(),
+              registeredViews());
+      descriptors = new ArrayList<>(INSTRUMENTS);
+      for (int i = 0; i < INSTRUMENTS; i++) {
+        descriptors.add(
+            InstrumentDescriptor.create(
+                instrumentName(i),
+                "",
+                "",
+                i % 2 == 0 ? InstrumentType.COUNTER : InstrumentType.HISTOGRAM,
+                InstrumentValueType.LONG,
+                Advice.empty()));
+      }
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class MeterState {
+
+    SdkMeterProvider meterProvider;
+    Meter meter;
+
+    // Each invocation needs a new meter so that the instruments are registered rather than reused.
+    @Setup(Level.Invocation)
+    public void setup() {
+      SdkMeterProviderBuilder builder =
+          SdkMeterProvider.builder()
+              .setResource(Resource.empty())
+              .registerMetricReader(InMemoryMetricReader.create());
+      for (RegisteredView registeredView : registeredViews()) {
+        builder.registerView(registeredView.getInstrumentSelector(), registeredView.getView());
+      }
+      meterProvider = builder.build();
+      meter = meterProvider.get("meter");
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+      meterProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  public void findViews(RegistryState state, Blackhole blackhole) {
+    for (InstrumentDescriptor descriptor : state.descriptors) {
+      blackhole.consume(state.viewRegistry.findViews(descriptor, SCOPE));
+    }
+  }
+
+  @Benchmark
+  public void registerInstruments(MeterState state, Blackhole blackhole) {
+    for (int i = 0; i < INSTRUMENTS; i++) {
+      blackhole.consume(state.meter.counterBuilder(instrumentName(i)).build());
+    }
+  }
+}
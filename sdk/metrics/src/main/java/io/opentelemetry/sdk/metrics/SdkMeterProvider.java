@@ -20,19 +20,25 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.state.CallbackExecution;
+import io.opentelemetry.sdk.metrics.internal.state.CollectionTasks;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * SDK implementation for {@link MeterProvider}.
@@ -62,7 +68,10 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       List<MetricProducer> metricProducers,
       Clock clock,
       Resource resource,
-      ExemplarFilter exemplarFilter) {
+      ExemplarFilter exemplarFilter,
+      @Nullable Executor collectionExecutor,
+      @Nullable Executor callbackExecutor,
+      Duration callbackTimeout) {
     long startEpochNanos = clock.now();
     this.registeredViews = registeredViews;
     this.registeredReaders =
@@ -75,7 +84,15 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
             .collect(toList());
     this.metricProducers = metricProducers;
     this.sharedState =
-        MeterProviderSharedState.create(clock, resource, exemplarFilter, startEpochNanos);
+        MeterProviderSharedState.create(
+            clock,
+            resource,
+            exemplarFilter,
+            startEpochNanos,
+            collectionExecutor,
+            callbackExecutor == null
+                ? null
+                : CallbackExecution.create(callbackExecutor, callbackTimeout, () -> this));
     this.registry =
         new ComponentRegistry<>(
             instrumentationLibraryInfo ->
@@ -189,8 +206,20 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
       Collection<SdkMeter> meters = registry.getComponents();
       List<MetricData> result = new ArrayList<>();
       long collectTime = sharedState.getClock().now();
-      for (SdkMeter meter : meters) {
-        result.addAll(meter.collectAll(registeredReader, collectTime));
+      Executor collectionExecutor = sharedState.getCollectionExecutor();
+      if (collectionExecutor == null) {
+        for (SdkMeter meter : meters) {
+          result.addAll(meter.collectAll(registeredReader, collectTime));
+        }
+      } else {
+        List<Callable<Collection<MetricData>>> tasks = new ArrayList<>(meters.size());
+        for (SdkMeter meter : meters) {
+          tasks.add(() -> meter.collectAll(registeredReader, collectTime));
+        }
+        for (Collection<MetricData> meterResult :
+            CollectionTasks.invokeAll(tasks, collectionExecutor)) {
+          result.addAll(meterResult);
+        }
       }
       registeredReader.setLastCollectEpochNanos(collectTime);
       return Collections.unmodifiableCollection(result);
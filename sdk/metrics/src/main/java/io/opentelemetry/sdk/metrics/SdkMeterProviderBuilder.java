@@ -14,10 +14,13 @@ import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
 import io.opentelemetry.sdk.resources.Resource;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
 
 /**
  * Builder class for the {@link SdkMeterProvider}.
@@ -40,6 +43,9 @@ public final class SdkMeterProviderBuilder {
   private final List<MetricProducer> metricProducers = new ArrayList<>();
   private final List<RegisteredView> registeredViews = new ArrayList<>();
   private ExemplarFilter exemplarFilter = DEFAULT_EXEMPLAR_FILTER;
+  @Nullable private Executor collectionExecutor;
+  @Nullable private Executor callbackExecutor;
+  private Duration callbackTimeout = Duration.ZERO;
 
   SdkMeterProviderBuilder() {}
 
@@ -84,6 +90,50 @@ public final class SdkMeterProviderBuilder {
     return this;
   }
 
+  /**
+   * Assign an {@link Executor} to collect meters, and batches of metric storages within a meter, in
+   * parallel. By default, metrics are collected sequentially on the thread of the {@link
+   * MetricReader} collecting them.
+   *
+   * <p>The order of the collected metrics is the same as when collecting sequentially. The
+   * collecting thread runs any collection task the executor hasn't started yet, so the executor may
+   * be bounded and shared, e.g. {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCollectionExecutor(SdkMeterProviderBuilder, Executor)}.
+   */
+  SdkMeterProviderBuilder setCollectionExecutor(Executor collectionExecutor) {
+    Objects.requireNonNull(collectionExecutor, "collectionExecutor");
+    this.collectionExecutor = collectionExecutor;
+    return this;
+  }
+
+  /**
+   * Assign an {@link Executor} to invoke the callbacks of asynchronous instruments, with a deadline
+   * of {@code callbackTimeout} for the callbacks of each meter. By default, callbacks are invoked
+   * on the thread of the {@link MetricReader} collecting metrics, without a deadline.
+   *
+   * <p>The callbacks of a meter are submitted to the executor together, and the collecting thread
+   * waits for all of them until a single deadline. If a callback misses the deadline, it is left to
+   * complete on the executor and the measurements it recorded in its last invocation which
+   * completed in time are exported instead, until it completes. The duration of callbacks is
+   * recorded to the {@code callbackDuration} histogram of the {@code io.opentelemetry.sdk.metrics}
+   * meter.
+   *
+   * <p>Note: not currently stable but available for experimental use via {@link
+   * SdkMeterProviderUtil#setCallbackExecutor(SdkMeterProviderBuilder, Executor, Duration)}.
+   */
+  SdkMeterProviderBuilder setCallbackExecutor(Executor callbackExecutor, Duration callbackTimeout) {
+    Objects.requireNonNull(callbackExecutor, "callbackExecutor");
+    Objects.requireNonNull(callbackTimeout, "callbackTimeout");
+    if (callbackTimeout.isNegative() || callbackTimeout.isZero()) {
+      throw new IllegalArgumentException("callbackTimeout must be positive");
+    }
+    this.callbackExecutor = callbackExecutor;
+    this.callbackTimeout = callbackTimeout;
+    return this;
+  }
+
   /**
    * Register a {@link View}.
    *
@@ -117,6 +167,8 @@ public final class SdkMeterProviderBuilder {
             view,
             view.getAttributesProcessor(),
             view.getCardinalityLimit(),
+            view.getMaxIdleCollections(),
+            view.getColumnarSumStorage(),
             SourceInfo.fromCurrentStack()));
     return this;
   }
@@ -153,6 +205,14 @@ public final class SdkMeterProviderBuilder {
   /** Returns an {@link SdkMeterProvider} built with the configuration of this builder. */
   public SdkMeterProvider build() {
     return new SdkMeterProvider(
-        registeredViews, metricReaders, metricProducers, clock, resource, exemplarFilter);
+        registeredViews,
+        metricReaders,
+        metricProducers,
+        clock,
+        resource,
+        exemplarFilter,
+        collectionExecutor,
+        callbackExecutor,
+        callbackTimeout);
   }
 }
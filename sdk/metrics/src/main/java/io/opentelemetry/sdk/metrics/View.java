@@ -34,8 +34,25 @@ public abstract class View {
       Aggregation aggregation,
       AttributesProcessor attributesProcessor,
       int cardinalityLimit) {
+    return create(name, description, aggregation, attributesProcessor, cardinalityLimit, 0, false);
+  }
+
+  static View create(
+      @Nullable String name,
+      @Nullable String description,
+      Aggregation aggregation,
+      AttributesProcessor attributesProcessor,
+      int cardinalityLimit,
+      int maxIdleCollections,
+      boolean columnarSumStorage) {
     return new AutoValue_View(
-        name, description, aggregation, attributesProcessor, cardinalityLimit);
+        name,
+        description,
+        aggregation,
+        attributesProcessor,
+        cardinalityLimit,
+        maxIdleCollections,
+        columnarSumStorage);
   }
 
   View() {}
@@ -63,6 +80,15 @@ public abstract class View {
   /** Returns the cardinality limit for this view. */
   abstract int getCardinalityLimit();
 
+  /**
+   * Returns the number of collections a series may go without recorded values before it's evicted,
+   * or {@code 0} if series are never evicted.
+   */
+  abstract int getMaxIdleCollections();
+
+  /** Returns whether sums are stored in primitive columns rather than per series handles. */
+  abstract boolean getColumnarSumStorage();
+
   @Override
   public final String toString() {
     StringJoiner joiner = new StringJoiner(", ", "View{", "}");
@@ -75,6 +101,12 @@ public abstract class View {
     joiner.add("aggregation=" + getAggregation());
     joiner.add("attributesProcessor=" + getAttributesProcessor());
     joiner.add("cardinalityLimit=" + getCardinalityLimit());
+    if (getMaxIdleCollections() > 0) {
+      joiner.add("maxIdleCollections=" + getMaxIdleCollections());
+    }
+    if (getColumnarSumStorage()) {
+      joiner.add("columnarSumStorage=true");
+    }
     return joiner.toString();
   }
 }
@@ -29,6 +29,8 @@ public final class ViewBuilder {
   private Aggregation aggregation = Aggregation.defaultAggregation();
   private AttributesProcessor processor = AttributesProcessor.noop();
   private int cardinalityLimit = MetricStorage.DEFAULT_MAX_CARDINALITY;
+  private int maxIdleCollections = 0;
+  private boolean columnarSumStorage = false;
 
   ViewBuilder() {}
 
@@ -122,8 +124,54 @@ public final class ViewBuilder {
     return this;
   }
 
+  /**
+   * Set the number of consecutive collections a series may go without recorded values before it's
+   * evicted. Only applies to synchronous instruments with {@link
+   * io.opentelemetry.sdk.metrics.data.AggregationTemporality#CUMULATIVE} temporality, which
+   * otherwise keep every series they've seen until the cardinality limit is reached. If values are
+   * recorded to an evicted series again, it's reported as a new series with a new start time.
+   *
+   * <p>Note: not currently stable but idle series eviction can be configured via
+   * SdkMeterProviderUtil#setMaxIdleCollections(ViewBuilder, int).
+   *
+   * @param maxIdleCollections the number of collections without recorded values before a series is
+   *     evicted, or {@code 0} to never evict series
+   */
+  ViewBuilder setMaxIdleCollections(int maxIdleCollections) {
+    if (maxIdleCollections < 0) {
+      throw new IllegalArgumentException("maxIdleCollections must be >= 0");
+    }
+    this.maxIdleCollections = maxIdleCollections;
+    return this;
+  }
+
+  /**
+   * Set whether sums of synchronous instruments are stored in primitive columns indexed by
+   * attributes, rather than in a handle per series. This reduces the memory used by each series by
+   * several times for instruments with many series, and makes collection a linear scan of the
+   * columns. Series stored in columns don't sample exemplars, aren't evicted by {@link
+   * #setMaxIdleCollections(int)}, and their points are allocated by each collection regardless of
+   * {@link MemoryMode}. Other aggregations ignore this option.
+   *
+   * <p>Note: not currently stable but columnar sum storage can be configured via
+   * SdkMeterProviderUtil#setColumnarSumStorage(ViewBuilder, boolean).
+   *
+   * @param columnarSumStorage whether to store sums in columns
+   */
+  ViewBuilder setColumnarSumStorage(boolean columnarSumStorage) {
+    this.columnarSumStorage = columnarSumStorage;
+    return this;
+  }
+
   /** Returns a {@link View} with the configuration of this builder. */
   public View build() {
-    return View.create(name, description, aggregation, processor, cardinalityLimit);
+    return View.create(
+        name,
+        description,
+        aggregation,
+        processor,
+        cardinalityLimit,
+        maxIdleCollections,
+        columnarSumStorage);
   }
 }
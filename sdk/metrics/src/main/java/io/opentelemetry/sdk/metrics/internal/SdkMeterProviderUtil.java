@@ -15,6 +15,8 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 /**
@@ -44,6 +46,47 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively assign the collection {@link Executor} to the {@link SdkMeterProviderBuilder}, to
+   * collect meters and metric storages in parallel.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCollectionExecutor(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder, Executor collectionExecutor) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod("setCollectionExecutor", Executor.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, collectionExecutor);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCollectionExecutor on SdkMeterProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively assign the {@link Executor} invoking the callbacks of asynchronous instruments,
+   * and the deadline of the callbacks of each meter, to the {@link SdkMeterProviderBuilder}.
+   *
+   * @param sdkMeterProviderBuilder the builder
+   */
+  public static void setCallbackExecutor(
+      SdkMeterProviderBuilder sdkMeterProviderBuilder,
+      Executor callbackExecutor,
+      Duration callbackTimeout) {
+    try {
+      Method method =
+          SdkMeterProviderBuilder.class.getDeclaredMethod(
+              "setCallbackExecutor", Executor.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(sdkMeterProviderBuilder, callbackExecutor, callbackTimeout);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setCallbackExecutor on SdkMeterProviderBuilder", e);
+    }
+  }
+
   /**
    * Reflectively add a {@link MetricReader} with the {@link CardinalityLimitSelector} to the {@link
    * SdkMeterProviderBuilder}.
@@ -120,6 +163,39 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively set the {@code maxIdleCollections} on the {@link ViewBuilder}.
+   *
+   * @param viewBuilder the builder
+   * @param maxIdleCollections the number of collections a series may go without recorded values
+   *     before it's evicted, or {@code 0} to never evict series
+   */
+  public static void setMaxIdleCollections(ViewBuilder viewBuilder, int maxIdleCollections) {
+    try {
+      Method method = ViewBuilder.class.getDeclaredMethod("setMaxIdleCollections", int.class);
+      method.setAccessible(true);
+      method.invoke(viewBuilder, maxIdleCollections);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException("Error setting maxIdleCollections on ViewBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set whether sums are stored in primitive columns on the {@link ViewBuilder}.
+   *
+   * @param viewBuilder the builder
+   * @param columnarSumStorage whether to store sums in columns rather than per series handles
+   */
+  public static void setColumnarSumStorage(ViewBuilder viewBuilder, boolean columnarSumStorage) {
+    try {
+      Method method = ViewBuilder.class.getDeclaredMethod("setColumnarSumStorage", boolean.class);
+      method.setAccessible(true);
+      method.invoke(viewBuilder, columnarSumStorage);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException("Error setting columnarSumStorage on ViewBuilder", e);
+    }
+  }
+
   /** Reflectively reset the {@link SdkMeterProvider}, clearing all registered instruments. */
   public static void resetForTest(SdkMeterProvider sdkMeterProvider) {
     try {
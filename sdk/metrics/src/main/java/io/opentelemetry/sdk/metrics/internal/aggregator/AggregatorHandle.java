@@ -30,6 +30,12 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   private final ExemplarReservoir<U> exemplarReservoir;
   private volatile boolean valuesRecorded = false;
 
+  // Only used by storages which evict idle series. recentlyRecorded is set by every record, the
+  // other fields are only accessed while collecting.
+  private volatile boolean recentlyRecorded = false;
+  private int idleCollections = 0;
+  private long seriesStartEpochNanos = -1;
+
   protected AggregatorHandle(ExemplarReservoir<U> exemplarReservoir) {
     this.exemplarReservoir = exemplarReservoir;
   }
@@ -75,6 +81,7 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   public final void recordLong(long value) {
     doRecordLong(value);
     valuesRecorded = true;
+    markRecentlyRecorded();
   }
 
   /**
@@ -101,6 +108,7 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   public final void recordDouble(double value) {
     doRecordDouble(value);
     valuesRecorded = true;
+    markRecentlyRecorded();
   }
 
   /**
@@ -120,4 +128,57 @@ public abstract class AggregatorHandle<T extends PointData, U extends ExemplarDa
   public boolean hasRecordedValues() {
     return valuesRecorded;
   }
+
+  private void markRecentlyRecorded() {
+    // Avoid writing the shared field when it's already set
+    if (!recentlyRecorded) {
+      recentlyRecorded = true;
+    }
+  }
+
+  /**
+   * Returns the number of consecutive collections without values recorded to this handle, including
+   * this one. Only used by storages which evict idle series.
+   */
+  public int updateIdleCollections() {
+    if (recentlyRecorded) {
+      recentlyRecorded = false;
+      idleCollections = 0;
+    } else {
+      idleCollections++;
+    }
+    return idleCollections;
+  }
+
+  /**
+   * Returns {@code true} if values were recorded to this handle since the last call to {@link
+   * #updateIdleCollections()}.
+   */
+  public boolean hasRecentlyRecordedValues() {
+    return recentlyRecorded;
+  }
+
+  /**
+   * Returns the start epoch of the series this handle aggregates, or {@code -1} if it's not been
+   * set. Only used by storages which evict idle series.
+   */
+  public long getSeriesStartEpochNanos() {
+    return seriesStartEpochNanos;
+  }
+
+  /** Sets the start epoch of the series this handle aggregates. */
+  public void setSeriesStartEpochNanos(long seriesStartEpochNanos) {
+    this.seriesStartEpochNanos = seriesStartEpochNanos;
+  }
+
+  /**
+   * Resets this handle after its series has been evicted, so that it can be reused for another
+   * series.
+   */
+  public final void resetEvicted(Attributes attributes) {
+    aggregateThenMaybeReset(0, 0, attributes, /* reset= */ true);
+    recentlyRecorded = false;
+    idleCollections = 0;
+    seriesStartEpochNanos = -1;
+  }
 }
@@ -64,7 +64,7 @@ public interface ExemplarReservoir<T extends ExemplarData> {
    */
   static ExemplarReservoir<DoubleExemplarData> doubleFixedSizeReservoir(
       Clock clock, int size, Supplier<Random> randomSupplier) {
-    return RandomFixedSizeExemplarReservoir.createDouble(clock, size, randomSupplier);
+    return SkipSamplingFixedSizeExemplarReservoir.createDouble(clock, size, randomSupplier);
   }
 
   /**
@@ -76,7 +76,7 @@ public interface ExemplarReservoir<T extends ExemplarData> {
    */
   static ExemplarReservoir<LongExemplarData> longFixedSizeReservoir(
       Clock clock, int size, Supplier<Random> randomSupplier) {
-    return RandomFixedSizeExemplarReservoir.createLong(clock, size, randomSupplier);
+    return SkipSamplingFixedSizeExemplarReservoir.createLong(clock, size, randomSupplier);
   }
 
   /**
@@ -27,12 +27,18 @@ import javax.annotation.Nullable;
  *
  * <p>Allocations are acceptable in the {@link #getAndResetDouble(Attributes)} and {@link
  * #getAndResetLong(Attributes)} collection methods.
+ *
+ * <p>Work that is not needed to decide what to keep is deferred to collection as well: the cell
+ * only records the {@link Clock#nanoTime()} of the measurement, which is converted to an epoch
+ * timestamp when collected, and keeps the measurement attributes as is, which are filtered against
+ * the point attributes when collected.
  */
 class ReservoirCell {
   private final Clock clock;
   @Nullable private Attributes attributes;
   private SpanContext spanContext = SpanContext.getInvalid();
-  private long recordTime;
+  // The Clock#nanoTime() of the measurement, converted to epoch nanos during collection.
+  private long recordNanoTime;
 
   // Cell stores either long or double values, but must not store both
   private long longValue;
@@ -69,10 +75,10 @@ class ReservoirCell {
   private void offerMeasurement(Attributes attributes, Context context) {
     this.attributes = attributes;
     // Note: It may make sense in the future to attempt to pull this from an active span.
-    this.recordTime = clock.now();
-    Span current = Span.fromContext(context);
-    if (current.getSpanContext().isValid()) {
-      this.spanContext = current.getSpanContext();
+    this.recordNanoTime = clock.nanoTime();
+    SpanContext current = Span.fromContext(context).getSpanContext();
+    if (current.isValid()) {
+      this.spanContext = current;
     }
   }
 
@@ -89,7 +95,7 @@ class ReservoirCell {
     }
     LongExemplarData result =
         ImmutableLongExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, longValue);
+            filtered(attributes, pointAttributes), recordEpochNanos(), spanContext, longValue);
     reset();
     return result;
   }
@@ -107,7 +113,7 @@ class ReservoirCell {
     }
     DoubleExemplarData result =
         ImmutableDoubleExemplarData.create(
-            filtered(attributes, pointAttributes), recordTime, spanContext, doubleValue);
+            filtered(attributes, pointAttributes), recordEpochNanos(), spanContext, doubleValue);
     reset();
     return result;
   }
@@ -117,7 +123,12 @@ class ReservoirCell {
     this.longValue = 0;
     this.doubleValue = 0;
     this.spanContext = SpanContext.getInvalid();
-    this.recordTime = 0;
+    this.recordNanoTime = 0;
+  }
+
+  /** Returns the epoch timestamp of the measurement, anchored to the current time. */
+  private long recordEpochNanos() {
+    return clock.now() - (clock.nanoTime() - recordNanoTime);
   }
 
   /** Returns filtered attributes for exemplars. */
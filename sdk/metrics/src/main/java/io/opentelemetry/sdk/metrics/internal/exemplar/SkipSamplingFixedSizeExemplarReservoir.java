@@ -0,0 +1,219 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link FixedSizeExemplarReservoir} which samples measurements with <a
+ * href="https://dl.acm.org/doi/10.1145/198429.198435">Algorithm L</a> reservoir sampling.
+ *
+ * <p>Each measurement is given a random key, and the reservoir keeps the measurements with the
+ * largest keys, which are a uniform sample of all the measurements whichever threads record them.
+ * Rather than drawing a key for every measurement, each thread draws the number of its measurements
+ * to skip until one has a key larger than the smallest one in the reservoir, so skipped
+ * measurements only decrement a counter of their own thread. Only measurements which are sampled
+ * take a lock, to replace the measurement with the smallest key.
+ *
+ * <p>When measurements are collected via {@link
+ * FixedSizeExemplarReservoir#collectAndReset(Attributes)}, the reservoir and the skip counters are
+ * reset, making the probability of samplings effectively 1.0.
+ */
+class SkipSamplingFixedSizeExemplarReservoir<T extends ExemplarData>
+    extends FixedSizeExemplarReservoir<T> {
+
+  private SkipSamplingFixedSizeExemplarReservoir(
+      Clock clock,
+      int size,
+      Supplier<Random> randomSupplier,
+      BiFunction<ReservoirCell, Attributes, T> mapAndResetCell) {
+    super(clock, size, new SkipSamplingCellSelector(size, randomSupplier), mapAndResetCell);
+  }
+
+  static SkipSamplingFixedSizeExemplarReservoir<LongExemplarData> createLong(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return new SkipSamplingFixedSizeExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetLong);
+  }
+
+  static SkipSamplingFixedSizeExemplarReservoir<DoubleExemplarData> createDouble(
+      Clock clock, int size, Supplier<Random> randomSupplier) {
+    return new SkipSamplingFixedSizeExemplarReservoir<>(
+        clock, size, randomSupplier, ReservoirCell::getAndResetDouble);
+  }
+
+  static class SkipSamplingCellSelector implements ReservoirCellSelector {
+    // Stripes only hold a skip counter and are allocated lazily, when a thread first records.
+    private static final int MAX_STRIPES =
+        Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 32) * 2);
+
+    private final Supplier<Random> randomSupplier;
+    private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(MAX_STRIPES);
+    private final Object lock = new Object();
+    // Incremented when the reservoir is reset, invalidating the skip counters of the stripes.
+    private volatile int epoch;
+    // The smallest key in the reservoir, zero until it is full. Written under the lock.
+    private volatile double threshold;
+
+    // The keys of the measurements in each cell, zero for empty cells.
+    @GuardedBy("lock")
+    private final double[] keys;
+
+    @GuardedBy("lock")
+    private int minIndex;
+
+    private SkipSamplingCellSelector(int size, Supplier<Random> randomSupplier) {
+      this.keys = new double[size];
+      this.randomSupplier = randomSupplier;
+    }
+
+    @Override
+    public int reservoirCellIndexFor(
+        ReservoirCell[] cells, long value, Attributes attributes, Context context) {
+      return reservoirCellIndex();
+    }
+
+    @Override
+    public int reservoirCellIndexFor(
+        ReservoirCell[] cells, double value, Attributes attributes, Context context) {
+      return reservoirCellIndex();
+    }
+
+    private int reservoirCellIndex() {
+      long threadId = Thread.currentThread().getId();
+      Stripe stripe = stripe(threadId);
+      if (stripe == null) {
+        // Another thread owns the stripe, so draw a key for this measurement.
+        double key = uniform(randomSupplier.get());
+        return key > threshold ? offer(key) : -1;
+      }
+      int epoch = this.epoch;
+      if (stripe.epoch == epoch && stripe.skip > 0) {
+        stripe.skip--;
+        return -1;
+      }
+      Random random = randomSupplier.get();
+      double key;
+      if (stripe.epoch == epoch) {
+        // The key of the measurement ending the skip is larger than the threshold the skip was
+        // drawn against, which may since have grown.
+        key = stripe.threshold + (1 - stripe.threshold) * uniform(random);
+      } else {
+        // The first measurement of this thread since the reservoir was reset.
+        stripe.epoch = epoch;
+        key = uniform(random);
+      }
+      int cell = key > threshold ? offer(key) : -1;
+      double threshold = this.threshold;
+      stripe.threshold = threshold;
+      stripe.skip = skip(threshold, random);
+      return cell;
+    }
+
+    /**
+     * Returns the stripe owned by the current thread, or {@code null} if another thread owns it.
+     */
+    @Nullable
+    private Stripe stripe(long threadId) {
+      int index = (int) threadId & (MAX_STRIPES - 1);
+      Stripe stripe = stripes.get(index);
+      if (stripe == null) {
+        stripe = new Stripe(threadId);
+        return stripes.compareAndSet(index, null, stripe) ? stripe : null;
+      }
+      return stripe.ownerId == threadId ? stripe : null;
+    }
+
+    /**
+     * Returns the cell of the measurement with the smallest key if {@code key} is larger, or -1.
+     */
+    private int offer(double key) {
+      synchronized (lock) {
+        int cell = minIndex;
+        if (key <= keys[cell]) {
+          return -1;
+        }
+        keys[cell] = key;
+        for (int i = 0; i < keys.length; i++) {
+          if (keys[i] < keys[minIndex]) {
+            minIndex = i;
+          }
+        }
+        threshold = keys[minIndex];
+        return cell;
+      }
+    }
+
+    /**
+     * Returns the number of measurements to skip until one has a key larger than {@code threshold},
+     * as keys are uniformly distributed.
+     */
+    private static long skip(double threshold, Random random) {
+      if (threshold == 0) {
+        return 0;
+      }
+      double skip = Math.floor(Math.log(uniform(random)) / Math.log(threshold));
+      // Long.MAX_VALUE / 2 will not be reached before a collection resets the counters.
+      return skip < Long.MAX_VALUE / 2 ? (long) skip : Long.MAX_VALUE / 2;
+    }
+
+    /**
+     * Restarts sampling from the next measurement. Measurements recorded concurrently with a reset
+     * may be sampled or skipped when they should not have been.
+     */
+    @Override
+    public void reset() {
+      int epoch = this.epoch;
+      for (int i = 0; i < MAX_STRIPES; i++) {
+        Stripe stripe = stripes.get(i);
+        if (stripe != null && stripe.epoch != epoch) {
+          // Not recorded to since the last reset, so its thread may have ended.
+          stripes.compareAndSet(i, stripe, null);
+        }
+      }
+      synchronized (lock) {
+        Arrays.fill(keys, 0);
+        minIndex = 0;
+        threshold = 0;
+        this.epoch = epoch + 1;
+      }
+    }
+
+    /** Returns a uniformly distributed double in (0, 1]. */
+    private static double uniform(Random random) {
+      return 1 - random.nextDouble();
+    }
+  }
+
+  /**
+   * The skip counter of the thread owning a stripe. Only the owner thread reads and writes it, a
+   * reset only reads its epoch.
+   */
+  private static final class Stripe {
+    private final long ownerId;
+    // The epoch of the selector the skip counter was drawn in.
+    private volatile int epoch = -1;
+    // The number of measurements to skip until the next one with a key larger than threshold.
+    private long skip;
+    private double threshold;
+
+    private Stripe(long ownerId) {
+      this.ownerId = ownerId;
+    }
+  }
+}
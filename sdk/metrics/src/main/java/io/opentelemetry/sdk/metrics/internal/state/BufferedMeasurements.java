@@ -0,0 +1,110 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * The measurements recorded by a callback invoked on the executor of a {@link CallbackExecution}.
+ * They're recorded to the storages by the collecting thread once the callback completes, so that a
+ * callback which misses its deadline never records to storages while they're collected.
+ *
+ * <p>The buffer is bound to the thread invoking the callback, so that callbacks of the same
+ * collection recording to the same instruments concurrently each record to their own buffer.
+ */
+final class BufferedMeasurements {
+
+  private static final ThreadLocal<BufferedMeasurements> ACTIVE = new ThreadLocal<>();
+
+  private final List<SdkObservableMeasurement> measurements;
+
+  @GuardedBy("this")
+  private final List<Entry> entries = new ArrayList<>();
+
+  @GuardedBy("this")
+  private boolean closed;
+
+  BufferedMeasurements(List<SdkObservableMeasurement> measurements) {
+    this.measurements = measurements;
+  }
+
+  /** Returns the buffer of the callback running on the current thread, or {@code null}. */
+  @Nullable
+  static BufferedMeasurements active() {
+    return ACTIVE.get();
+  }
+
+  /** Set or unset the buffer of the callback running on the current thread. */
+  static void setActive(@Nullable BufferedMeasurements buffer) {
+    if (buffer == null) {
+      ACTIVE.remove();
+    } else {
+      ACTIVE.set(buffer);
+    }
+  }
+
+  /** Returns whether the callback of this buffer was registered to record to the measurement. */
+  boolean isRecordingTo(SdkObservableMeasurement measurement) {
+    return measurements.contains(measurement);
+  }
+
+  synchronized void addLong(
+      SdkObservableMeasurement measurement, long value, Attributes attributes) {
+    if (!closed) {
+      entries.add(new Entry(measurement, false, value, 0, attributes));
+    }
+  }
+
+  synchronized void addDouble(
+      SdkObservableMeasurement measurement, double value, Attributes attributes) {
+    if (!closed) {
+      entries.add(new Entry(measurement, true, 0, value, attributes));
+    }
+  }
+
+  /** Stops accepting measurements, and returns the measurements recorded so far. */
+  synchronized List<Entry> close() {
+    closed = true;
+    return Collections.unmodifiableList(entries);
+  }
+
+  /** A measurement recorded to an {@link SdkObservableMeasurement}. */
+  static final class Entry {
+    private final SdkObservableMeasurement measurement;
+    private final boolean isDouble;
+    private final long longValue;
+    private final double doubleValue;
+    private final Attributes attributes;
+
+    private Entry(
+        SdkObservableMeasurement measurement,
+        boolean isDouble,
+        long longValue,
+        double doubleValue,
+        Attributes attributes) {
+      this.measurement = measurement;
+      this.isDouble = isDouble;
+      this.longValue = longValue;
+      this.doubleValue = doubleValue;
+      this.attributes = attributes;
+    }
+
+    /** Record the measurement to the storages of the {@code reader}. */
+    void recordTo(RegisteredReader reader, long startEpochNanos, long epochNanos) {
+      if (isDouble) {
+        measurement.recordDouble(reader, startEpochNanos, epochNanos, doubleValue, attributes);
+      } else {
+        measurement.recordLong(reader, startEpochNanos, epochNanos, longValue, attributes);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.api.common.AttributeKey.booleanKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * Configuration for invoking the callbacks of asynchronous instruments on an {@link Executor}, so
+ * that slow callbacks can't delay a collection by more than the timeout.
+ *
+ * <p>The callbacks of a meter are all submitted to the executor before waiting for any of them, and
+ * are waited for until a deadline shared by the whole collection of the meter. A callback which
+ * misses the deadline is left to complete on the executor, and the measurements it recorded in its
+ * last successful invocation are reused until it completes. Callbacks must record their
+ * measurements on the thread invoking them.
+ *
+ * <p>The duration of each callback invocation is recorded to the {@code callbackDuration} histogram
+ * of the {@code io.opentelemetry.sdk.metrics} meter.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CallbackExecution {
+
+  private static final AttributeKey<Boolean> TIMED_OUT_KEY = booleanKey("timedOut");
+  private static final Attributes COMPLETED_ATTRIBUTES = Attributes.of(TIMED_OUT_KEY, false);
+  private static final Attributes TIMED_OUT_ATTRIBUTES = Attributes.of(TIMED_OUT_KEY, true);
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private final Executor executor;
+  private final long timeoutNanos;
+  private final Supplier<MeterProvider> meterProviderSupplier;
+
+  /** Access via {@link #callbackDuration()}. */
+  @Nullable private volatile DoubleHistogram callbackDuration;
+
+  private CallbackExecution(
+      Executor executor, long timeoutNanos, Supplier<MeterProvider> meterProviderSupplier) {
+    this.executor = executor;
+    this.timeoutNanos = timeoutNanos;
+    this.meterProviderSupplier = meterProviderSupplier;
+  }
+
+  /**
+   * Create a {@link CallbackExecution}.
+   *
+   * @param executor the executor to invoke callbacks on
+   * @param timeout the time to wait for the callbacks of a meter to complete
+   * @param meterProviderSupplier the meter provider to record callback durations to
+   */
+  public static CallbackExecution create(
+      Executor executor, Duration timeout, Supplier<MeterProvider> meterProviderSupplier) {
+    return new CallbackExecution(executor, timeout.toNanos(), meterProviderSupplier);
+  }
+
+  Executor getExecutor() {
+    return executor;
+  }
+
+  long getTimeoutNanos() {
+    return timeoutNanos;
+  }
+
+  /** Record the duration of a callback invocation, or the time waited for it if it timed out. */
+  void recordDuration(long durationNanos, boolean timedOut) {
+    callbackDuration()
+        .record(
+            durationNanos / NANOS_PER_SECOND,
+            timedOut ? TIMED_OUT_ATTRIBUTES : COMPLETED_ATTRIBUTES);
+  }
+
+  private DoubleHistogram callbackDuration() {
+    DoubleHistogram callbackDuration = this.callbackDuration;
+    if (callbackDuration == null) {
+      callbackDuration =
+          meterProviderSupplier
+              .get()
+              .get("io.opentelemetry.sdk.metrics")
+              .histogramBuilder("callbackDuration")
+              .setUnit("s")
+              .setDescription(
+                  "The duration of asynchronous instrument callbacks. "
+                      + "[timedOut=true if the callback missed its deadline]")
+              .build();
+      this.callbackDuration = callbackDuration;
+    }
+    return callbackDuration;
+  }
+
+  @Override
+  public String toString() {
+    return "CallbackExecution{executor=" + executor + ", timeoutNanos=" + timeoutNanos + "}";
+  }
+}
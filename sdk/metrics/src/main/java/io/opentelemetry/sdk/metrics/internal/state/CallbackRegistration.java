@@ -8,12 +8,21 @@ package io.opentelemetry.sdk.metrics.internal.state;
 import static io.opentelemetry.sdk.internal.ThrowableUtil.propagateIfFatal;
 import static java.util.stream.Collectors.toList;
 
+import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.sdk.internal.ThrottlingLogger;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * A registered callback.
@@ -30,6 +39,11 @@ public final class CallbackRegistration {
   private final List<InstrumentDescriptor> instrumentDescriptors;
   private final boolean hasStorages;
 
+  // The measurements recorded by the last invocation which completed before its deadline, by
+  // reader. Only populated when invoking the callback with a CallbackExecution.
+  private final Map<RegisteredReader, List<BufferedMeasurements.Entry>> lastMeasurements =
+      new ConcurrentHashMap<>();
+
   private CallbackRegistration(
       List<SdkObservableMeasurement> observableMeasurements, Runnable callback) {
     this.observableMeasurements = observableMeasurements;
@@ -90,4 +104,220 @@ public final class CallbackRegistration {
       observableMeasurements.forEach(SdkObservableMeasurement::unsetActiveReader);
     }
   }
+
+  /**
+   * Invoke the callback on the executor of the {@code callbackExecution}, waiting for it until its
+   * deadline. The callback is invoked on the calling thread if {@code callbackExecution} is {@code
+   * null}.
+   *
+   * <p>If the callback misses its deadline, or a callback recording to the same instruments missed
+   * its deadline and is still running, the measurements from the last invocation which completed in
+   * time are recorded instead.
+   */
+  void invokeCallback(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      @Nullable CallbackExecution callbackExecution) {
+    if (callbackExecution == null) {
+      invokeCallback(reader, startEpochNanos, epochNanos);
+      return;
+    }
+    Invocation invocation = submitCallback(reader, startEpochNanos, epochNanos, callbackExecution);
+    if (invocation != null) {
+      invocation.complete(System.nanoTime() + callbackExecution.getTimeoutNanos());
+    }
+  }
+
+  /**
+   * Submit the callback to the executor of the {@code callbackExecution}, without waiting for it.
+   * The returned invocation must be completed with {@link Invocation#complete(long)}, so that the
+   * callbacks of a collection run concurrently and are waited for until a shared deadline.
+   *
+   * <p>Returns {@code null} if there is nothing to wait for, which is the case if no storages are
+   * registered, or if a callback recording to the same instruments missed its deadline and is still
+   * running, in which case the last measurements are recorded right away.
+   */
+  @Nullable
+  Invocation submitCallback(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      CallbackExecution callbackExecution) {
+    // Return early if no storages are registered
+    if (!hasStorages) {
+      return null;
+    }
+    for (SdkObservableMeasurement observableMeasurement : observableMeasurements) {
+      if (observableMeasurement.getAbandonedCallbacks().get() > 0) {
+        recordLastMeasurements(reader, startEpochNanos, epochNanos);
+        return null;
+      }
+    }
+    Invocation invocation = new Invocation(reader, startEpochNanos, epochNanos, callbackExecution);
+    invocation.submit();
+    return invocation;
+  }
+
+  private void recordLastMeasurements(
+      RegisteredReader reader, long startEpochNanos, long epochNanos) {
+    List<BufferedMeasurements.Entry> measurements = lastMeasurements.get(reader);
+    if (measurements == null) {
+      return;
+    }
+    for (BufferedMeasurements.Entry measurement : measurements) {
+      measurement.recordTo(reader, startEpochNanos, epochNanos);
+    }
+  }
+
+  /** An invocation of the callback on the executor of a {@link CallbackExecution}. */
+  final class Invocation implements Runnable {
+    private final RegisteredReader reader;
+    private final long startEpochNanos;
+    private final long epochNanos;
+    private final CallbackExecution callbackExecution;
+    private final BufferedMeasurements buffer = new BufferedMeasurements(observableMeasurements);
+    private final FutureTask<Void> task = new FutureTask<>(this, null);
+    private long submitNanos;
+    private boolean rejected;
+
+    @GuardedBy("this")
+    private boolean started;
+
+    @GuardedBy("this")
+    private boolean finished;
+
+    @GuardedBy("this")
+    private boolean abandoned;
+
+    // Written before finished, read after the task completed
+    private volatile long durationNanos;
+
+    private Invocation(
+        RegisteredReader reader,
+        long startEpochNanos,
+        long epochNanos,
+        CallbackExecution callbackExecution) {
+      this.reader = reader;
+      this.startEpochNanos = startEpochNanos;
+      this.epochNanos = epochNanos;
+      this.callbackExecution = callbackExecution;
+    }
+
+    private void submit() {
+      submitNanos = System.nanoTime();
+      try {
+        callbackExecution.getExecutor().execute(task);
+      } catch (RejectedExecutionException e) {
+        // Handled as a missed deadline when completing the invocation
+        rejected = true;
+      }
+    }
+
+    /**
+     * Wait for the invocation until the {@code deadlineNanos}, as returned by {@link
+     * System#nanoTime()}, and record its measurements to the storages of the reader. If it misses
+     * the deadline, the measurements from the last invocation which completed in time are recorded
+     * instead.
+     */
+    void complete(long deadlineNanos) {
+      boolean completed = false;
+      try {
+        if (!rejected) {
+          task.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+          completed = true;
+        }
+      } catch (ExecutionException e) {
+        // Only thrown for fatal errors, which are rethrown on the executor thread
+        completed = true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (TimeoutException e) {
+        // The callback missed its deadline
+      } finally {
+        // The callback may have finished after the deadline. Cancelling doesn't tell whether it
+        // started, as a running task can be cancelled too.
+        if (!completed) {
+          task.cancel(false);
+          if (!abandon()) {
+            completed = true;
+          }
+        }
+      }
+      // Measurements recorded by an abandoned callback after this are dropped
+      List<BufferedMeasurements.Entry> measurements = buffer.close();
+
+      if (!completed) {
+        callbackExecution.recordDuration(System.nanoTime() - submitNanos, true);
+        throttlingLogger.log(
+            Level.WARNING,
+            "Callback for "
+                + CallbackRegistration.this
+                + " did not complete within "
+                + TimeUnit.NANOSECONDS.toMillis(callbackExecution.getTimeoutNanos())
+                + "ms, recording its last measurements.");
+        recordLastMeasurements(reader, startEpochNanos, epochNanos);
+        return;
+      }
+
+      callbackExecution.recordDuration(durationNanos, false);
+      lastMeasurements.put(reader, measurements);
+      for (BufferedMeasurements.Entry measurement : measurements) {
+        measurement.recordTo(reader, startEpochNanos, epochNanos);
+      }
+    }
+
+    @Override
+    public void run() {
+      synchronized (this) {
+        if (abandoned) {
+          return;
+        }
+        started = true;
+      }
+      long startNanos = System.nanoTime();
+      BufferedMeasurements.setActive(buffer);
+      try {
+        callback.run();
+      } catch (Throwable e) {
+        propagateIfFatal(e);
+        throttlingLogger.log(
+            Level.WARNING, "An exception occurred invoking callback for " + this + ".", e);
+      } finally {
+        BufferedMeasurements.setActive(null);
+        durationNanos = System.nanoTime() - startNanos;
+        synchronized (this) {
+          finished = true;
+          if (abandoned) {
+            observableMeasurements.forEach(
+                observableMeasurement ->
+                    observableMeasurement.getAbandonedCallbacks().decrementAndGet());
+          }
+        }
+      }
+    }
+
+    /**
+     * Abandon the invocation after it missed its deadline, unless it finished in the meantime. An
+     * invocation which hasn't started is never run, and callbacks recording to the same instruments
+     * aren't invoked until a started invocation finishes.
+     */
+    private synchronized boolean abandon() {
+      if (finished) {
+        return false;
+      }
+      abandoned = true;
+      if (started) {
+        observableMeasurements.forEach(
+            observableMeasurement ->
+                observableMeasurement.getAbandonedCallbacks().incrementAndGet());
+      }
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      return CallbackRegistration.this.toString();
+    }
+  }
 }
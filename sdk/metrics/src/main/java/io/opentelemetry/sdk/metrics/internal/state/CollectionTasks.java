@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nullable;
+
+/**
+ * Runs the independent tasks of a collection, such as collecting each meter or a batch of metric
+ * storages, in parallel on a collection {@link Executor}.
+ *
+ * <p>The collecting thread runs any task the executor hasn't started yet before waiting for its
+ * result, so nested collection tasks never wait on a saturated executor and a rejected task is
+ * simply run by the collecting thread.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class CollectionTasks {
+
+  private CollectionTasks() {}
+
+  /**
+   * Runs the {@code tasks} and returns their results in the order of the tasks. The tasks are run
+   * on the calling thread if {@code executor} is {@code null}.
+   */
+  public static <T> List<T> invokeAll(List<Callable<T>> tasks, @Nullable Executor executor) {
+    List<T> results = new ArrayList<>(tasks.size());
+    if (executor == null || tasks.size() <= 1) {
+      for (Callable<T> task : tasks) {
+        results.add(call(task));
+      }
+      return results;
+    }
+
+    List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+    for (int i = 1; i < tasks.size(); i++) {
+      FutureTask<T> future = new FutureTask<>(tasks.get(i));
+      futures.add(future);
+      try {
+        executor.execute(future);
+      } catch (RejectedExecutionException e) {
+        // Run by the collecting thread below
+      }
+    }
+    results.add(call(tasks.get(0)));
+    for (FutureTask<T> future : futures) {
+      // A no-op if the executor already started the task
+      future.run();
+      results.add(getUninterruptibly(future));
+    }
+    return results;
+  }
+
+  private static <T> T call(Callable<T> task) {
+    try {
+      return task.call();
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static <T> T getUninterruptibly(FutureTask<T> future) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return future.get();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new IllegalStateException(cause);
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
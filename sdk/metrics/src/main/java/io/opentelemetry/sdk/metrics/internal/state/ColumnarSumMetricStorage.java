@@ -0,0 +1,334 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.DELTA;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.resources.Resource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Stores the sums of a synchronous instrument in primitive columns, rather than in an {@link
+ * io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorHandle} per series.
+ *
+ * <p>Each series is assigned an index in an intern table when it's first recorded, and its value is
+ * kept at that index of a column of {@code long} slabs, holding the bits of the value for DOUBLE
+ * instruments. A series costs its intern table entry and a column cell rather than a handle, an
+ * adder and an exemplar reservoir, and collection is a linear scan of the columns. In exchange
+ * exemplars aren't sampled, and concurrent records to the same series contend on a single cell.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ColumnarSumMetricStorage<T extends PointData, U extends ExemplarData>
+    implements SynchronousMetricStorage {
+
+  private static final Logger internalLogger =
+      Logger.getLogger(ColumnarSumMetricStorage.class.getName());
+
+  private static final int SLAB_SHIFT = 10;
+  private static final int SLAB_SIZE = 1 << SLAB_SHIFT;
+  private static final int SLAB_MASK = SLAB_SIZE - 1;
+
+  private final ThrottlingLogger logger = new ThrottlingLogger(internalLogger);
+  private final RegisteredReader registeredReader;
+  private final MetricDescriptor metricDescriptor;
+  private final AggregationTemporality aggregationTemporality;
+  private final Aggregator<T, U> aggregator;
+  private final AttributesProcessor attributesProcessor;
+  private final boolean isDouble;
+
+  /**
+   * This field is set to 1 less than the actual intended cardinality limit, allowing the last slot
+   * to be filled by the {@link MetricStorage#CARDINALITY_OVERFLOW} series.
+   */
+  private final int maxCardinality;
+
+  private volatile ColumnsHolder columnsHolder = new ColumnsHolder(new Columns());
+
+  // Only used in DELTA temporality. The columns collected by the previous collection, cleared and
+  // reused by the next one.
+  @Nullable private Columns spareColumns;
+
+  ColumnarSumMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality) {
+    this.registeredReader = registeredReader;
+    this.metricDescriptor = metricDescriptor;
+    this.aggregationTemporality =
+        registeredReader
+            .getReader()
+            .getAggregationTemporality(metricDescriptor.getSourceInstrument().getType());
+    this.aggregator = aggregator;
+    this.attributesProcessor = attributesProcessor;
+    this.isDouble = aggregator instanceof DoubleSumAggregator;
+    this.maxCardinality = maxCardinality - 1;
+  }
+
+  @Override
+  public void recordLong(long value, Attributes attributes, Context context) {
+    if (isDouble) {
+      throw new UnsupportedOperationException(
+          "This aggregator does not support recording long values.");
+    }
+    ColumnsHolder holder = getHolderForRecord();
+    try {
+      Columns columns = holder.columns;
+      int index = getSeriesIndex(columns, attributes, context);
+      columns.values[index >> SLAB_SHIFT].addAndGet(index & SLAB_MASK, value);
+    } finally {
+      releaseHolderForRecord(holder);
+    }
+  }
+
+  @Override
+  public void recordDouble(double value, Attributes attributes, Context context) {
+    if (!isDouble) {
+      throw new UnsupportedOperationException(
+          "This aggregator does not support recording double values.");
+    }
+    if (Double.isNaN(value)) {
+      logger.log(
+          Level.FINE,
+          "Instrument "
+              + metricDescriptor.getSourceInstrument().getName()
+              + " has recorded measurement Not-a-Number (NaN) value with attributes "
+              + attributes
+              + ". Dropping measurement.");
+      return;
+    }
+    ColumnsHolder holder = getHolderForRecord();
+    try {
+      Columns columns = holder.columns;
+      int index = getSeriesIndex(columns, attributes, context);
+      AtomicLongArray slab = columns.values[index >> SLAB_SHIFT];
+      int cell = index & SLAB_MASK;
+      long current;
+      do {
+        current = slab.get(cell);
+      } while (!slab.compareAndSet(
+          cell, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)));
+    } finally {
+      releaseHolderForRecord(holder);
+    }
+  }
+
+  /**
+   * Obtain the {@link ColumnsHolder} for recording measurements, following the protocol of {@link
+   * DefaultSynchronousMetricStorage}: re-read the volatile this.columnsHolder until we access one
+   * where activeRecordingThreads is even. Callers MUST call {@link
+   * #releaseHolderForRecord(ColumnsHolder)} when the record operation completes.
+   */
+  private ColumnsHolder getHolderForRecord() {
+    do {
+      ColumnsHolder holder = this.columnsHolder;
+      int recordsInProgress = holder.activeRecordingThreads.addAndGet(2);
+      if (recordsInProgress % 2 == 0) {
+        return holder;
+      } else {
+        // Collect is in progress, decrement recordsInProgress to allow collect to proceed and
+        // re-read columnsHolder
+        holder.activeRecordingThreads.addAndGet(-2);
+      }
+    } while (true);
+  }
+
+  private static void releaseHolderForRecord(ColumnsHolder holder) {
+    holder.activeRecordingThreads.addAndGet(-2);
+  }
+
+  private int getSeriesIndex(Columns columns, Attributes attributes, Context context) {
+    Objects.requireNonNull(attributes, "attributes");
+    attributes = attributesProcessor.process(attributes, context);
+    Integer index = columns.seriesIndexes.get(attributes);
+    if (index != null) {
+      return index;
+    }
+    synchronized (columns) {
+      index = columns.seriesIndexes.get(attributes);
+      if (index != null) {
+        return index;
+      }
+      if (columns.seriesCount >= maxCardinality) {
+        logger.log(
+            Level.WARNING,
+            "Instrument "
+                + metricDescriptor.getSourceInstrument().getName()
+                + " has exceeded the maximum allowed cardinality ("
+                + maxCardinality
+                + ").");
+        // Return the index of the overflow series, first checking if it already exists
+        attributes = MetricStorage.CARDINALITY_OVERFLOW;
+        index = columns.seriesIndexes.get(attributes);
+        if (index != null) {
+          return index;
+        }
+      }
+      return columns.addSeries(attributes);
+    }
+  }
+
+  @Override
+  public MetricData collect(
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      long startEpochNanos,
+      long epochNanos) {
+    boolean reset = aggregationTemporality == DELTA;
+    long start = reset ? registeredReader.getLastCollectEpochNanos() : startEpochNanos;
+
+    ColumnsHolder holder = this.columnsHolder;
+    Columns columns = holder.columns;
+    if (reset) {
+      Columns next = spareColumns;
+      this.columnsHolder = new ColumnsHolder(next == null ? new Columns() : next);
+
+      // Increment recordsInProgress by 1, which produces an odd number acting as a signal that
+      // record operations should re-read the volatile this.columnsHolder.
+      // Repeatedly grab recordsInProgress until it is <= 1, which signals all active record
+      // operations are complete.
+      int recordsInProgress = holder.activeRecordingThreads.addAndGet(1);
+      while (recordsInProgress > 1) {
+        recordsInProgress = holder.activeRecordingThreads.get();
+      }
+    }
+
+    int seriesCount;
+    Attributes[][] attributes;
+    AtomicLongArray[] values;
+    synchronized (columns) {
+      seriesCount = columns.seriesCount;
+      attributes = columns.attributes;
+      values = columns.values;
+    }
+
+    List<T> points = new ArrayList<>(seriesCount);
+    for (int slabIndex = 0; slabIndex << SLAB_SHIFT < seriesCount; slabIndex++) {
+      Attributes[] attributesSlab = attributes[slabIndex];
+      AtomicLongArray valuesSlab = values[slabIndex];
+      int cells = Math.min(SLAB_SIZE, seriesCount - (slabIndex << SLAB_SHIFT));
+      for (int cell = 0; cell < cells; cell++) {
+        points.add(point(start, epochNanos, attributesSlab[cell], valuesSlab.get(cell)));
+      }
+    }
+
+    if (reset) {
+      // All record operations on the collected columns are complete, so they can be cleared and
+      // reused by the next collection
+      columns.clear();
+      spareColumns = columns;
+    }
+
+    if (points.isEmpty()) {
+      return EmptyMetricData.getInstance();
+    }
+
+    return aggregator.toMetricData(
+        resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
+  }
+
+  @SuppressWarnings("unchecked")
+  private T point(long startEpochNanos, long epochNanos, Attributes attributes, long value) {
+    PointData point =
+        isDouble
+            ? ImmutableDoublePointData.create(
+                startEpochNanos, epochNanos, attributes, Double.longBitsToDouble(value))
+            : ImmutableLongPointData.create(startEpochNanos, epochNanos, attributes, value);
+    return (T) point;
+  }
+
+  @Override
+  public MetricDescriptor getMetricDescriptor() {
+    return metricDescriptor;
+  }
+
+  private static final class ColumnsHolder {
+    private final Columns columns;
+    // See DefaultSynchronousMetricStorage.AggregatorHolder#activeRecordingThreads. A new holder is
+    // used for each interval, so that reused columns are never recorded to by a record operation
+    // which read the holder of a previous interval.
+    private final AtomicInteger activeRecordingThreads = new AtomicInteger(0);
+
+    private ColumnsHolder(Columns columns) {
+      this.columns = columns;
+    }
+  }
+
+  /** The series and their values, recorded in an interval for DELTA temporality. */
+  private static final class Columns {
+    private final ConcurrentHashMap<Attributes, Integer> seriesIndexes = new ConcurrentHashMap<>();
+
+    @GuardedBy("this")
+    private int seriesCount;
+
+    // The attributes of each series, by index. Slabs are written while holding the lock, and only
+    // read by collection.
+    @GuardedBy("this")
+    private Attributes[][] attributes = new Attributes[0][];
+
+    // The value of each series, by index. Slabs are added while holding the lock, before the index
+    // of a series they hold is published to recording threads through seriesIndexes.
+    private volatile AtomicLongArray[] values = new AtomicLongArray[0];
+
+    @GuardedBy("this")
+    private int addSeries(Attributes seriesAttributes) {
+      int index = seriesCount;
+      int slabIndex = index >> SLAB_SHIFT;
+      if (slabIndex == attributes.length) {
+        attributes = Arrays.copyOf(attributes, slabIndex + 1);
+        attributes[slabIndex] = new Attributes[SLAB_SIZE];
+      }
+      if (slabIndex == values.length) {
+        AtomicLongArray[] newValues = Arrays.copyOf(values, slabIndex + 1);
+        newValues[slabIndex] = new AtomicLongArray(SLAB_SIZE);
+        values = newValues;
+      }
+      attributes[slabIndex][index & SLAB_MASK] = seriesAttributes;
+      seriesCount++;
+      seriesIndexes.put(seriesAttributes, index);
+      return index;
+    }
+
+    /** Removes all series, keeping the allocated slabs. Zero is {@code 0.0} for DOUBLE values. */
+    private synchronized void clear() {
+      for (int index = 0; index < seriesCount; index++) {
+        attributes[index >> SLAB_SHIFT][index & SLAB_MASK] = null;
+        values[index >> SLAB_SHIFT].set(index & SLAB_MASK, 0);
+      }
+      seriesCount = 0;
+      seriesIndexes.clear();
+    }
+  }
+}
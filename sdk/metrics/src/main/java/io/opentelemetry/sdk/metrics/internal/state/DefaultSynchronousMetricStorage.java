@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.internal.state;
 
 import static io.opentelemetry.sdk.common.export.MemoryMode.IMMUTABLE_DATA;
 import static io.opentelemetry.sdk.common.export.MemoryMode.REUSABLE_DATA;
+import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.CUMULATIVE;
 import static io.opentelemetry.sdk.metrics.data.AggregationTemporality.DELTA;
 
 import io.opentelemetry.api.common.Attributes;
@@ -27,6 +28,7 @@ import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -71,6 +73,13 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
    */
   private final int maxCardinality;
 
+  /**
+   * The number of consecutive collections a series may go without recorded values before it's
+   * evicted, or {@code 0} if series are never evicted. Only applies to CUMULATIVE temporality, as
+   * DELTA series are removed or reset by every collection.
+   */
+  private final int maxIdleCollections;
+
   private final ConcurrentLinkedQueue<AggregatorHandle<T, U>> aggregatorHandlePool =
       new ConcurrentLinkedQueue<>();
 
@@ -80,6 +89,16 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       Aggregator<T, U> aggregator,
       AttributesProcessor attributesProcessor,
       int maxCardinality) {
+    this(registeredReader, metricDescriptor, aggregator, attributesProcessor, maxCardinality, 0);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      int maxIdleCollections) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
     this.aggregationTemporality =
@@ -90,6 +109,7 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     this.attributesProcessor = attributesProcessor;
     this.maxCardinality = maxCardinality - 1;
     this.memoryMode = registeredReader.getReader().getMemoryMode();
+    this.maxIdleCollections = aggregationTemporality == CUMULATIVE ? maxIdleCollections : 0;
   }
 
   // Visible for testing
@@ -225,6 +245,9 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       }
       aggregatorHandles = holder.aggregatorHandles;
     } else {
+      if (maxIdleCollections > 0) {
+        evictIdleSeries();
+      }
       aggregatorHandles = this.aggregatorHolder.aggregatorHandles;
     }
 
@@ -267,12 +290,23 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
           if (!handle.hasRecordedValues()) {
             return;
           }
-          T point = handle.aggregateThenMaybeReset(start, epochNanos, attributes, reset);
+          long seriesStart = start;
+          if (maxIdleCollections > 0) {
+            // A series may have been evicted and re-created since the start of the reader, so
+            // each series starts at the last collection before it was first collected
+            seriesStart = handle.getSeriesStartEpochNanos();
+            if (seriesStart == -1) {
+              seriesStart = registeredReader.getLastCollectEpochNanos();
+              handle.setSeriesStartEpochNanos(seriesStart);
+            }
+          }
+          T point = handle.aggregateThenMaybeReset(seriesStart, epochNanos, attributes, reset);
 
           if (reset && memoryMode == IMMUTABLE_DATA) {
             // Return the aggregator to the pool.
             // The pool is only used in DELTA temporality (since in CUMULATIVE the handler is
-            // always used as it is the place accumulating the values and never resets)
+            // always used as it is the place accumulating the values and never resets, unless
+            // its series is evicted for being idle)
             // AND only in IMMUTABLE_DATA memory mode since in REUSABLE_DATA we avoid
             // using the pool since it allocates memory internally on each put() or remove()
             aggregatorHandlePool.offer(handle);
@@ -302,6 +336,50 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
         resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
   }
 
+  /**
+   * Evicts the series which haven't had values recorded for {@link #maxIdleCollections}
+   * collections, returning their handles to the pool. Their last values have been collected by the
+   * previous collections, and re-recording to an evicted series starts a new series.
+   */
+  private void evictIdleSeries() {
+    AggregatorHolder<T, U> holder = this.aggregatorHolder;
+    ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles =
+        holder.aggregatorHandles;
+    List<Attributes> idleSeries = null;
+    for (Map.Entry<Attributes, AggregatorHandle<T, U>> entry : aggregatorHandles.entrySet()) {
+      if (entry.getValue().updateIdleCollections() >= maxIdleCollections) {
+        if (idleSeries == null) {
+          idleSeries = new ArrayList<>();
+        }
+        idleSeries.add(entry.getKey());
+      }
+    }
+    if (idleSeries == null) {
+      return;
+    }
+
+    // Lock the holder as DELTA collection does, but without first replacing it, so that record
+    // operations wait for the idle series to be removed instead of recording to a handle which is
+    // about to be evicted.
+    int recordsInProgress = holder.activeRecordingThreads.addAndGet(1);
+    while (recordsInProgress > 1) {
+      recordsInProgress = holder.activeRecordingThreads.get();
+    }
+    try {
+      for (Attributes attributes : idleSeries) {
+        AggregatorHandle<T, U> handle = aggregatorHandles.get(attributes);
+        // Keep series which were recorded to since they were found to be idle
+        if (handle != null && !handle.hasRecentlyRecordedValues()) {
+          aggregatorHandles.remove(attributes);
+          handle.resetEvicted(attributes);
+          aggregatorHandlePool.offer(handle);
+        }
+      }
+    } finally {
+      this.aggregatorHolder = new AggregatorHolder<>(aggregatorHandles);
+    }
+  }
+
   @Override
   public MetricDescriptor getMetricDescriptor() {
     return metricDescriptor;
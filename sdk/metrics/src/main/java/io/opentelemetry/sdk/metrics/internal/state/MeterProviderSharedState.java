@@ -10,6 +10,8 @@ import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.resources.Resource;
+import java.util.concurrent.Executor;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -23,7 +25,18 @@ import javax.annotation.concurrent.Immutable;
 public abstract class MeterProviderSharedState {
   public static MeterProviderSharedState create(
       Clock clock, Resource resource, ExemplarFilter exemplarFilter, long startEpochNanos) {
-    return new AutoValue_MeterProviderSharedState(clock, resource, startEpochNanos, exemplarFilter);
+    return create(clock, resource, exemplarFilter, startEpochNanos, null, null);
+  }
+
+  public static MeterProviderSharedState create(
+      Clock clock,
+      Resource resource,
+      ExemplarFilter exemplarFilter,
+      long startEpochNanos,
+      @Nullable Executor collectionExecutor,
+      @Nullable CallbackExecution callbackExecution) {
+    return new AutoValue_MeterProviderSharedState(
+        clock, resource, startEpochNanos, exemplarFilter, collectionExecutor, callbackExecution);
   }
 
   MeterProviderSharedState() {}
@@ -39,4 +52,18 @@ public abstract class MeterProviderSharedState {
 
   /** Returns the {@link ExemplarFilter} for remembering synchronous measurements. */
   abstract ExemplarFilter getExemplarFilter();
+
+  /**
+   * Returns the {@link Executor} collecting meters and metric storages in parallel, or {@code null}
+   * if they are collected sequentially on the collecting thread.
+   */
+  @Nullable
+  public abstract Executor getCollectionExecutor();
+
+  /**
+   * Returns the {@link CallbackExecution} invoking the callbacks of asynchronous instruments, or
+   * {@code null} if they are invoked on the collecting thread.
+   */
+  @Nullable
+  abstract CallbackExecution getCallbackExecution();
 }
@@ -19,6 +19,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -29,6 +31,10 @@ import java.util.function.Function;
  */
 public class MeterSharedState {
 
+  // The number of storages collected by each task when collecting in parallel, large enough that
+  // the cost of a task is small compared to collecting its storages.
+  private static final int STORAGES_PER_COLLECTION_TASK = 16;
+
   private final Object collectLock = new Object();
   private final Object callbackLock = new Object();
 
@@ -90,33 +96,78 @@ public class MeterSharedState {
     synchronized (callbackLock) {
       currentRegisteredCallbacks = new ArrayList<>(callbackRegistrations);
     }
+    long startEpochNanos = meterProviderSharedState.getStartEpochNanos();
+    CallbackExecution callbackExecution = meterProviderSharedState.getCallbackExecution();
     // Collections across all readers are sequential
     synchronized (collectLock) {
-      for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
-        callbackRegistration.invokeCallback(
-            registeredReader, meterProviderSharedState.getStartEpochNanos(), epochNanos);
+      if (callbackExecution == null) {
+        for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
+          callbackRegistration.invokeCallback(registeredReader, startEpochNanos, epochNanos);
+        }
+      } else {
+        // Submit all callbacks before waiting for any, against a single deadline, so that slow
+        // callbacks delay the collection by at most one timeout however many there are
+        long deadlineNanos = System.nanoTime() + callbackExecution.getTimeoutNanos();
+        List<CallbackRegistration.Invocation> invocations =
+            new ArrayList<>(currentRegisteredCallbacks.size());
+        for (CallbackRegistration callbackRegistration : currentRegisteredCallbacks) {
+          CallbackRegistration.Invocation invocation =
+              callbackRegistration.submitCallback(
+                  registeredReader, startEpochNanos, epochNanos, callbackExecution);
+          if (invocation != null) {
+            invocations.add(invocation);
+          }
+        }
+        for (CallbackRegistration.Invocation invocation : invocations) {
+          invocation.complete(deadlineNanos);
+        }
       }
 
       Collection<MetricStorage> storages =
           Objects.requireNonNull(readerStorageRegistries.get(registeredReader)).getStorages();
-      List<MetricData> result = new ArrayList<>(storages.size());
-      for (MetricStorage storage : storages) {
-        MetricData current =
-            storage.collect(
-                meterProviderSharedState.getResource(),
-                getInstrumentationScopeInfo(),
-                meterProviderSharedState.getStartEpochNanos(),
-                epochNanos);
-        // Ignore if the metric data doesn't have any data points, for example when aggregation is
-        // Aggregation#drop()
-        if (!current.isEmpty()) {
-          result.add(current);
-        }
+      Executor collectionExecutor = meterProviderSharedState.getCollectionExecutor();
+      if (collectionExecutor == null || storages.size() <= STORAGES_PER_COLLECTION_TASK) {
+        return collectStorages(storages, meterProviderSharedState, epochNanos);
+      }
+
+      // Collect batches of storages in parallel, keeping the order of the storages in the result
+      List<MetricStorage> storageList = new ArrayList<>(storages);
+      List<Callable<List<MetricData>>> tasks = new ArrayList<>();
+      for (int start = 0; start < storageList.size(); start += STORAGES_PER_COLLECTION_TASK) {
+        List<MetricStorage> batch =
+            storageList.subList(
+                start, Math.min(start + STORAGES_PER_COLLECTION_TASK, storageList.size()));
+        tasks.add(() -> collectStorages(batch, meterProviderSharedState, epochNanos));
+      }
+      List<MetricData> result = new ArrayList<>(storageList.size());
+      for (List<MetricData> batchResult : CollectionTasks.invokeAll(tasks, collectionExecutor)) {
+        result.addAll(batchResult);
       }
       return result;
     }
   }
 
+  private List<MetricData> collectStorages(
+      Collection<MetricStorage> storages,
+      MeterProviderSharedState meterProviderSharedState,
+      long epochNanos) {
+    List<MetricData> result = new ArrayList<>(storages.size());
+    for (MetricStorage storage : storages) {
+      MetricData current =
+          storage.collect(
+              meterProviderSharedState.getResource(),
+              getInstrumentationScopeInfo(),
+              meterProviderSharedState.getStartEpochNanos(),
+              epochNanos);
+      // Ignore if the metric data doesn't have any data points, for example when aggregation is
+      // Aggregation#drop()
+      if (!current.isEmpty()) {
+        result.add(current);
+      }
+    }
+    return result;
+  }
+
   /** Reset the meter state, clearing all registered callbacks and storages. */
   public void resetForTest() {
     synchronized (collectLock) {
@@ -18,6 +18,7 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
@@ -47,6 +48,10 @@ public final class SdkObservableMeasurement
   private volatile long startEpochNanos;
   private volatile long epochNanos;
 
+  // The number of callbacks recording to this measurement which missed their deadline and are
+  // still running.
+  private final AtomicInteger abandonedCallbacks = new AtomicInteger();
+
   private SdkObservableMeasurement(
       InstrumentationScopeInfo instrumentationScopeInfo,
       InstrumentDescriptor instrumentDescriptor,
@@ -94,6 +99,10 @@ public final class SdkObservableMeasurement
     this.activeReader = null;
   }
 
+  AtomicInteger getAbandonedCallbacks() {
+    return abandonedCallbacks;
+  }
+
   InstrumentDescriptor getInstrumentDescriptor() {
     return instrumentDescriptor;
   }
@@ -109,14 +118,30 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(long value, Attributes attributes) {
+    // Callbacks running on the executor of a CallbackExecution record to their buffer, and the
+    // measurements are recorded to the storages once the callback completes
+    BufferedMeasurements activeBuffer = BufferedMeasurements.active();
+    if (activeBuffer != null && activeBuffer.isRecordingTo(this)) {
+      activeBuffer.addLong(this, value, attributes);
+      return;
+    }
+    RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
       logNoActiveReader();
       return;
     }
+    recordLong(activeReader, startEpochNanos, epochNanos, value, attributes);
+  }
 
+  void recordLong(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      long value,
+      Attributes attributes) {
     Measurement measurement;
 
-    MemoryMode memoryMode = activeReader.getReader().getMemoryMode();
+    MemoryMode memoryMode = reader.getReader().getMemoryMode();
     if (Objects.requireNonNull(memoryMode) == MemoryMode.IMMUTABLE_DATA) {
       measurement = createLong(startEpochNanos, epochNanos, value, attributes);
     } else {
@@ -125,7 +150,7 @@ public final class SdkObservableMeasurement
       measurement = mutableMeasurement;
     }
 
-    doRecord(measurement);
+    doRecord(reader, measurement);
   }
 
   @Override
@@ -135,10 +160,27 @@ public final class SdkObservableMeasurement
 
   @Override
   public void record(double value, Attributes attributes) {
+    // Callbacks running on the executor of a CallbackExecution record to their buffer, and the
+    // measurements are recorded to the storages once the callback completes
+    BufferedMeasurements activeBuffer = BufferedMeasurements.active();
+    if (activeBuffer != null && activeBuffer.isRecordingTo(this)) {
+      activeBuffer.addDouble(this, value, attributes);
+      return;
+    }
+    RegisteredReader activeReader = this.activeReader;
     if (activeReader == null) {
       logNoActiveReader();
       return;
     }
+    recordDouble(activeReader, startEpochNanos, epochNanos, value, attributes);
+  }
+
+  void recordDouble(
+      RegisteredReader reader,
+      long startEpochNanos,
+      long epochNanos,
+      double value,
+      Attributes attributes) {
     if (Double.isNaN(value)) {
       logger.log(
           Level.FINE,
@@ -151,7 +193,7 @@ public final class SdkObservableMeasurement
     }
 
     Measurement measurement;
-    MemoryMode memoryMode = activeReader.getReader().getMemoryMode();
+    MemoryMode memoryMode = reader.getReader().getMemoryMode();
     if (Objects.requireNonNull(memoryMode) == MemoryMode.IMMUTABLE_DATA) {
       measurement = createDouble(startEpochNanos, epochNanos, value, attributes);
     } else {
@@ -160,13 +202,12 @@ public final class SdkObservableMeasurement
       measurement = mutableMeasurement;
     }
 
-    doRecord(measurement);
+    doRecord(reader, measurement);
   }
 
-  private void doRecord(Measurement measurement) {
-    RegisteredReader activeReader = this.activeReader;
+  private void doRecord(RegisteredReader reader, Measurement measurement) {
     for (AsynchronousMetricStorage<?, ?> storage : storages) {
-      if (storage.getRegisteredReader().equals(activeReader)) {
+      if (storage.getRegisteredReader().equals(reader)) {
         storage.record(measurement);
       }
     }
@@ -11,6 +11,8 @@ import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.data.PointData;
 import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.DoubleSumAggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.LongSumAggregator;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
@@ -52,11 +54,21 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
     if (Aggregator.drop() == aggregator) {
       return empty();
     }
+    if (registeredView.getColumnarSumStorage()
+        && (aggregator instanceof LongSumAggregator || aggregator instanceof DoubleSumAggregator)) {
+      return new ColumnarSumMetricStorage<>(
+          registeredReader,
+          metricDescriptor,
+          aggregator,
+          registeredView.getViewAttributesProcessor(),
+          registeredView.getCardinalityLimit());
+    }
     return new DefaultSynchronousMetricStorage<>(
         registeredReader,
         metricDescriptor,
         aggregator,
         registeredView.getViewAttributesProcessor(),
-        registeredView.getCardinalityLimit());
+        registeredView.getCardinalityLimit(),
+        registeredView.getMaxIdleCollections());
   }
 }
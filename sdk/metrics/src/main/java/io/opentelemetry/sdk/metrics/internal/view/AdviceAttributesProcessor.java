@@ -7,7 +7,6 @@ package io.opentelemetry.sdk.metrics.internal.view;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import java.util.HashSet;
 import java.util.List;
@@ -16,16 +15,16 @@ import java.util.Set;
 final class AdviceAttributesProcessor extends AttributesProcessor {
 
   private final Set<AttributeKey<?>> attributeKeys;
+  private final FilteredAttributesCache cache;
 
   AdviceAttributesProcessor(List<AttributeKey<?>> adviceAttributeKeys) {
     this.attributeKeys = new HashSet<>(adviceAttributeKeys);
+    this.cache = new FilteredAttributesCache(attributeKeys::contains);
   }
 
   @Override
   public Attributes process(Attributes incoming, Context context) {
-    AttributesBuilder builder = incoming.toBuilder();
-    builder.removeIf(key -> !attributeKeys.contains(key));
-    return builder.build();
+    return cache.filter(incoming);
   }
 
   @Override
@@ -129,16 +129,17 @@ public abstract class AttributesProcessor {
   private static class AttributeKeyFilteringProcessor extends AttributesProcessor {
 
     private final Predicate<String> nameFilter;
+    private final FilteredAttributesCache cache;
 
     private AttributeKeyFilteringProcessor(Predicate<String> nameFilter) {
       this.nameFilter = nameFilter;
+      this.cache =
+          new FilteredAttributesCache(attributeKey -> nameFilter.test(attributeKey.getKey()));
     }
 
     @Override
     public Attributes process(Attributes incoming, Context context) {
-      return incoming.toBuilder()
-          .removeIf(attributeKey -> !nameFilter.test(attributeKey.getKey()))
-          .build();
+      return cache.filter(incoming);
     }
 
     @Override
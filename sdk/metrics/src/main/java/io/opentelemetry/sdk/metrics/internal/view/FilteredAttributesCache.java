@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/**
+ * Filters {@link Attributes} down to the keys matching a predicate.
+ *
+ * <p>Which entries are kept only depends on the keys of the attributes, not on their values, so the
+ * positions of the entries to keep are memoized per set of keys, as a {@link Projection}.
+ * Attributes with the same keys as the previous ones, as usual when recording to an instrument, are
+ * filtered without testing the predicate or copying the dropped entries, however many distinct
+ * values they have. Attributes which keep all their keys are returned as is.
+ *
+ * <p>The memo holds up to {@link #MAX_SIZE} sets of keys and is cleared when it is full.
+ */
+final class FilteredAttributesCache {
+
+  // Instruments are recorded to with few sets of keys, this only bounds unexpected ones.
+  static final int MAX_SIZE = 128;
+
+  private final Predicate<AttributeKey<?>> keyFilter;
+  private final ConcurrentHashMap<List<AttributeKey<?>>, Projection> projections =
+      new ConcurrentHashMap<>();
+
+  @Nullable private volatile Projection lastProjection;
+
+  FilteredAttributesCache(Predicate<AttributeKey<?>> keyFilter) {
+    this.keyFilter = keyFilter;
+  }
+
+  /** Returns the {@code incoming} attributes without the keys not matching the predicate. */
+  Attributes filter(Attributes incoming) {
+    if (incoming.isEmpty()) {
+      return incoming;
+    }
+    Projection projection = lastProjection;
+    if (projection != null) {
+      Attributes result = projection.apply(incoming);
+      if (result != null) {
+        return result;
+      }
+    }
+    List<AttributeKey<?>> keys = new ArrayList<>(incoming.size());
+    incoming.forEach((key, value) -> keys.add(key));
+    projection = projections.get(keys);
+    if (projection == null) {
+      projection = new Projection(keys, keyFilter);
+      if (projections.size() >= MAX_SIZE) {
+        projections.clear();
+      }
+      projections.put(keys, projection);
+    }
+    lastProjection = projection;
+    Attributes result = projection.apply(incoming);
+    // Only null for attributes which do not iterate their keys consistently.
+    return result != null
+        ? result
+        : incoming.toBuilder().removeIf(key -> !keyFilter.test(key)).build();
+  }
+
+  // Visible for testing
+  int size() {
+    return projections.size();
+  }
+
+  /** The entries kept from attributes with a given list of keys, in iteration order. */
+  private static final class Projection {
+    private final AttributeKey<?>[] keys;
+    private final boolean[] kept;
+    private final int keptCount;
+
+    private Projection(List<AttributeKey<?>> keys, Predicate<AttributeKey<?>> keyFilter) {
+      this.keys = keys.toArray(new AttributeKey<?>[0]);
+      this.kept = new boolean[this.keys.length];
+      int keptCount = 0;
+      for (int i = 0; i < this.keys.length; i++) {
+        if (keyFilter.test(this.keys[i])) {
+          kept[i] = true;
+          keptCount++;
+        }
+      }
+      this.keptCount = keptCount;
+    }
+
+    /**
+     * Returns the projected {@code attributes}, or {@code null} if they do not have the keys of
+     * this projection.
+     */
+    @Nullable
+    Attributes apply(Attributes attributes) {
+      if (attributes.size() != keys.length) {
+        return null;
+      }
+      boolean keepAll = keptCount == keys.length;
+      Projector projector =
+          new Projector(this, keepAll || keptCount == 0 ? null : Attributes.builder());
+      attributes.forEach(projector);
+      if (!projector.matches) {
+        return null;
+      }
+      if (keepAll) {
+        return attributes;
+      }
+      return projector.builder == null ? Attributes.empty() : projector.builder.build();
+    }
+  }
+
+  /** Checks the keys of attributes against a projection, copying the kept entries. */
+  private static final class Projector implements BiConsumer<AttributeKey<?>, Object> {
+    private final Projection projection;
+    @Nullable private final AttributesBuilder builder;
+    private int index;
+    private boolean matches = true;
+
+    private Projector(Projection projection, @Nullable AttributesBuilder builder) {
+      this.projection = projection;
+      this.builder = builder;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void accept(AttributeKey<?> key, Object value) {
+      int index = this.index++;
+      if (!matches || index >= projection.keys.length || !projection.keys[index].equals(key)) {
+        matches = false;
+        return;
+      }
+      if (builder != null && projection.kept[index]) {
+        builder.put((AttributeKey<Object>) key, value);
+      }
+    }
+  }
+}
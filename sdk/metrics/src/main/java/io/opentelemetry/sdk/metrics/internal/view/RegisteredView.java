@@ -27,8 +27,26 @@ public abstract class RegisteredView {
       AttributesProcessor viewAttributesProcessor,
       int cardinalityLimit,
       SourceInfo viewSourceInfo) {
+    return create(
+        selector, view, viewAttributesProcessor, cardinalityLimit, 0, false, viewSourceInfo);
+  }
+
+  public static RegisteredView create(
+      InstrumentSelector selector,
+      View view,
+      AttributesProcessor viewAttributesProcessor,
+      int cardinalityLimit,
+      int maxIdleCollections,
+      boolean columnarSumStorage,
+      SourceInfo viewSourceInfo) {
     return new AutoValue_RegisteredView(
-        selector, view, viewAttributesProcessor, cardinalityLimit, viewSourceInfo);
+        selector,
+        view,
+        viewAttributesProcessor,
+        cardinalityLimit,
+        maxIdleCollections,
+        columnarSumStorage,
+        viewSourceInfo);
   }
 
   RegisteredView() {}
@@ -45,6 +63,15 @@ public abstract class RegisteredView {
   /** The view's cardinality limit. */
   public abstract int getCardinalityLimit();
 
+  /**
+   * The number of collections a series may go without recorded values before it's evicted, or
+   * {@code 0} if series are never evicted.
+   */
+  public abstract int getMaxIdleCollections();
+
+  /** Whether the view's sums are stored in primitive columns. */
+  public abstract boolean getColumnarSumStorage();
+
   /** The {@link SourceInfo} from where the view was registered. */
   public abstract SourceInfo getViewSourceInfo();
 
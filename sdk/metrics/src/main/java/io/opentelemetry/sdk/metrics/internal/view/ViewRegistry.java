@@ -24,13 +24,14 @@ import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -52,8 +53,18 @@ public final class ViewRegistry {
           SourceInfo.noSourceInfo());
   private static final Logger logger = Logger.getLogger(ViewRegistry.class.getName());
 
+  private static final int[] NO_VIEWS = new int[0];
+
   private final Map<InstrumentType, RegisteredView> instrumentDefaultRegisteredView;
   private final List<RegisteredView> registeredViews;
+  // The compiled instrument name predicate of each registered view, by registration index.
+  private final List<Predicate<String>> instrumentNamePredicates;
+  // The registration indexes of the views selecting an exact instrument name, keyed by the lower
+  // case name, in registration order.
+  private final Map<String, int[]> exactNameViews;
+  // The registration indexes of the other views which may select an instrument type, in
+  // registration order.
+  private final Map<InstrumentType, int[]> otherViewsByType;
 
   ViewRegistry(
       DefaultAggregationSelector defaultAggregationSelector,
@@ -73,6 +84,37 @@ public final class ViewRegistry {
               SourceInfo.noSourceInfo()));
     }
     this.registeredViews = registeredViews;
+
+    // Index the views once so finding the views of an instrument doesn't compile glob patterns, and
+    // only looks at the views which select its name exactly or with a pattern
+    instrumentNamePredicates = new ArrayList<>(registeredViews.size());
+    Map<String, List<Integer>> exactNameIndexes = new HashMap<>();
+    Map<InstrumentType, List<Integer>> otherIndexes = new EnumMap<>(InstrumentType.class);
+    for (InstrumentType instrumentType : InstrumentType.values()) {
+      otherIndexes.put(instrumentType, new ArrayList<>());
+    }
+    for (int i = 0; i < registeredViews.size(); i++) {
+      InstrumentSelector selector = registeredViews.get(i).getInstrumentSelector();
+      String instrumentName = selector.getInstrumentName();
+      instrumentNamePredicates.add(
+          instrumentName == null ? unused -> true : toGlobPatternPredicate(instrumentName));
+      if (instrumentName != null && isExactName(instrumentName)) {
+        exactNameIndexes
+            .computeIfAbsent(instrumentName.toLowerCase(Locale.ROOT), unused -> new ArrayList<>())
+            .add(i);
+        continue;
+      }
+      for (InstrumentType instrumentType : InstrumentType.values()) {
+        if (selector.getInstrumentType() == null
+            || selector.getInstrumentType() == instrumentType) {
+          otherIndexes.get(instrumentType).add(i);
+        }
+      }
+    }
+    exactNameViews = new HashMap<>();
+    exactNameIndexes.forEach((name, indexes) -> exactNameViews.put(name, toArray(indexes)));
+    otherViewsByType = new EnumMap<>(InstrumentType.class);
+    otherIndexes.forEach((type, indexes) -> otherViewsByType.put(type, toArray(indexes)));
   }
 
   /** Returns a {@link ViewRegistry}. */
@@ -101,9 +143,29 @@ public final class ViewRegistry {
   public List<RegisteredView> findViews(
       InstrumentDescriptor descriptor, InstrumentationScopeInfo meterScope) {
     List<RegisteredView> result = new ArrayList<>();
-    // Find matching views for the instrument
-    for (RegisteredView entry : registeredViews) {
-      if (matchesSelector(entry.getInstrumentSelector(), descriptor, meterScope)) {
+    // Find matching views for the instrument, merging the candidate views in registration order
+    int[] exactNameCandidates = exactNameViews.get(descriptor.getName().toLowerCase(Locale.ROOT));
+    if (exactNameCandidates == null) {
+      exactNameCandidates = NO_VIEWS;
+    }
+    int[] otherCandidates = requireNonNull(otherViewsByType.get(descriptor.getType()));
+    int exactPos = 0;
+    int otherPos = 0;
+    while (exactPos < exactNameCandidates.length || otherPos < otherCandidates.length) {
+      int index;
+      if (otherPos == otherCandidates.length
+          || (exactPos < exactNameCandidates.length
+              && exactNameCandidates[exactPos] < otherCandidates[otherPos])) {
+        index = exactNameCandidates[exactPos++];
+      } else {
+        index = otherCandidates[otherPos++];
+      }
+      RegisteredView entry = registeredViews.get(index);
+      if (matchesSelector(
+          entry.getInstrumentSelector(),
+          instrumentNamePredicates.get(index),
+          descriptor,
+          meterScope)) {
         AggregatorFactory viewAggregatorFactory =
             (AggregatorFactory) entry.getView().getAggregation();
         if (viewAggregatorFactory.isCompatibleWithInstrument(descriptor)) {
@@ -159,6 +221,7 @@ public final class ViewRegistry {
   // Matches an instrument selector against an instrument + meter.
   private static boolean matchesSelector(
       InstrumentSelector selector,
+      Predicate<String> instrumentNamePredicate,
       InstrumentDescriptor descriptor,
       InstrumentationScopeInfo meterScope) {
     if (selector.getInstrumentType() != null
@@ -169,8 +232,7 @@ public final class ViewRegistry {
         && !selector.getInstrumentUnit().equals(descriptor.getUnit())) {
       return false;
     }
-    if (selector.getInstrumentName() != null
-        && !toGlobPatternPredicate(selector.getInstrumentName()).test(descriptor.getName())) {
+    if (!instrumentNamePredicate.test(descriptor.getName())) {
       return false;
     }
     return matchesMeter(selector, meterScope);
@@ -208,49 +270,94 @@ public final class ViewRegistry {
       return unused -> true;
     }
 
-    // If globPattern contains '*' or '?', convert it to a regex and return corresponding predicate
-    for (int i = 0; i < globPattern.length(); i++) {
-      char c = globPattern.charAt(i);
-      if (c == '*' || c == '?') {
-        Pattern pattern = toRegexPattern(globPattern);
-        return string -> pattern.matcher(string).matches();
+    // If globPattern contains '*' or '?', match it against the string without a regex, rejecting
+    // strings which are too short or don't have the literal prefix and suffix of the globPattern
+    // without backtracking
+    if (!isExactName(globPattern)) {
+      int firstWildcard = 0;
+      while (!isWildcard(globPattern.charAt(firstWildcard))) {
+        firstWildcard++;
+      }
+      int lastWildcard = globPattern.length() - 1;
+      while (!isWildcard(globPattern.charAt(lastWildcard))) {
+        lastWildcard--;
+      }
+      String prefix = globPattern.substring(0, firstWildcard);
+      String suffix = globPattern.substring(lastWildcard + 1);
+      int minLength = 0;
+      for (int i = 0; i < globPattern.length(); i++) {
+        if (globPattern.charAt(i) != '*') {
+          minLength++;
+        }
       }
+      int finalMinLength = minLength;
+      return string ->
+          string.length() >= finalMinLength
+              && string.startsWith(prefix)
+              && string.endsWith(suffix)
+              && globMatches(globPattern, string);
     }
 
     // Exact match, ignoring case
     return globPattern::equalsIgnoreCase;
   }
 
+  // Returns true if the globPattern contains no wildcard characters.
+  private static boolean isExactName(String globPattern) {
+    for (int i = 0; i < globPattern.length(); i++) {
+      if (isWildcard(globPattern.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isWildcard(char c) {
+    return c == '*' || c == '?';
+  }
+
+  private static int[] toArray(List<Integer> indexes) {
+    int[] result = new int[indexes.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = indexes.get(i);
+    }
+    return result;
+  }
+
   /**
-   * Transform the {@code globPattern} to a regex by converting {@code *} to {@code .*}, {@code ?}
-   * to {@code .}, and escaping other regex special characters.
+   * Returns {@code true} if the {@code string} matches the {@code globPattern}, where {@code *}
+   * matches any sequence of characters and {@code ?} matches a single character. On a mismatch
+   * after a {@code *}, matching resumes with the {@code *} consuming one more character.
    */
-  private static Pattern toRegexPattern(String globPattern) {
-    int tokenStart = -1;
-    StringBuilder patternBuilder = new StringBuilder();
-    for (int i = 0; i < globPattern.length(); i++) {
-      char c = globPattern.charAt(i);
-      if (c == '*' || c == '?') {
-        if (tokenStart != -1) {
-          patternBuilder.append(Pattern.quote(globPattern.substring(tokenStart, i)));
-          tokenStart = -1;
-        }
+  private static boolean globMatches(String globPattern, String string) {
+    int patternPos = 0;
+    int stringPos = 0;
+    int starPatternPos = -1;
+    int starStringPos = 0;
+    while (stringPos < string.length()) {
+      if (patternPos < globPattern.length()) {
+        char c = globPattern.charAt(patternPos);
         if (c == '*') {
-          patternBuilder.append(".*");
-        } else {
-          // c == '?'
-          patternBuilder.append(".");
+          starPatternPos = patternPos++;
+          starStringPos = stringPos;
+          continue;
         }
-      } else {
-        if (tokenStart == -1) {
-          tokenStart = i;
+        if (c == '?' || c == string.charAt(stringPos)) {
+          patternPos++;
+          stringPos++;
+          continue;
         }
       }
+      if (starPatternPos == -1) {
+        return false;
+      }
+      patternPos = starPatternPos + 1;
+      stringPos = ++starStringPos;
     }
-    if (tokenStart != -1) {
-      patternBuilder.append(Pattern.quote(globPattern.substring(tokenStart)));
+    while (patternPos < globPattern.length() && globPattern.charAt(patternPos) == '*') {
+      patternPos++;
     }
-    return Pattern.compile(patternBuilder.toString());
+    return patternPos == globPattern.length();
   }
 
   private static RegisteredView applyAdviceToDefaultView(
@@ -260,6 +367,8 @@ public final class ViewRegistry {
         instrumentDefaultView.getView(),
         new AdviceAttributesProcessor(requireNonNull(advice.getAttributes())),
         instrumentDefaultView.getCardinalityLimit(),
+        instrumentDefaultView.getMaxIdleCollections(),
+        instrumentDefaultView.getColumnarSumStorage(),
         instrumentDefaultView.getViewSourceInfo());
   }
 }
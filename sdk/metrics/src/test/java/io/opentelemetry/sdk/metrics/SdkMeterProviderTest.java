@@ -37,8 +37,13 @@ import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -46,6 +51,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -208,6 +214,133 @@ class SdkMeterProviderTest {
                                             .hasValue(-10.1))));
   }
 
+  @Test
+  void collectAllSyncInstruments_ParallelCollection() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      InMemoryMetricReader sequentialReader = InMemoryMetricReader.create();
+      SdkMeterProvider sequentialProvider =
+          SdkMeterProvider.builder().registerMetricReader(sequentialReader).build();
+      InMemoryMetricReader parallelReader = InMemoryMetricReader.create();
+      SdkMeterProviderBuilder parallelBuilder =
+          SdkMeterProvider.builder().registerMetricReader(parallelReader);
+      SdkMeterProviderUtil.setCollectionExecutor(parallelBuilder, executor);
+      SdkMeterProvider parallelProvider = parallelBuilder.build();
+
+      for (SdkMeterProvider meterProvider : Arrays.asList(sequentialProvider, parallelProvider)) {
+        for (int meter = 0; meter < 3; meter++) {
+          Meter sdkMeter = meterProvider.get("meter" + meter);
+          for (int counter = 0; counter < 50; counter++) {
+            sdkMeter.counterBuilder("counter" + counter).build().add(meter * 100 + counter);
+          }
+        }
+      }
+
+      // Meters may be iterated in a different order by each provider, but the metrics of a meter
+      // are contiguous and in the same order as when collected sequentially
+      Map<InstrumentationScopeInfo, List<String>> expected =
+          metricsByScope(sequentialReader.collectAllMetrics());
+      Map<InstrumentationScopeInfo, List<String>> actual =
+          metricsByScope(parallelReader.collectAllMetrics());
+      assertThat(actual).isEqualTo(expected).hasSize(3);
+      assertThat(actual.values()).allSatisfy(metrics -> assertThat(metrics).hasSize(50));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void collectAllAsyncInstruments_CallbackExecutor() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      InMemoryMetricReader sdkMeterReader = InMemoryMetricReader.create();
+      SdkMeterProviderBuilder builder =
+          sdkMeterProviderBuilder.registerMetricReader(sdkMeterReader);
+      SdkMeterProviderUtil.setCallbackExecutor(builder, executor, Duration.ofMillis(500));
+      SdkMeterProvider sdkMeterProvider = builder.build();
+      AtomicLong value = new AtomicLong(10);
+      sdkMeterProvider
+          .get(SdkMeterProviderTest.class.getName())
+          .gaugeBuilder("testGauge")
+          .ofLongs()
+          .buildWithCallback(
+              measurement -> {
+                if (value.get() == 20) {
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                }
+                measurement.record(value.get());
+              });
+
+      assertThat(sdkMeterReader.collectAllMetrics())
+          .anySatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasName("testGauge")
+                      .hasLongGaugeSatisfying(
+                          gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(10))));
+
+      // The callback misses its deadline, and its last value is reported
+      value.set(20);
+      assertThat(sdkMeterReader.collectAllMetrics())
+          .anySatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasName("testGauge")
+                      .hasLongGaugeSatisfying(
+                          gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(10))));
+
+      // Meters are collected in no particular order, so the duration recorded while collecting the
+      // gauge's meter may only be reported by the next collection, which doesn't invoke the
+      // abandoned callback
+      assertThat(sdkMeterReader.collectAllMetrics())
+          .anySatisfy(
+              metric ->
+                  assertThat(metric)
+                      .hasName("callbackDuration")
+                      .hasInstrumentationScope(
+                          InstrumentationScopeInfo.create("io.opentelemetry.sdk.metrics"))
+                      .hasHistogramSatisfying(
+                          histogram ->
+                              histogram.hasPointsSatisfying(
+                                  point ->
+                                      point
+                                          .hasAttributes(attributeEntry("timedOut", false))
+                                          .hasCount(1),
+                                  point ->
+                                      point
+                                          .hasAttributes(attributeEntry("timedOut", true))
+                                          .hasCount(1))));
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  private static Map<InstrumentationScopeInfo, List<String>> metricsByScope(
+      Collection<MetricData> metrics) {
+    Map<InstrumentationScopeInfo, List<String>> result = new LinkedHashMap<>();
+    InstrumentationScopeInfo previousScope = null;
+    for (MetricData metric : metrics) {
+      InstrumentationScopeInfo scope = metric.getInstrumentationScopeInfo();
+      if (!scope.equals(previousScope)) {
+        assertThat(result).doesNotContainKey(scope);
+      }
+      previousScope = scope;
+      result
+          .computeIfAbsent(scope, unused -> new ArrayList<>())
+          .add(
+              metric.getName()
+                  + "="
+                  + metric.getLongSumData().getPoints().iterator().next().getValue());
+    }
+    return result;
+  }
+
   @Test
   void collectAllSyncInstruments_OverwriteTemporality() {
     sdkMeterProviderBuilder.registerView(
@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.metrics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -40,4 +41,19 @@ class ViewTest {
                 + "cardinalityLimit=10"
                 + "}");
   }
+
+  @Test
+  void maxIdleCollections() {
+    assertThat(View.builder().setMaxIdleCollections(3).build().toString())
+        .isEqualTo(
+            "View{"
+                + "aggregation=DefaultAggregation, "
+                + "attributesProcessor=NoopAttributesProcessor{}, "
+                + "cardinalityLimit=2000, "
+                + "maxIdleCollections=3"
+                + "}");
+    assertThatThrownBy(() -> View.builder().setMaxIdleCollections(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxIdleCollections must be >= 0");
+  }
 }
@@ -124,7 +124,7 @@ class DoubleRandomFixedSizeExemplarReservoirTest {
         };
     TestClock clock = TestClock.create();
     ExemplarReservoir<DoubleExemplarData> reservoir =
-        ExemplarReservoir.doubleFixedSizeReservoir(clock, 2, () -> mockRandom);
+        RandomFixedSizeExemplarReservoir.createDouble(clock, 2, () -> mockRandom);
     reservoir.offerDoubleMeasurement(1, Attributes.of(key, 1L), Context.root());
     reservoir.offerDoubleMeasurement(2, Attributes.of(key, 2L), Context.root());
     reservoir.offerDoubleMeasurement(3, Attributes.of(key, 3L), Context.root());
@@ -124,7 +124,7 @@ class LongRandomFixedSizeExemplarReservoirTest {
         };
     TestClock clock = TestClock.create();
     ExemplarReservoir<LongExemplarData> reservoir =
-        ExemplarReservoir.longFixedSizeReservoir(clock, 2, () -> mockRandom);
+        RandomFixedSizeExemplarReservoir.createLong(clock, 2, () -> mockRandom);
     reservoir.offerLongMeasurement(1, Attributes.of(key, 1L), Context.root());
     reservoir.offerLongMeasurement(2, Attributes.of(key, 2L), Context.root());
     reservoir.offerLongMeasurement(3, Attributes.of(key, 3L), Context.root());
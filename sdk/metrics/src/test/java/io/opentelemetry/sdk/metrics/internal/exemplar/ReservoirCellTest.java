@@ -0,0 +1,76 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import org.junit.jupiter.api.Test;
+
+class ReservoirCellTest {
+
+  /** A clock whose epoch time and monotonic time have different origins. */
+  private static class OffsetClock implements Clock {
+    private static final long EPOCH_OFFSET = 1_700_000_000_000_000_000L;
+    private long nanoTime = 42;
+
+    @Override
+    public long now() {
+      return EPOCH_OFFSET + nanoTime;
+    }
+
+    @Override
+    public long nanoTime() {
+      return nanoTime;
+    }
+  }
+
+  @Test
+  void convertsRecordTimeToEpochOnCollection() {
+    OffsetClock clock = new OffsetClock();
+    ReservoirCell cell = new ReservoirCell(clock);
+    cell.recordLongMeasurement(1, Attributes.empty(), Context.root());
+    long recordEpochNanos = clock.now();
+    // Time passes between the measurement and the collection.
+    clock.nanoTime += 5_000;
+
+    LongExemplarData exemplar = cell.getAndResetLong(Attributes.empty());
+    assertThat(exemplar).isNotNull();
+    assertThat(exemplar.getEpochNanos()).isEqualTo(recordEpochNanos);
+    assertThat(cell.getAndResetLong(Attributes.empty())).isNull();
+  }
+
+  @Test
+  void capturesSpanContextAndFiltersAttributesOnCollection() {
+    SpanContext spanContext =
+        SpanContext.create(
+            "ff000000000000000000000000000041",
+            "ff00000000000041",
+            TraceFlags.getSampled(),
+            TraceState.getDefault());
+    ReservoirCell cell = new ReservoirCell(new OffsetClock());
+    cell.recordDoubleMeasurement(
+        1.5,
+        Attributes.builder().put("one", 1).put("two", 2).build(),
+        Context.root().with(Span.wrap(spanContext)));
+
+    DoubleExemplarData exemplar =
+        cell.getAndResetDouble(Attributes.builder().put("one", 1).build());
+    assertThat(exemplar).isNotNull();
+    assertThat(exemplar.getValue()).isEqualTo(1.5);
+    assertThat(exemplar.getSpanContext()).isEqualTo(spanContext);
+    assertThat(exemplar.getFilteredAttributes())
+        .isEqualTo(Attributes.builder().put("two", 2).build());
+  }
+}
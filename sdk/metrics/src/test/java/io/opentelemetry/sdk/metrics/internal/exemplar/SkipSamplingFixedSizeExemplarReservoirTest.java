@@ -0,0 +1,184 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.exemplar;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.LongExemplarData;
+import io.opentelemetry.sdk.testing.time.TestClock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SkipSamplingFixedSizeExemplarReservoirTest {
+
+  @Test
+  void noMeasurement_returnsEmpty() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<LongExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createLong(
+            clock, 1, RandomSupplier.platformDefault());
+    assertThat(reservoir.collectAndReset(Attributes.empty())).isEmpty();
+  }
+
+  @Test
+  void fillsReservoirWithFirstMeasurements() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<DoubleExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createDouble(
+            clock, 3, RandomSupplier.platformDefault());
+    reservoir.offerDoubleMeasurement(1, Attributes.empty(), Context.root());
+    reservoir.offerDoubleMeasurement(2, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactlyInAnyOrder(
+            exemplar -> assertThat(exemplar.getValue()).isEqualTo(1),
+            exemplar -> assertThat(exemplar.getValue()).isEqualTo(2));
+
+    // Counters are reset, we should sample a new measurement (and only one)
+    clock.advance(Duration.ofSeconds(1));
+    reservoir.offerDoubleMeasurement(3, Attributes.empty(), Context.root());
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(
+            exemplar -> {
+              assertThat(exemplar.getEpochNanos()).isEqualTo(clock.now());
+              assertThat(exemplar.getValue()).isEqualTo(3);
+            });
+  }
+
+  @Test
+  void skipsMeasurementsBetweenSamples() {
+    // Every draw returns 0.5, so each sample is followed by a deterministic number of skips.
+    Random fixedRandom =
+        new Random() {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          public double nextDouble() {
+            return 0.5;
+          }
+
+          @Override
+          public int nextInt(int bound) {
+            return 0;
+          }
+        };
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<LongExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createLong(clock, 1, () -> fixedRandom);
+    // The threshold is 0.5 after the first measurement, so one measurement is skipped before the
+    // third one. It is 0.75 after the third one, so two measurements are skipped before the sixth.
+    for (long i = 1; i <= 5; i++) {
+      reservoir.offerLongMeasurement(i, Attributes.empty(), Context.root());
+    }
+    assertThat(reservoir.collectAndReset(Attributes.empty()))
+        .satisfiesExactly(exemplar -> assertThat(exemplar.getValue()).isEqualTo(3));
+  }
+
+  @Test
+  void samplesUniformly() {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<LongExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createLong(
+            clock, 4, RandomSupplier.platformDefault());
+    int measurements = 1000;
+    int[] sampled = new int[measurements];
+    for (int round = 0; round < 5000; round++) {
+      for (long i = 0; i < measurements; i++) {
+        reservoir.offerLongMeasurement(i, Attributes.empty(), Context.root());
+      }
+      List<LongExemplarData> exemplars = reservoir.collectAndReset(Attributes.empty());
+      assertThat(exemplars).hasSize(4);
+      for (LongExemplarData exemplar : exemplars) {
+        sampled[(int) exemplar.getValue()]++;
+      }
+    }
+    // Each measurement is expected to be sampled 5000 * 4 / 1000 = 20 times, compare tenths.
+    for (int tenth = 0; tenth < 10; tenth++) {
+      int count = 0;
+      for (int i = tenth * 100; i < (tenth + 1) * 100; i++) {
+        count += sampled[i];
+      }
+      assertThat(count).isBetween(1600, 2400);
+    }
+  }
+
+  @Test
+  void samplesUniformlyAcrossThreads() throws Exception {
+    TestClock clock = TestClock.create();
+    Random random = new Random(1234);
+    ExemplarReservoir<LongExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createLong(clock, 4, () -> random);
+    ExecutorService busyThread = Executors.newSingleThreadExecutor();
+    ExecutorService quietThread = Executors.newSingleThreadExecutor();
+    int rounds = 2000;
+    int fromQuietThread = 0;
+    try {
+      for (int round = 0; round < rounds; round++) {
+        // The thread recording fewer measurements starts last, so it must not replace the
+        // measurements of the other thread as if it was sampling its own.
+        busyThread
+            .submit(
+                () -> {
+                  for (long i = 0; i < 1000; i++) {
+                    reservoir.offerLongMeasurement(0, Attributes.empty(), Context.root());
+                  }
+                })
+            .get();
+        quietThread
+            .submit(
+                () -> {
+                  for (long i = 0; i < 100; i++) {
+                    reservoir.offerLongMeasurement(1, Attributes.empty(), Context.root());
+                  }
+                })
+            .get();
+        List<LongExemplarData> exemplars = reservoir.collectAndReset(Attributes.empty());
+        assertThat(exemplars).hasSize(4);
+        for (LongExemplarData exemplar : exemplars) {
+          fromQuietThread += (int) exemplar.getValue();
+        }
+      }
+    } finally {
+      busyThread.shutdown();
+      quietThread.shutdown();
+    }
+    // 100 of every 1100 measurements are recorded by the quiet thread, so it is expected to
+    // record 2000 * 4 * 100 / 1100 = 727 of the sampled ones.
+    assertThat(fromQuietThread).isBetween(600, 860);
+  }
+
+  @Test
+  void concurrentMeasurements() throws InterruptedException {
+    TestClock clock = TestClock.create();
+    ExemplarReservoir<LongExemplarData> reservoir =
+        SkipSamplingFixedSizeExemplarReservoir.createLong(
+            clock, 4, RandomSupplier.platformDefault());
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      executor.execute(
+          () -> {
+            for (long i = 0; i < 100_000; i++) {
+              reservoir.offerLongMeasurement(i, Attributes.empty(), Context.root());
+            }
+            done.countDown();
+          });
+    }
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    executor.shutdown();
+    assertThat(reservoir.collectAndReset(Attributes.empty())).hasSize(4);
+  }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.util.concurrent.AtomicDouble;
 import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.MeterProvider;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.common.export.MemoryMode;
@@ -27,8 +28,16 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
 import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -246,4 +255,206 @@ class CallbackRegistrationTest {
 
     logs.assertContains("An exception occurred invoking callback");
   }
+
+  @Test
+  void invokeCallback_Executor() {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CallbackExecution callbackExecution =
+          CallbackExecution.create(executor, Duration.ofSeconds(10), MeterProvider::noop);
+      AtomicLong counter = new AtomicLong();
+      Runnable callback =
+          () ->
+              measurement2.record(
+                  counter.incrementAndGet(), Attributes.builder().put("key", "val").build());
+      CallbackRegistration callbackRegistration =
+          CallbackRegistration.create(Collections.singletonList(measurement2), callback);
+
+      callbackRegistration.invokeCallback(registeredReader, 0, 1, callbackExecution);
+
+      assertThat(counter.get()).isEqualTo(1);
+      verify(storage2).record(createLong(0, 1, 1, Attributes.builder().put("key", "val").build()));
+      verify(storage3).record(createLong(0, 1, 1, Attributes.builder().put("key", "val").build()));
+      // Measurements outside the callback are dropped
+      measurement2.record(5);
+      verify(storage2, never()).record(createLong(0, 1, 5, Attributes.empty()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void invokeCallback_Executor_Timeout() throws InterruptedException {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CallbackExecution callbackExecution =
+          CallbackExecution.create(executor, Duration.ofMillis(50), MeterProvider::noop);
+      CountDownLatch release = new CountDownLatch(1);
+      CountDownLatch finished = new CountDownLatch(1);
+      AtomicLong counter = new AtomicLong();
+      Runnable callback =
+          () -> {
+            long value = counter.incrementAndGet();
+            if (value == 2) {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              finished.countDown();
+            }
+            measurement2.record(value);
+          };
+      CallbackRegistration callbackRegistration =
+          CallbackRegistration.create(Collections.singletonList(measurement2), callback);
+      AtomicLong otherCounter = new AtomicLong();
+      CallbackRegistration otherCallbackRegistration =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> measurement2.record(otherCounter.incrementAndGet() * 100));
+
+      callbackRegistration.invokeCallback(registeredReader, 0, 1, callbackExecution);
+      verify(storage2).record(createLong(0, 1, 1, Attributes.empty()));
+
+      // The second invocation misses its deadline, the measurements of the first are reused
+      callbackRegistration.invokeCallback(registeredReader, 0, 2, callbackExecution);
+      verify(storage2).record(createLong(0, 2, 1, Attributes.empty()));
+      logs.assertContains("did not complete within 50ms");
+
+      // The callback isn't invoked again while the second invocation runs, nor is another callback
+      // recording to the same instrument
+      callbackRegistration.invokeCallback(registeredReader, 0, 3, callbackExecution);
+      verify(storage2).record(createLong(0, 3, 1, Attributes.empty()));
+      otherCallbackRegistration.invokeCallback(registeredReader, 0, 3, callbackExecution);
+      assertThat(counter.get()).isEqualTo(2);
+      assertThat(otherCounter.get()).isEqualTo(0);
+
+      // The abandoned invocation completes, its measurement is dropped
+      release.countDown();
+      assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+      executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+      verify(storage2, never()).record(createLong(0, 3, 2, Attributes.empty()));
+
+      callbackRegistration.invokeCallback(registeredReader, 0, 4, callbackExecution);
+      verify(storage2).record(createLong(0, 4, 3, Attributes.empty()));
+      otherCallbackRegistration.invokeCallback(registeredReader, 0, 4, callbackExecution);
+      verify(storage2).record(createLong(0, 4, 100, Attributes.empty()));
+    } catch (ExecutionException | TimeoutException e) {
+      throw new AssertionError(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void submitCallback_SharedDeadline() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      CallbackExecution callbackExecution =
+          CallbackExecution.create(executor, Duration.ofMillis(200), MeterProvider::noop);
+      Runnable callback =
+          () -> {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          };
+      CallbackRegistration callbackRegistration1 =
+          CallbackRegistration.create(Collections.singletonList(measurement1), callback);
+      CallbackRegistration callbackRegistration2 =
+          CallbackRegistration.create(Collections.singletonList(measurement2), callback);
+
+      long startNanos = System.nanoTime();
+      long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(200);
+      CallbackRegistration.Invocation invocation1 =
+          callbackRegistration1.submitCallback(registeredReader, 0, 1, callbackExecution);
+      CallbackRegistration.Invocation invocation2 =
+          callbackRegistration2.submitCallback(registeredReader, 0, 1, callbackExecution);
+      assertThat(invocation1).isNotNull();
+      assertThat(invocation2).isNotNull();
+      invocation1.complete(deadlineNanos);
+      invocation2.complete(deadlineNanos);
+
+      // Both callbacks miss the deadline, which is waited for once rather than once per callback
+      assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(400));
+      assertThat(measurement1.getAbandonedCallbacks().get()).isEqualTo(1);
+      assertThat(measurement2.getAbandonedCallbacks().get()).isEqualTo(1);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void submitCallback_ConcurrentCallbacksSharingInstrument() {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      CallbackExecution callbackExecution =
+          CallbackExecution.create(executor, Duration.ofSeconds(10), MeterProvider::noop);
+      // Both callbacks record after the other one started
+      CountDownLatch started = new CountDownLatch(2);
+      CallbackRegistration callbackRegistration1 =
+          CallbackRegistration.create(
+              Collections.singletonList(measurement2),
+              () -> {
+                started.countDown();
+                awaitUninterruptibly(started);
+                measurement2.record(1);
+              });
+      CallbackRegistration callbackRegistration2 =
+          CallbackRegistration.create(
+              Arrays.asList(measurement1, measurement2),
+              () -> {
+                started.countDown();
+                awaitUninterruptibly(started);
+                measurement2.record(2);
+              });
+
+      long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      CallbackRegistration.Invocation invocation1 =
+          callbackRegistration1.submitCallback(registeredReader, 0, 1, callbackExecution);
+      CallbackRegistration.Invocation invocation2 =
+          callbackRegistration2.submitCallback(registeredReader, 0, 1, callbackExecution);
+      assertThat(invocation1).isNotNull();
+      assertThat(invocation2).isNotNull();
+      invocation1.complete(deadlineNanos);
+      invocation2.complete(deadlineNanos);
+
+      verify(storage2).record(createLong(0, 1, 1, Attributes.empty()));
+      verify(storage2).record(createLong(0, 1, 2, Attributes.empty()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  void invokeCallback_Executor_Rejected() {
+    CallbackExecution callbackExecution =
+        CallbackExecution.create(
+            command -> {
+              throw new RejectedExecutionException();
+            },
+            Duration.ofSeconds(10),
+            MeterProvider::noop);
+    AtomicLong counter = new AtomicLong();
+    CallbackRegistration callbackRegistration =
+        CallbackRegistration.create(
+            Collections.singletonList(measurement2),
+            () -> measurement2.record(counter.incrementAndGet()));
+
+    callbackRegistration.invokeCallback(registeredReader, 0, 1, callbackExecution);
+
+    assertThat(counter.get()).isEqualTo(0);
+    verify(storage2, never()).record(any());
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CollectionTasksTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    executor.shutdownNow();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static List<Callable<Integer>> tasks(int count) {
+    List<Callable<Integer>> tasks = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int value = i;
+      tasks.add(() -> value);
+    }
+    return tasks;
+  }
+
+  @Test
+  void invokeAll_Sequential() {
+    assertThat(CollectionTasks.invokeAll(tasks(3), null)).containsExactly(0, 1, 2);
+    assertThat(CollectionTasks.invokeAll(tasks(0), executor)).isEmpty();
+  }
+
+  @Test
+  void invokeAll_KeepsTaskOrder() {
+    assertThat(CollectionTasks.invokeAll(tasks(100), executor))
+        .containsExactlyElementsOf(CollectionTasks.invokeAll(tasks(100), null));
+  }
+
+  @Test
+  void invokeAll_RunsRejectedTasks() {
+    assertThat(
+            CollectionTasks.invokeAll(
+                tasks(3),
+                command -> {
+                  throw new RejectedExecutionException();
+                }))
+        .containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void invokeAll_NestedTasksOnSaturatedExecutor() {
+    // Both executor threads wait on nested tasks, which are run by the waiting threads instead.
+    List<Callable<List<Integer>>> tasks = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      tasks.add(() -> CollectionTasks.invokeAll(tasks(4), executor));
+    }
+    assertThat(CollectionTasks.invokeAll(tasks, executor))
+        .hasSize(4)
+        .allSatisfy(result -> assertThat(result).containsExactly(0, 1, 2, 3));
+  }
+
+  @Test
+  void invokeAll_PropagatesFailure() {
+    List<Callable<Integer>> tasks = tasks(3);
+    tasks.set(
+        2,
+        () -> {
+          throw new IllegalArgumentException("failed");
+        });
+    assertThatThrownBy(() -> CollectionTasks.invokeAll(tasks, executor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("failed");
+  }
+}
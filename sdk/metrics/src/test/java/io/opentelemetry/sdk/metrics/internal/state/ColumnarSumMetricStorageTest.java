@@ -0,0 +1,314 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.Aggregation;
+import io.opentelemetry.sdk.metrics.InstrumentSelector;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.InstrumentValueType;
+import io.opentelemetry.sdk.metrics.View;
+import io.opentelemetry.sdk.metrics.ViewBuilder;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
+import io.opentelemetry.sdk.metrics.data.ExemplarData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
+import io.opentelemetry.sdk.metrics.internal.aggregator.Aggregator;
+import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
+import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
+import io.opentelemetry.sdk.metrics.internal.debug.SourceInfo;
+import io.opentelemetry.sdk.metrics.internal.descriptor.Advice;
+import io.opentelemetry.sdk.metrics.internal.descriptor.InstrumentDescriptor;
+import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
+import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
+import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
+import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
+import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+@SuppressLogger(ColumnarSumMetricStorage.class)
+class ColumnarSumMetricStorageTest {
+
+  private static final Resource RESOURCE = Resource.empty();
+  private static final InstrumentationScopeInfo INSTRUMENTATION_SCOPE_INFO =
+      InstrumentationScopeInfo.create("test");
+  private static final InstrumentDescriptor LONG_COUNTER =
+      InstrumentDescriptor.create(
+          "name",
+          "description",
+          "unit",
+          InstrumentType.COUNTER,
+          InstrumentValueType.LONG,
+          Advice.empty());
+  private static final InstrumentDescriptor DOUBLE_COUNTER =
+      InstrumentDescriptor.create(
+          "name",
+          "description",
+          "unit",
+          InstrumentType.COUNTER,
+          InstrumentValueType.DOUBLE,
+          Advice.empty());
+  private static final int CARDINALITY_LIMIT = 5000;
+
+  private final RegisteredReader deltaReader =
+      RegisteredReader.create(InMemoryMetricReader.createDelta(), ViewRegistry.create());
+  private final RegisteredReader cumulativeReader =
+      RegisteredReader.create(InMemoryMetricReader.create(), ViewRegistry.create());
+
+  private static <T extends PointData, U extends ExemplarData>
+      ColumnarSumMetricStorage<T, U> storage(
+          RegisteredReader reader, InstrumentDescriptor descriptor, int cardinalityLimit) {
+    Aggregator<T, U> aggregator =
+        ((AggregatorFactory) Aggregation.sum())
+            .createAggregator(descriptor, ExemplarFilter.alwaysOff(), MemoryMode.IMMUTABLE_DATA);
+    return new ColumnarSumMetricStorage<>(
+        reader,
+        MetricDescriptor.create("name", "description", "unit"),
+        aggregator,
+        AttributesProcessor.noop(),
+        cardinalityLimit);
+  }
+
+  private static Attributes series(int i) {
+    return Attributes.builder().put("key", "value" + i).build();
+  }
+
+  @Test
+  void recordAndCollect_CumulativeDoesNotReset() {
+    ColumnarSumMetricStorage<?, ?> storage =
+        storage(cumulativeReader, LONG_COUNTER, CARDINALITY_LIMIT);
+
+    storage.recordLong(3, series(1), Context.current());
+    storage.recordLong(2, series(2), Context.current());
+    storage.recordLong(1, series(1), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .isMonotonic()
+                    .hasPointsSatisfying(
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(10)
+                                .hasAttributes(attributeEntry("key", "value1"))
+                                .hasValue(4),
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(10)
+                                .hasAttributes(attributeEntry("key", "value2"))
+                                .hasValue(2)));
+    cumulativeReader.setLastCollectEpochNanos(10);
+
+    storage.recordLong(5, series(2), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(0).hasEpochNanos(20).hasValue(4),
+                    point -> point.hasStartEpochNanos(0).hasEpochNanos(20).hasValue(7)));
+  }
+
+  @Test
+  void recordAndCollect_DeltaResets() {
+    ColumnarSumMetricStorage<?, ?> storage =
+        storage(deltaReader, DOUBLE_COUNTER, CARDINALITY_LIMIT);
+
+    storage.recordDouble(1.5, series(1), Context.current());
+    storage.recordDouble(2, series(1), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3.5)));
+    deltaReader.setLastCollectEpochNanos(10);
+
+    // Series which weren't recorded to aren't reported
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .isEqualTo(EmptyMetricData.getInstance());
+    deltaReader.setLastCollectEpochNanos(20);
+
+    // The columns of the previous intervals are cleared before they're reused
+    for (int interval = 0; interval < 3; interval++) {
+      storage.recordDouble(1, series(2), Context.current());
+      storage.recordDouble(-0.5, series(1), Context.current());
+      long start = 20 + interval * 10;
+      assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, start + 10))
+          .hasDoubleSumSatisfying(
+              sum ->
+                  sum.hasPointsSatisfying(
+                      point ->
+                          point
+                              .hasStartEpochNanos(start)
+                              .hasAttributes(attributeEntry("key", "value2"))
+                              .hasValue(1),
+                      point ->
+                          point
+                              .hasStartEpochNanos(start)
+                              .hasAttributes(attributeEntry("key", "value1"))
+                              .hasValue(-0.5)));
+      deltaReader.setLastCollectEpochNanos(start + 10);
+    }
+  }
+
+  @Test
+  void recordAndCollect_SeriesSpanningSlabs() {
+    ColumnarSumMetricStorage<?, ?> storage =
+        storage(cumulativeReader, LONG_COUNTER, CARDINALITY_LIMIT);
+
+    for (int i = 0; i < 2500; i++) {
+      storage.recordLong(i, series(i), Context.current());
+    }
+    MetricData metricData = storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    assertThat(metricData.getLongSumData().getPoints())
+        .hasSize(2500)
+        .allSatisfy(
+            point -> assertThat(point.getAttributes()).isEqualTo(series((int) point.getValue())));
+  }
+
+  @Test
+  void recordAndCollect_CardinalityOverflow() {
+    ColumnarSumMetricStorage<?, ?> storage = storage(deltaReader, LONG_COUNTER, 3);
+
+    for (int i = 0; i < 5; i++) {
+      storage.recordLong(1, series(i), Context.current());
+    }
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasLongSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(series(0)).hasValue(1),
+                    point -> point.hasAttributes(series(1)).hasValue(1),
+                    point -> point.hasAttributes(MetricStorage.CARDINALITY_OVERFLOW).hasValue(3)));
+
+    // Each interval has its own series
+    storage.recordLong(1, series(4), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasLongSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasAttributes(series(4)).hasValue(1)));
+  }
+
+  @Test
+  void recordDouble_NaN() {
+    ColumnarSumMetricStorage<?, ?> storage =
+        storage(cumulativeReader, DOUBLE_COUNTER, CARDINALITY_LIMIT);
+
+    storage.recordDouble(Double.NaN, Attributes.empty(), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .isEqualTo(EmptyMetricData.getInstance());
+  }
+
+  @Test
+  void record_MismatchedValueType() {
+    assertThatThrownBy(
+            () ->
+                storage(cumulativeReader, LONG_COUNTER, CARDINALITY_LIMIT)
+                    .recordDouble(1, Attributes.empty(), Context.current()))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(
+            () ->
+                storage(cumulativeReader, DOUBLE_COUNTER, CARDINALITY_LIMIT)
+                    .recordLong(1, Attributes.empty(), Context.current()))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void create_OnlyForSums() {
+    ViewBuilder viewBuilder = View.builder();
+    SdkMeterProviderUtil.setColumnarSumStorage(viewBuilder, true);
+    RegisteredView sumView = registeredView(viewBuilder.build(), true);
+    viewBuilder.setAggregation(Aggregation.explicitBucketHistogram());
+    RegisteredView histogramView = registeredView(viewBuilder.build(), true);
+
+    assertThat(
+            SynchronousMetricStorage.create(
+                cumulativeReader, sumView, LONG_COUNTER, ExemplarFilter.alwaysOff()))
+        .isInstanceOf(ColumnarSumMetricStorage.class);
+    assertThat(
+            SynchronousMetricStorage.create(
+                cumulativeReader, histogramView, LONG_COUNTER, ExemplarFilter.alwaysOff()))
+        .isInstanceOf(DefaultSynchronousMetricStorage.class);
+    assertThat(
+            SynchronousMetricStorage.create(
+                cumulativeReader,
+                registeredView(View.builder().build(), false),
+                LONG_COUNTER,
+                ExemplarFilter.alwaysOff()))
+        .isInstanceOf(DefaultSynchronousMetricStorage.class);
+  }
+
+  private static RegisteredView registeredView(View view, boolean columnarSumStorage) {
+    return RegisteredView.create(
+        InstrumentSelector.builder().setName("*").build(),
+        view,
+        AttributesProcessor.noop(),
+        CARDINALITY_LIMIT,
+        0,
+        columnarSumStorage,
+        SourceInfo.noSourceInfo());
+  }
+
+  @Test
+  void recordAndCollect_ConcurrentDelta() throws InterruptedException {
+    ColumnarSumMetricStorage<?, ?> storage =
+        storage(deltaReader, DOUBLE_COUNTER, CARDINALITY_LIMIT);
+
+    // Each thread records a value of 1.0 to 10 series, 1000 times
+    List<Thread> threads = new ArrayList<>();
+    CountDownLatch latch = new CountDownLatch(4);
+    for (int i = 0; i < 4; i++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  storage.recordDouble(1.0, series(j % 10), Context.current());
+                }
+                latch.countDown();
+              });
+      threads.add(thread);
+    }
+    threads.forEach(Thread::start);
+
+    double total = 0;
+    while (latch.getCount() != 0) {
+      total += sum(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10));
+    }
+    total += sum(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10));
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assertions.assertThat(total).isEqualTo(4000);
+  }
+
+  private static double sum(MetricData metricData) {
+    if (metricData == EmptyMetricData.getInstance()) {
+      return 0;
+    }
+    double sum = 0;
+    for (DoublePointData point : metricData.getDoubleSumData().getPoints()) {
+      sum += point.getValue();
+    }
+    return sum;
+  }
+}
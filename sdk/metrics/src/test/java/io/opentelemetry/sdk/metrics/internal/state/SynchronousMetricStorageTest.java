@@ -204,6 +204,116 @@ public class SynchronousMetricStorageTest {
                         point -> point.hasStartEpochNanos(0).hasEpochNanos(35).hasValue(8)));
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeEvictsIdleSeries(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* maxIdleCollections= */ 2);
+    Attributes active = Attributes.builder().put("key", "active").build();
+    Attributes idle = Attributes.builder().put("key", "idle").build();
+
+    // Record both series and collect at time 10
+    storage.recordDouble(3, active, Context.current());
+    storage.recordDouble(1, idle, Context.current());
+    verify(aggregator, times(2)).createHandle();
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isCumulative()
+                    .hasPointsSatisfying(
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(10)
+                                .hasAttributes(active)
+                                .hasValue(3),
+                        point ->
+                            point
+                                .hasStartEpochNanos(0)
+                                .hasEpochNanos(10)
+                                .hasAttributes(idle)
+                                .hasValue(1)));
+    cumulativeReader.setLastCollectEpochNanos(10);
+
+    // The idle series is still reported after one idle collection
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasAttributes(active).hasValue(4),
+                    point -> point.hasStartEpochNanos(0).hasAttributes(idle).hasValue(1)));
+    cumulativeReader.setLastCollectEpochNanos(20);
+
+    // The idle series is evicted after two idle collections, and its handle is pooled
+    storage.recordDouble(1, active, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 30))
+        .hasDoubleSumSatisfying(
+            sum -> sum.hasPointsSatisfying(point -> point.hasAttributes(active).hasValue(5)));
+    assertThat(storage.getAggregatorHandlePool()).hasSize(1);
+    cumulativeReader.setLastCollectEpochNanos(30);
+
+    // Recording to the evicted series again starts a new series from the last collection, reusing
+    // the pooled handle
+    storage.recordDouble(2, idle, Context.current());
+    verify(aggregator, times(2)).createHandle();
+    assertThat(storage.getAggregatorHandlePool()).hasSize(0);
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 40))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasStartEpochNanos(0)
+                            .hasEpochNanos(40)
+                            .hasAttributes(active)
+                            .hasValue(5),
+                    point ->
+                        point
+                            .hasStartEpochNanos(30)
+                            .hasEpochNanos(40)
+                            .hasAttributes(idle)
+                            .hasValue(2)));
+  }
+
+  @Test
+  void recordAndCollect_DeltaIgnoresMaxIdleCollections() {
+    initialize(IMMUTABLE_DATA);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            /* maxIdleCollections= */ 1);
+
+    storage.recordDouble(3, Attributes.empty(), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.isDelta()
+                    .hasPointsSatisfying(
+                        point -> point.hasStartEpochNanos(0).hasEpochNanos(10).hasValue(3)));
+    deltaReader.setLastCollectEpochNanos(10);
+
+    storage.recordDouble(2, Attributes.empty(), Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.hasPointsSatisfying(
+                    point -> point.hasStartEpochNanos(10).hasEpochNanos(20).hasValue(2)));
+  }
+
   @Test
   void recordAndCollect_DeltaResets_ImmutableData() {
     initialize(IMMUTABLE_DATA);
@@ -42,6 +42,22 @@ class AttributesProcessorTest {
         .containsEntry("test", "keep");
   }
 
+  @Test
+  void filterKeyName_SameKeys() {
+    AttributesProcessor processor = AttributesProcessor.filterByKeyName("test"::equals);
+
+    assertThat(
+            processor.process(
+                Attributes.builder().put("remove", "me").put("test", "keep").build(),
+                Context.root()))
+        .isEqualTo(Attributes.builder().put("test", "keep").build());
+    assertThat(
+            processor.process(
+                Attributes.builder().put("remove", "other").put("test", "kept").build(),
+                Context.root()))
+        .isEqualTo(Attributes.builder().put("test", "kept").build());
+  }
+
   @Test
   void filterKeyName_toString() {
     AttributesProcessor processor =
@@ -0,0 +1,60 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class FilteredAttributesCacheTest {
+
+  @Test
+  void filter() {
+    AtomicInteger tested = new AtomicInteger();
+    FilteredAttributesCache cache =
+        new FilteredAttributesCache(
+            key -> {
+              tested.incrementAndGet();
+              return key.getKey().equals("keep");
+            });
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(cache.filter(Attributes.builder().put("keep", "a").put("drop", i).build()))
+          .isEqualTo(Attributes.builder().put("keep", "a").build());
+    }
+    // The keys are only tested once for all the values
+    assertThat(tested).hasValue(2);
+    assertThat(cache.size()).isEqualTo(1);
+
+    assertThat(cache.filter(Attributes.builder().put("keep", "b").put("other", "c").build()))
+        .isEqualTo(Attributes.builder().put("keep", "b").build());
+    assertThat(cache.filter(Attributes.builder().put("drop", "c").build()))
+        .isEqualTo(Attributes.empty());
+    Attributes kept = Attributes.builder().put("keep", "d").build();
+    assertThat(cache.filter(kept)).isSameAs(kept);
+    assertThat(cache.filter(Attributes.empty())).isEqualTo(Attributes.empty());
+    assertThat(cache.size()).isEqualTo(4);
+
+    assertThat(cache.filter(Attributes.builder().put("keep", "e").put("drop", 1).build()))
+        .isEqualTo(Attributes.builder().put("keep", "e").build());
+    assertThat(cache.size()).isEqualTo(4);
+  }
+
+  @Test
+  void clearedWhenFull() {
+    FilteredAttributesCache cache = new FilteredAttributesCache(key -> key.getKey().equals("keep"));
+    for (int i = 0; i < FilteredAttributesCache.MAX_SIZE; i++) {
+      cache.filter(Attributes.builder().put("keep", "a").put("drop" + i, "b").build());
+    }
+    assertThat(cache.size()).isEqualTo(FilteredAttributesCache.MAX_SIZE);
+
+    Attributes attributes = Attributes.builder().put("keep", "b").put("drop", "c").build();
+    assertThat(cache.filter(attributes)).isEqualTo(Attributes.builder().put("keep", "b").build());
+    assertThat(cache.size()).isEqualTo(1);
+  }
+}
@@ -200,6 +200,66 @@ class ViewRegistryTest {
     assertThat(logs.getEvents()).hasSize(0);
   }
 
+  @Test
+  void findViews_MatchingViewsInRegistrationOrder() {
+    RegisteredView wildcardView =
+        registeredView(
+            InstrumentSelector.builder().setName("over*").build(),
+            View.builder().setDescription("wildcard").build());
+    RegisteredView exactView =
+        registeredView(
+            InstrumentSelector.builder().setName("OVERRIDDEN").build(),
+            View.builder().setDescription("exact").build());
+    RegisteredView typeView =
+        registeredView(
+            InstrumentSelector.builder().setType(InstrumentType.COUNTER).build(),
+            View.builder().setDescription("type").build());
+    RegisteredView otherTypeView =
+        registeredView(
+            InstrumentSelector.builder().setType(InstrumentType.HISTOGRAM).build(),
+            View.builder().setDescription("other type").build());
+    RegisteredView otherNameView =
+        registeredView(
+            InstrumentSelector.builder().setName("other").build(),
+            View.builder().setDescription("other name").build());
+    RegisteredView secondExactView =
+        registeredView(
+            InstrumentSelector.builder().setName("overridden").setUnit("ms").build(),
+            View.builder().setDescription("second exact").build());
+
+    ViewRegistry viewRegistry =
+        ViewRegistry.create(
+            DefaultAggregationSelector.getDefault(),
+            CardinalityLimitSelector.defaultCardinalityLimitSelector(),
+            Arrays.asList(
+                wildcardView, exactView, typeView, otherTypeView, otherNameView, secondExactView));
+
+    assertThat(
+            viewRegistry.findViews(
+                InstrumentDescriptor.create(
+                    "overridden",
+                    "",
+                    "ms",
+                    InstrumentType.COUNTER,
+                    InstrumentValueType.LONG,
+                    Advice.empty()),
+                INSTRUMENTATION_SCOPE_INFO))
+        .isEqualTo(Arrays.asList(wildcardView, exactView, typeView, secondExactView));
+    assertThat(
+            viewRegistry.findViews(
+                InstrumentDescriptor.create(
+                    "Overridden",
+                    "",
+                    "",
+                    InstrumentType.HISTOGRAM,
+                    InstrumentValueType.LONG,
+                    Advice.empty()),
+                INSTRUMENTATION_SCOPE_INFO))
+        .isEqualTo(Arrays.asList(exactView, otherTypeView));
+
+    assertThat(logs.getEvents()).hasSize(0);
+  }
+
   @Test
   void findViews_SelectionTypeAndName() {
     RegisteredView registeredView =
@@ -339,7 +399,8 @@ class ViewRegistryTest {
                 INSTRUMENTATION_SCOPE_INFO))
         .isEqualTo(Collections.singletonList(DEFAULT_REGISTERED_VIEW));
     logs.assertContains(
-        "Instrument default aggregation base2_exponential_bucket_histogram is incompatible with instrument default of type OBSERVABLE_GAUGE");
+        "Instrument default aggregation base2_exponential_bucket_histogram is incompatible with"
+            + " instrument default of type OBSERVABLE_GAUGE");
   }
 
   @Test
@@ -368,7 +429,8 @@ class ViewRegistryTest {
         .isEqualTo(Collections.singletonList(DEFAULT_REGISTERED_VIEW));
 
     logs.assertContains(
-        "View aggregation explicit_bucket_histogram is incompatible with instrument test of type OBSERVABLE_COUNTER");
+        "View aggregation explicit_bucket_histogram is incompatible with instrument test of type"
+            + " OBSERVABLE_COUNTER");
   }
 
   @Test
@@ -565,5 +627,12 @@ class ViewRegistryTest {
     assertThat(toGlobPatternPredicate("f()[]$^.{}|").test("f()[]$^.{}|")).isTrue();
     assertThat(toGlobPatternPredicate("f()[]$^.{}|?").test("f()[]$^.{}|o")).isTrue();
     assertThat(toGlobPatternPredicate("f()[]$^.{}|*").test("f()[]$^.{}|ooo")).isTrue();
+    assertThat(toGlobPatternPredicate("*.bar").test("foo.bar.bar")).isTrue();
+    assertThat(toGlobPatternPredicate("*.bar").test("foo.bar.baz")).isFalse();
+    assertThat(toGlobPatternPredicate("f*o*z").test("foo.bar.baz")).isTrue();
+    assertThat(toGlobPatternPredicate("f*o?z").test("foo.bar.baz")).isFalse();
+    assertThat(toGlobPatternPredicate("fo**").test("fo")).isTrue();
+    assertThat(toGlobPatternPredicate("fo*").test("Foo")).isFalse();
+    assertThat(toGlobPatternPredicate("?").test("")).isFalse();
   }
 }
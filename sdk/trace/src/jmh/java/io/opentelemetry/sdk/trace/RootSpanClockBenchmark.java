@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.AnchoredEpochClock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares starting and ending root spans with the default clock and an {@link AnchoredEpochClock}.
+ * A root span reads the epoch and monotonic time when started with the default clock, and only the
+ * monotonic time with the anchored clock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RootSpanClockBenchmark {
+
+  @Param({"system", "anchored"})
+  String clock;
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private Clock clockInstance;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    clockInstance =
+        clock.equals("anchored")
+            ? AnchoredEpochClock.create(Clock.getDefault())
+            : Clock.getDefault();
+    tracerProvider = SdkTracerProvider.builder().setClock(clockInstance).build();
+    tracer = tracerProvider.get("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public void rootSpan() {
+    Span span = tracer.spanBuilder("root").startSpan();
+    span.end();
+  }
+
+  @Benchmark
+  public long now() {
+    return clockInstance.now();
+  }
+}
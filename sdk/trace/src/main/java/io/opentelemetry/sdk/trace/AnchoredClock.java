@@ -6,6 +6,7 @@
 package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.AnchoredEpochClock;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -38,6 +39,12 @@ final class AnchoredClock {
    * @return a {@code MonotonicClock}.
    */
   public static AnchoredClock create(Clock clock) {
+    if (clock instanceof AnchoredEpochClock) {
+      // The epoch time is derived from the monotonic time, which is then only read once
+      long nanoTime = clock.nanoTime();
+      return new AnchoredClock(
+          clock, ((AnchoredEpochClock) clock).epochNanosAt(nanoTime), nanoTime);
+    }
     return new AnchoredClock(clock, clock.now(), clock.nanoTime());
   }
 
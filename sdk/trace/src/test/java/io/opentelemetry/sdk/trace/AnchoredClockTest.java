@@ -7,9 +7,12 @@ package io.opentelemetry.sdk.trace;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.internal.AnchoredEpochClock;
 import io.opentelemetry.sdk.testing.time.TestClock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 /** Unit tests for {@link AnchoredClock}. */
@@ -42,4 +45,31 @@ class AnchoredClockTest {
     testClock.advance(Duration.ofNanos(-14_000_004_678L));
     assertThat(anchoredClock.now()).isEqualTo(1220_000_000_000L);
   }
+
+  @Test
+  void create_AnchoredEpochClock_ReadsNanoTimeOnce() {
+    AtomicInteger nanoTimeCalls = new AtomicInteger();
+    Clock delegate =
+        new Clock() {
+          @Override
+          public long now() {
+            return testClock.now();
+          }
+
+          @Override
+          public long nanoTime() {
+            nanoTimeCalls.incrementAndGet();
+            return testClock.nanoTime();
+          }
+        };
+    Clock clock = AnchoredEpochClock.create(delegate);
+    testClock.advance(Duration.ofNanos(1000));
+    nanoTimeCalls.set(0);
+
+    AnchoredClock anchoredClock = AnchoredClock.create(clock);
+    assertThat(nanoTimeCalls).hasValue(1);
+    assertThat(anchoredClock.startTime()).isEqualTo(EPOCH_NANOS + 1000);
+    testClock.advance(Duration.ofNanos(234));
+    assertThat(anchoredClock.now()).isEqualTo(EPOCH_NANOS + 1234);
+  }
 }